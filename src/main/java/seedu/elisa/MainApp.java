@@ -3,6 +3,7 @@ package seedu.elisa;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -10,6 +11,7 @@ import javafx.stage.Stage;
 
 import seedu.elisa.commons.core.Config;
 import seedu.elisa.commons.core.LogsCenter;
+import seedu.elisa.commons.core.StorageFormat;
 import seedu.elisa.commons.core.Version;
 import seedu.elisa.commons.exceptions.DataConversionException;
 import seedu.elisa.commons.util.ConfigUtil;
@@ -27,7 +29,9 @@ import seedu.elisa.model.ReadOnlyUserPrefs;
 import seedu.elisa.model.UserPrefs;
 
 import seedu.elisa.storage.ItemListStorage;
-import seedu.elisa.storage.JsonItemStorage;
+import seedu.elisa.storage.ItemStorageFormats;
+import seedu.elisa.storage.JsonItemArchive;
+import seedu.elisa.storage.JsonUndoJournal;
 import seedu.elisa.storage.JsonUserPrefsStorage;
 import seedu.elisa.storage.Storage;
 import seedu.elisa.storage.StorageManager;
@@ -61,12 +65,16 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ItemListStorage itemListStorage = new JsonItemStorage(userPrefs.getItemStorageFilePath());
+        ItemListStorage itemListStorage = ItemStorageFormats.open(userPrefs);
         storage = new StorageManager(itemListStorage, userPrefsStorage);
 
         initLogging(config);
 
-        commandHistory = new ElisaCommandHistoryManager();
+        ElisaCommandHistoryManager commandHistoryManager = new ElisaCommandHistoryManager(
+                userPrefs.getUndoHistoryDepth(), userPrefs.getUndoHistoryBytes());
+        commandHistoryManager.setUndoJournal(
+                new JsonUndoJournal(JsonUndoJournal.toUndoFilePath(userPrefs.getItemStorageFilePath())));
+        commandHistory = commandHistoryManager;
 
         model = initModelManager(storage, userPrefs, commandHistory);
 
@@ -82,8 +90,14 @@ public class MainApp extends Application {
      */
     private ItemModel initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, ElisaCommandHistory stateHistory) {
         ItemStorage initialData;
+        long loadStartTime = System.nanoTime();
         try {
             initialData = storage.toModelType();
+            logger.info(String.format("Loaded %d items in %d ms (%s load)", initialData.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStartTime),
+                    userPrefs.getStorageFormat() != StorageFormat.JSON
+                            ? userPrefs.getStorageFormat().toString().toLowerCase()
+                            : userPrefs.isParallelLoad() ? "parallel" : "serial"));
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty Item Storage");
             initialData = new ItemStorage();
@@ -92,7 +106,10 @@ public class MainApp extends Application {
             initialData = new ItemStorage();
         }
 
-        return new ItemModelManager(initialData, userPrefs, stateHistory);
+        ItemModel itemModel = new ItemModelManager(initialData, userPrefs, stateHistory);
+        itemModel.setItemArchive(new JsonItemArchive(
+                JsonItemArchive.toArchiveFilePath(userPrefs.getItemStorageFilePath())));
+        return itemModel;
     }
 
     private void initLogging(Config config) {
@@ -0,0 +1,14 @@
+package seedu.elisa.commons.core;
+
+/**
+ * How often saved data is forced onto the disk before the save is considered done.
+ * Forcing the data survives a power failure but makes every save wait for the disk.
+ */
+public enum FsyncPolicy {
+    /** Forces every save onto the disk. */
+    ALWAYS,
+    /** Forces a save onto the disk only if no save has been forced for a while. */
+    BATCHED,
+    /** Leaves it to the operating system to write the data to the disk. */
+    NEVER
+}
@@ -19,4 +19,7 @@ public class Messages {
             + "Eg. \"3.hour.later\" or \"10.min.later\"";
 
     public static final String MESSAGE_NO_PREVIOUS_REMINDER = "There ain't no recent reminder to snooze buddy...";
+    public static final String MESSAGE_EVENT_CONFLICT = "\nHeads up, this clashes with: %1$s";
+    public static final String MESSAGE_EVENT_CONFLICT_REJECTED = "Can't be in two places at once! "
+            + "This clashes with: %1$s";
 }
@@ -0,0 +1,13 @@
+package seedu.elisa.commons.core;
+
+/**
+ * The format that the items are saved in.
+ */
+public enum StorageFormat {
+    /** Readable JSON, with the changes since the last full save kept in a journal. */
+    JSON,
+    /** A compact binary format that is smaller and faster to read, but cannot be edited by hand. */
+    BINARY,
+    /** JSON files for each kind of item and month, so that saving only rewrites the months that changed. */
+    SEGMENTED
+}
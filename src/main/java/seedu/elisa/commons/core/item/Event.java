@@ -8,7 +8,8 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.elisa.commons.exceptions.IllegalValueException;
 import seedu.elisa.commons.util.JsonUtil;
@@ -162,18 +163,39 @@ public class Event {
      * @throws IllegalValueException when the JSON string contains incorrect value
      */
     public static Event fromJson(String jsonString) throws IOException {
-        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            return fromJson(parser);
+        }
+    }
 
-        String startDateTimeString = node.get("startDateTime").asText();
-        LocalDateTime startDateTime = LocalDateTime.parse(startDateTimeString);
+    /**
+     * Creates an event object from the JSON object that the parser is at, leaving the parser at the end of the
+     * object.
+     * @param parser the parser at the start of the JSON object that represents the event
+     * @return the event object that is created
+     * @throws IOException when the JSON object cannot be read
+     */
+    public static Event fromJson(JsonParser parser) throws IOException {
+        JsonUtil.requireObjectStart(parser);
+        String startDateTimeString = null;
+        String durationString = null;
+        Long periodMillis = null;
+
+        for (String field = JsonUtil.nextField(parser); field != null; field = JsonUtil.nextField(parser)) {
+            if (field.equals("startDateTime")) {
+                startDateTimeString = parser.getText();
+            } else if (field.equals("duration")) {
+                durationString = parser.getText();
+            } else if (field.equals("period") && parser.getCurrentToken() == JsonToken.START_OBJECT) {
+                periodMillis = readPeriodMillis(parser); // in the format of {"period": 60000}
+            } else {
+                parser.skipChildren();
+            }
+        }
 
-        String durationString = node.get("duration").asText();
+        LocalDateTime startDateTime = LocalDateTime.parse(startDateTimeString);
         Duration duration = Duration.parse(durationString);
-
-        String periodString = node.get("period").toString(); // in the format of {"period": 60000}
-        if (!periodString.isEmpty() && !periodString.equals("null")) {
-            periodString = node.get("period").get("period").asText(); // get the long value
-            Long periodMillis = Long.valueOf(periodString);
+        if (periodMillis != null) {
             AutoReschedulePeriod period = new AutoReschedulePeriod(periodMillis);
             return new Event(startDateTime, duration, true, period);
         }
@@ -181,4 +203,19 @@ public class Event {
         return new Event(startDateTime, duration);
     }
 
+    /**
+     * Reads the length of an auto reschedule period, in milliseconds, from the JSON object that the parser is at.
+     */
+    private static Long readPeriodMillis(JsonParser parser) throws IOException {
+        Long periodMillis = null;
+        for (String field = JsonUtil.nextField(parser); field != null; field = JsonUtil.nextField(parser)) {
+            if (field.equals("period")) {
+                periodMillis = Long.valueOf(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return periodMillis;
+    }
+
 }
@@ -3,15 +3,21 @@ package seedu.elisa.commons.core.item;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.elisa.commons.core.item.tag.Tag;
 import seedu.elisa.commons.exceptions.IllegalValueException;
@@ -24,6 +30,17 @@ import seedu.elisa.commons.util.JsonUtil;
  */
 public class Item {
 
+    // Ids are generated from the current time, with the lower bits used to tell apart ids generated in the same
+    // millisecond. This keeps them unique across runs of the program.
+    private static final int ID_SEQUENCE_BITS = 16;
+    private static final AtomicLong lastId = new AtomicLong();
+
+    // Stable identifier that is kept across edits of the item
+    private final long id;
+    // True if the item was read from a save file without an id, so the save file does not know its new id
+    @JsonIgnore
+    private final boolean isIdMissingFromSave;
+
     // Identity fields
     private final Task task;
     private final Event event;
@@ -31,19 +48,31 @@ public class Item {
     // Data fields
     private final ItemDescription itemDescription;
     private final Set<Tag> tags = new HashSet<>();
+    // The ids of the tags, so that tag filters are bitwise operations on ids instead of comparisons of names
+    @JsonIgnore
+    private final BitSet tagIds = new BitSet();
     private final Priority priority;
 
+    // Items are immutable, so the hash code is only computed once
+    @JsonIgnore
+    private int hash;
+
     /**
      * @param priority A Priority of the event. Defaults to Priority.MEDIUM if null.
      */
-    private Item(Task task, Event event, Reminder reminder,
+    private Item(long id, boolean isIdMissingFromSave, Task task, Event event, Reminder reminder,
                  ItemDescription itemDescription, Set<Tag> tags, Priority priority) {
         requireNonNull(itemDescription);
+        this.id = id;
+        this.isIdMissingFromSave = isIdMissingFromSave;
         this.task = task;
         this.event = event;
         this.reminder = reminder;
         this.itemDescription = itemDescription;
         this.tags.addAll(tags);
+        for (Tag tag : tags) {
+            this.tagIds.set(tag.getId());
+        }
 
         if (priority != null) {
             this.priority = priority;
@@ -52,6 +81,30 @@ public class Item {
         }
     }
 
+    /**
+     * Returns the identifier of this item. The identifier stays the same when the item is edited,
+     * so it can be used to find the current version of the item.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if this item was read from a save file of an older version that had no id for it. The item was
+     * given a new id, so the save file has to be rewritten in full before any change is saved by id.
+     */
+    public boolean isIdMissingFromSave() {
+        return isIdMissingFromSave;
+    }
+
+    /**
+     * Returns the time that the id of this item was generated, which is when the item was created. Items saved by
+     * older versions without an id are treated as created when they were first loaded.
+     */
+    public LocalDateTime getCreationDateTime() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(id >>> ID_SEQUENCE_BITS), ZoneId.systemDefault());
+    }
+
     public boolean hasTask() {
         return task != null;
     }
@@ -100,6 +153,14 @@ public class Item {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns true if the item has any of the tags with the given ids.
+     * @param tagIds the ids of the tags in the {@link seedu.elisa.commons.core.item.tag.TagDictionary}
+     */
+    public boolean hasAnyTag(BitSet tagIds) {
+        return this.tagIds.intersects(tagIds);
+    }
+
     public ItemDescription getItemDescription() {
         return itemDescription;
     }
@@ -110,7 +171,8 @@ public class Item {
      * Change ItemDescription
      */
     public Item changeItemDescription(ItemDescription newItemDescription) {
-        return new ItemBuilder().setItemDescription(newItemDescription)
+        return new ItemBuilder().setId(id)
+                .setItemDescription(newItemDescription)
                 .setTask(task)
                 .setEvent(event)
                 .setReminder(reminder)
@@ -123,7 +185,8 @@ public class Item {
      * Change Task referenced
      */
     public Item changeTask(Task newTask) {
-        return new ItemBuilder().setItemDescription(itemDescription)
+        return new ItemBuilder().setId(id)
+                .setItemDescription(itemDescription)
                 .setTask(newTask)
                 .setEvent(event)
                 .setReminder(reminder)
@@ -136,7 +199,8 @@ public class Item {
      * Change Event referenced
      */
     public Item changeEvent(Event newEvent) {
-        return new ItemBuilder().setItemDescription(itemDescription)
+        return new ItemBuilder().setId(id)
+                .setItemDescription(itemDescription)
                 .setTask(task)
                 .setEvent(newEvent)
                 .setReminder(reminder)
@@ -149,7 +213,8 @@ public class Item {
      * Change Reminder referenced
      */
     public Item changeReminder(Reminder newReminder) {
-        return new ItemBuilder().setItemDescription(itemDescription)
+        return new ItemBuilder().setId(id)
+                .setItemDescription(itemDescription)
                 .setTask(task)
                 .setEvent(event)
                 .setReminder(newReminder)
@@ -162,7 +227,8 @@ public class Item {
      * Change Tags referenced
      */
     public Item changeTags(HashSet<Tag> newTags) {
-        return new ItemBuilder().setItemDescription(itemDescription)
+        return new ItemBuilder().setId(id)
+                .setItemDescription(itemDescription)
                 .setTask(task)
                 .setEvent(event)
                 .setReminder(reminder)
@@ -177,7 +243,8 @@ public class Item {
      * @return new Item with the new priority.
      */
     public Item changePriority(Priority newPriority) {
-        return new ItemBuilder().setItemDescription(itemDescription)
+        return new ItemBuilder().setId(id)
+                .setItemDescription(itemDescription)
                 .setTask(task)
                 .setEvent(event)
                 .setReminder(reminder)
@@ -236,8 +303,11 @@ public class Item {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(task, event, reminder, itemDescription, tags, priority);
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(task, event, reminder, itemDescription, tags, priority);
+        }
+        return hash;
     }
 
     @Override
@@ -301,6 +371,9 @@ public class Item {
      */
     public static class ItemBuilder {
 
+        private Long id = null;
+        private boolean isIdMissingFromSave = false;
+
         // Identity fields
         private Task task = null;
         private Event event = null;
@@ -313,6 +386,15 @@ public class Item {
 
         public ItemBuilder() {}
 
+        /**
+         * Sets the id of the item to be built. A new id is generated if this is not called.
+         */
+        public ItemBuilder setId(long id) {
+            reserveId(id);
+            this.id = id;
+            return this;
+        }
+
         public ItemBuilder setTask(Task task) {
             this.task = task;
             return this;
@@ -354,7 +436,8 @@ public class Item {
          * @throws IllegalArgumentException If description not provided or task, event and reminder fields are null.
          */
         public Item build() throws IllegalArgumentException {
-            Item newItem = new Item(task, event, reminder, itemDescription, tags, priority);
+            Item newItem = new Item(id != null ? id : generateId(), isIdMissingFromSave, task, event, reminder,
+                    itemDescription, tags, priority);
 
             //Validation of parameters of object after object has been created.
             //Validate after object has been created as per StackOverflow link
@@ -377,6 +460,8 @@ public class Item {
 
             //Resetting all constructing parameters back to null, so a new object doesn't use the parameters of the
             // previous object.
+            id = null;
+            isIdMissingFromSave = false;
             task = null;
             event = null;
             reminder = null;
@@ -389,6 +474,21 @@ public class Item {
 
     }
 
+    /**
+     * Returns a new id that is larger than every id that has been generated or reserved so far.
+     */
+    private static long generateId() {
+        long timeBasedId = System.currentTimeMillis() << ID_SEQUENCE_BITS;
+        return lastId.updateAndGet(last -> Math.max(last + 1, timeBasedId));
+    }
+
+    /**
+     * Ensures that {@code id} will never be generated for another item, e.g. when it is read from the save file.
+     */
+    private static void reserveId(long id) {
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
     /**
      * Converts the item object into a json string.
      * @return string representation of the item
@@ -406,43 +506,91 @@ public class Item {
      * @throws IllegalValueException when the JSON string contains incorrect value
      */
     public static Item fromJson(String jsonString) throws IOException, NullPointerException {
-        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
-        ItemBuilder temp = new ItemBuilder();
-
-        String itemDescriptionString = node.get("itemDescription").toString();
-        ItemDescription id = ItemDescription.fromJson(itemDescriptionString);
-        temp.setItemDescription(id);
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            return fromJson(parser);
+        }
+    }
 
-        String priorityString = node.get("priority").asText();
-        Priority newPriority = Priority.fromJson(priorityString);
-        temp.setItemPriority(newPriority);
+    /**
+     * Creates an item object from the JSON object that the parser is at, leaving the parser at the end of the object.
+     * The item is built straight from the tokens, without reading the JSON object into a tree first.
+     * @param parser the parser at the start of the JSON object that represents the item
+     * @return the item object that is created
+     * @throws IOException when the JSON object cannot be read
+     * @throws IllegalArgumentException when the JSON object contains incorrect values
+     */
+    public static Item fromJson(JsonParser parser) throws IOException, NullPointerException {
+        JsonUtil.requireObjectStart(parser);
+        ItemBuilder temp = new ItemBuilder();
+        // Items saved by older versions do not have an id and are given a new one
+        temp.isIdMissingFromSave = true;
+        ItemDescription itemDescription = null;
+        Priority priority = null;
+        Set<Tag> tagsSet = new HashSet<>();
 
-        if (node.hasNonNull("task")) {
-            String taskString = node.get("task").toString();
-            Task t = Task.fromJson(taskString);
-            temp = temp.setTask(t);
+        for (String field = JsonUtil.nextField(parser); field != null; field = JsonUtil.nextField(parser)) {
+            boolean isNull = parser.getCurrentToken() == JsonToken.VALUE_NULL;
+            switch (field) {
+            case "id":
+                if (!isNull) {
+                    temp.setId(parser.getValueAsLong());
+                    temp.isIdMissingFromSave = false;
+                }
+                break;
+            case "itemDescription":
+                itemDescription = ItemDescription.fromJson(parser);
+                break;
+            case "priority":
+                priority = Priority.fromJson(parser.getText());
+                break;
+            case "task":
+                if (!isNull) {
+                    temp.setTask(Task.fromJson(parser));
+                }
+                break;
+            case "event":
+                if (!isNull) {
+                    temp.setEvent(Event.fromJson(parser));
+                }
+                break;
+            case "reminder":
+                if (!isNull) {
+                    temp.setReminder(Reminder.fromJson(parser));
+                }
+                break;
+            case "tags":
+                readTags(parser, tagsSet);
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
         }
 
-        if (node.hasNonNull("event")) {
-            String eventString = node.get("event").toString();
-            Event e = Event.fromJson(eventString);
-            temp = temp.setEvent(e);
-        }
+        return temp.setItemDescription(requireNonNull(itemDescription))
+                .setItemPriority(requireNonNull(priority))
+                .setTags(tagsSet)
+                .build();
+    }
 
-        if (node.hasNonNull("reminder")) {
-            String reminderString = node.get("reminder").toString();
-            Reminder r = Reminder.fromJson(reminderString);
-            temp = temp.setReminder(r);
+    /**
+     * Reads the tags in the JSON array that the parser is at into the given set.
+     */
+    private static void readTags(JsonParser parser, Set<Tag> tags) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
         }
-
-        Set<Tag> tagsSet = new HashSet<>();
-        JsonNode tags = node.get("tags");
-        Iterator<JsonNode> it = tags.elements();
-        while (it.hasNext()) {
-            tagsSet.add(new Tag(it.next().get("tagName").asText()));
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonUtil.requireObjectStart(parser);
+            for (String field = JsonUtil.nextField(parser); field != null; field = JsonUtil.nextField(parser)) {
+                if (field.equals("tagName")) {
+                    tags.add(new Tag(parser.getText()));
+                } else {
+                    parser.skipChildren();
+                }
+            }
         }
-
-        return temp.setTags(tagsSet).build();
     }
 
     public Item deepCopy() throws IOException {
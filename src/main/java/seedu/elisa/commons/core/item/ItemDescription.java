@@ -5,7 +5,7 @@ import static seedu.elisa.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.elisa.commons.util.JsonUtil;
 
@@ -66,8 +66,30 @@ public class ItemDescription {
      * @throws IOException when the jsonString is not in JSON format
      */
     public static ItemDescription fromJson(String jsonString) throws IOException {
-        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            return fromJson(parser);
+        }
+    }
+
+    /**
+     * Creates an item description object from the JSON object that the parser is at, leaving the parser at the end
+     * of the object.
+     * @param parser the parser at the start of the JSON object that represents the item description
+     * @return the item description object that is created
+     * @throws IOException when the JSON object cannot be read
+     */
+    public static ItemDescription fromJson(JsonParser parser) throws IOException {
+        JsonUtil.requireObjectStart(parser);
+        String description = null;
+
+        for (String field = JsonUtil.nextField(parser); field != null; field = JsonUtil.nextField(parser)) {
+            if (field.equals("description")) {
+                description = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
 
-        return new ItemDescription(node.get("description").asText());
+        return new ItemDescription(description);
     }
 }
@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.elisa.commons.util.JsonUtil;
 
@@ -117,13 +117,35 @@ public class Reminder {
      * @throws IOException when the jsonString is not in JSON format
      */
     public static Reminder fromJson(String jsonString) throws IOException {
-        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
-        String defaultDateTimeString = node.get("defaultDateTime").asText();
-        LocalDateTime dateTime = LocalDateTime.parse(defaultDateTimeString);
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            return fromJson(parser);
+        }
+    }
 
-        String occurrenceDateTimeString = node.get("occurrenceDateTime").asText();
-        LocalDateTime occurenceDateTime = LocalDateTime.parse(occurrenceDateTimeString);
+    /**
+     * Creates a reminder object from the JSON object that the parser is at, leaving the parser at the end of the
+     * object.
+     * @param parser the parser at the start of the JSON object that represents the reminder
+     * @return the reminder object that is created
+     * @throws IOException when the JSON object cannot be read
+     */
+    public static Reminder fromJson(JsonParser parser) throws IOException {
+        JsonUtil.requireObjectStart(parser);
+        String defaultDateTimeString = null;
+        String occurrenceDateTimeString = null;
+
+        for (String field = JsonUtil.nextField(parser); field != null; field = JsonUtil.nextField(parser)) {
+            if (field.equals("defaultDateTime")) {
+                defaultDateTimeString = parser.getText();
+            } else if (field.equals("occurrenceDateTime")) {
+                occurrenceDateTimeString = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
 
+        LocalDateTime dateTime = LocalDateTime.parse(defaultDateTimeString);
+        LocalDateTime occurenceDateTime = LocalDateTime.parse(occurrenceDateTimeString);
         return new Reminder(dateTime, occurenceDateTime);
     }
 }
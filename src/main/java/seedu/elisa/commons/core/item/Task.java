@@ -1,9 +1,12 @@
 package seedu.elisa.commons.core.item;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.Optional;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.elisa.commons.exceptions.IllegalValueException;
 import seedu.elisa.commons.util.JsonUtil;
@@ -17,6 +20,8 @@ import seedu.elisa.commons.util.JsonUtil;
 public class Task {
 
     private final Boolean complete;
+    // When the task was completed, or null if it is not complete or was completed before this was recorded
+    private final LocalDateTime completedDateTime;
 
     /**
      * Constructs a {@code Task}.
@@ -24,20 +29,44 @@ public class Task {
      * @param complete Denotes whether the task has been completed or not. Defaults to false if null.
      */
     public Task(Boolean complete) {
+        this(complete, null);
+    }
+
+    /**
+     * Constructs a {@code Task} that records when it was completed.
+     *
+     * @param complete Denotes whether the task has been completed or not. Defaults to false if null.
+     * @param completedDateTime When the task was completed. Ignored if the task is not complete.
+     */
+    public Task(Boolean complete, LocalDateTime completedDateTime) {
 
         if (complete != null) {
             this.complete = complete;
         } else {
             this.complete = false;
         }
+        this.completedDateTime = this.complete ? completedDateTime : null;
     }
 
     public Boolean isComplete() {
         return complete;
     }
 
+    /**
+     * Returns when the task was completed, if it is complete and that was recorded.
+     */
+    public Optional<LocalDateTime> getCompletedDateTime() {
+        return Optional.ofNullable(completedDateTime);
+    }
+
+    /**
+     * Returns this task marked as completed now. A task that is already complete keeps the time it was completed.
+     */
     public Task markComplete() {
-        return new Task(true);
+        if (complete) {
+            return this;
+        }
+        return new Task(true, LocalDateTime.now());
     }
 
     public Task markIncomplete() {
@@ -66,6 +95,8 @@ public class Task {
             return false;
         }
 
+        // When the task was completed is left out, so that completing the same task at another time does not make
+        // it another item
         Task otherTask = (Task) other;
         return otherTask.isComplete().equals(isComplete());
     }
@@ -85,11 +116,32 @@ public class Task {
      * @throws IllegalValueException when the JSON string contains incorrect value
      */
     public static Task fromJson(String jsonString) throws IOException {
-        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
-        final Priority p;
-        final boolean complete;
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            return fromJson(parser);
+        }
+    }
+
+    /**
+     * Creates a task object from the JSON object that the parser is at, leaving the parser at the end of the object.
+     * @param parser the parser at the start of the JSON object that represents the task
+     * @return the task object that is created
+     * @throws IOException when the JSON object cannot be read
+     */
+    public static Task fromJson(JsonParser parser) throws IOException {
+        JsonUtil.requireObjectStart(parser);
+        Boolean complete = null;
+        LocalDateTime completedDateTime = null;
+
+        for (String field = JsonUtil.nextField(parser); field != null; field = JsonUtil.nextField(parser)) {
+            if (field.equals("complete")) {
+                complete = parser.getValueAsBoolean();
+            } else if (field.equals("completedDateTime") && parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+                completedDateTime = LocalDateTime.parse(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
 
-        complete = node.get("complete").asBoolean();
-        return new Task(complete);
+        return new Task(Objects.requireNonNull(complete), completedDateTime);
     }
 }
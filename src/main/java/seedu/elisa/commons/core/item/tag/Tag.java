@@ -3,6 +3,8 @@ package seedu.elisa.commons.core.item.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.elisa.commons.util.AppUtil.checkArgument;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,6 +15,10 @@ public class Tag {
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
     public final String tagName;
+    // The id of the name in the tag dictionary, which is not saved as it can differ between runs. The tag holds on to
+    // the id, so that it is not given to another name while the tag is in use.
+    @JsonIgnore
+    private final TagDictionary.TagId id;
 
     /**
      * Constructs a {@code Tag}.
@@ -23,6 +29,14 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.id = TagDictionary.idOf(tagName);
+    }
+
+    /**
+     * Returns the id of this tag in the {@link TagDictionary}.
+     */
+    public int getId() {
+        return id.getValue();
     }
 
     /**
@@ -0,0 +1,88 @@
+package seedu.elisa.commons.core.item.tag;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.HashMap;
+
+/**
+ * Gives every tag name a small id, so that the tags of an item can be kept as a bitset of ids and compared with
+ * bitwise operations instead of comparing names.
+ * An id is held by every tag and filter on tags that uses it, and it stays the same as long as one of them is
+ * still in use. Once none is, the id is given back and handed out again to the next new tag name, so the ids stay
+ * as few as the tag names in use rather than growing with every tag name seen during the run.
+ */
+public class TagDictionary {
+    private static final HashMap<String, IdReference> ids = new HashMap<>();
+    // Ids whose holders are no longer in use are put here by the garbage collector
+    private static final ReferenceQueue<TagId> unusedIds = new ReferenceQueue<>();
+    // Ids that have been given back, which are handed out before any id that has never been used
+    private static final BitSet freeIds = new BitSet();
+    private static int nextId = 0;
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the id of the tag name, giving it an id if it has none. The id must be held for as long as it is
+     * used, as it can be given to another tag name once it is no longer held.
+     */
+    public static synchronized TagId idOf(String tagName) {
+        reclaimUnusedIds();
+        IdReference reference = ids.get(tagName);
+        TagId id = reference == null ? null : reference.get();
+        if (id == null) {
+            int value = freeIds.nextSetBit(0);
+            if (value < 0) {
+                value = nextId++;
+            } else {
+                freeIds.clear(value);
+            }
+            id = new TagId(value);
+            ids.put(tagName, new IdReference(tagName, id));
+        }
+        return id;
+    }
+
+    /**
+     * Gives back the ids that are no longer held by anything.
+     */
+    private static void reclaimUnusedIds() {
+        IdReference reference;
+        while ((reference = (IdReference) unusedIds.poll()) != null) {
+            // The tag name may have been given a new id before its old id was reclaimed
+            if (ids.get(reference.tagName) == reference) {
+                ids.remove(reference.tagName);
+            }
+            freeIds.set(reference.value);
+        }
+    }
+
+    /**
+     * The id of a tag name, which stays given to the name for as long as this object is held.
+     */
+    public static final class TagId {
+        private final int value;
+
+        private TagId(int value) {
+            this.value = value;
+        }
+
+        public int getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * A reference to an id that does not keep it in use, and remembers the id to give back once it is not.
+     */
+    private static class IdReference extends WeakReference<TagId> {
+        private final String tagName;
+        private final int value;
+
+        IdReference(String tagName, TagId id) {
+            super(id, unusedIds);
+            this.tagName = tagName;
+            this.value = id.getValue();
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package seedu.elisa.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -80,4 +88,96 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, replacing its content.
+     * Will create the file if it does not exist yet.
+     * @param force true if the content has to reach the disk before this method returns.
+     */
+    public static void writeToFile(Path file, String content, boolean force) throws IOException {
+        write(file, content, force, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        appendToFile(file, content, false);
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     * @param force true if the content has to reach the disk before this method returns.
+     */
+    public static void appendToFile(Path file, String content, boolean force) throws IOException {
+        write(file, content, force, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Forces the content of a file that has already been written onto the disk.
+     */
+    public static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code source} in a single step, so that {@code target} is never seen partly
+     * written. Falls back to an ordinary move if the file system cannot move files atomically.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Makes {@code link} another name for {@code file}, in place of any file that is already there, so that it keeps
+     * the content of {@code file} after {@code file} is replaced. Copies the file instead if the file system cannot
+     * link files.
+     */
+    public static void linkOrCopy(Path file, Path link) throws IOException {
+        Files.deleteIfExists(link);
+        try {
+            Files.createLink(link, file);
+        } catch (NoSuchFileException e) {
+            throw e;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(file, link, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of a directory onto the disk, so that a file that was just renamed into it keeps its new
+     * name after a crash. Does nothing where directories cannot be opened, such as on Windows.
+     */
+    public static void forceDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (AccessDeniedException e) {
+            // The rename cannot be forced separately here
+        }
+    }
+
+    /**
+     * Writes given string to a file opened with the given options, forcing it onto the disk if asked to.
+     */
+    private static void write(Path file, String content, boolean force, StandardOpenOption... options)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (force) {
+                channel.force(false);
+            }
+        }
+    }
+
 }
@@ -11,7 +11,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -110,6 +112,57 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Returns a parser that reads the given JSON string one token at a time, positioned at its first token.
+     */
+    public static JsonParser createParser(String json) throws IOException {
+        return startParser(objectMapper.getFactory().createParser(json));
+    }
+
+    /**
+     * Returns a parser that reads the given JSON file one token at a time, positioned at its first token.
+     * Only the token being read is kept in memory, so the file can be larger than the memory available.
+     */
+    public static JsonParser createParser(Path jsonFile) throws IOException {
+        return startParser(objectMapper.getFactory().createParser(jsonFile.toFile()));
+    }
+
+    /**
+     * Checks that the parser is at the start of a JSON object.
+     * @throws IllegalArgumentException if the parser is at any other token.
+     */
+    public static void requireObjectStart(JsonParser parser) {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Expected a JSON object but found " + parser.getCurrentToken());
+        }
+    }
+
+    /**
+     * Moves the parser to the next field of the JSON object it is reading, and then to the value of that field.
+     * @return the name of the field, or null if the parser has reached the end of the object.
+     */
+    public static String nextField(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME) {
+            return null;
+        }
+        String fieldName = parser.getCurrentName();
+        parser.nextToken();
+        return fieldName;
+    }
+
+    /**
+     * Moves a newly created parser to its first token, closing it if the token cannot be read.
+     */
+    private static JsonParser startParser(JsonParser parser) throws IOException {
+        try {
+            parser.nextToken();
+            return parser;
+        } catch (IOException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,176 @@
+package seedu.elisa.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import seedu.elisa.logic.commands.FindCommand;
+import seedu.elisa.model.ViewDescriptor;
+import seedu.elisa.model.item.DescriptionIndex;
+import seedu.elisa.model.item.VisualizeList;
+
+/**
+ * Runs a find while it is still being typed, on a background thread, so that the results follow the keystrokes
+ * without holding up the user interface.
+ * A search only starts once typing pauses. Results are cached by their search strings until the items or the
+ * view being searched change, and a search that only lengthens the last search string narrows down an earlier
+ * result instead of searching the whole view again.
+ * The cache is only used by the background thread, so a long search never holds up the thread that requests the
+ * next one.
+ */
+public class LiveSearch {
+
+    // Time to wait for the next keystroke before searching, so that a burst of typing is searched once
+    public static final long DEBOUNCE_DELAY = 150;
+
+    private static final int MAX_CACHED_RESULTS = 32;
+
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<ScheduledFuture<?>> scheduledSearch = new AtomicReference<>();
+
+    // The results found in the view, which are only valid for the version of the items they were found in
+    private final LinkedHashMap<String, VisualizeList> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VisualizeList> eldest) {
+            return size() > MAX_CACHED_RESULTS;
+        }
+    };
+    private ViewDescriptor cachedView = null;
+    private long cachedDataVersion;
+
+    public LiveSearch() {
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "LiveSearch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the search strings of a find that is being typed, or nothing if the text is not a find that can be
+     * run as it is typed. Finds with flags, such as in the archive, only run once they are entered.
+     */
+    public static Optional<String[]> toSearchStrings(String commandText) {
+        String[] words = commandText.trim().split("\\s+");
+        if (words.length < 2 || !words[0].equalsIgnoreCase(FindCommand.COMMAND_WORD) || commandText.contains("-")) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.copyOfRange(words, 1, words.length));
+    }
+
+    /**
+     * Searches the view once typing pauses, in place of any search that has not started yet.
+     * @param searchStrings the search strings typed so far
+     * @param base a copy of the view being searched, which is never changed or used by another thread
+     * @param index a snapshot of the index of the descriptions in the view, or null to scan the view instead
+     * @param view what the view being searched shows
+     * @param dataVersion the version of the items in the view
+     * @param resultHandler is given a list of the items found, on the background thread
+     */
+    public void request(String[] searchStrings, VisualizeList base, DescriptionIndex index, ViewDescriptor view,
+                        long dataVersion, Consumer<VisualizeList> resultHandler) {
+        requireNonNull(searchStrings);
+        requireNonNull(base);
+        requireNonNull(view);
+        requireNonNull(resultHandler);
+        if (executor.isShutdown()) {
+            return;
+        }
+        ScheduledFuture<?> search = executor.schedule(() -> {
+            // The result is handed over as a copy, so that the thread it is handed to never uses the cached result
+            resultHandler.accept(search(searchStrings, base, index, view, dataVersion).copy());
+        }, DEBOUNCE_DELAY, TimeUnit.MILLISECONDS);
+        cancel(scheduledSearch.getAndSet(search));
+    }
+
+    /**
+     * Cancels the search that has not started yet, if any.
+     */
+    public void cancel() {
+        cancel(scheduledSearch.getAndSet(null));
+    }
+
+    private static void cancel(ScheduledFuture<?> search) {
+        if (search != null) {
+            search.cancel(false);
+        }
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    public void shutdown() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the items of the view that contain any of the search strings, in the same order as a find.
+     * Searches are only made by the background thread outside of tests, and only it may use the result, until the
+     * next search.
+     * @param searchStrings the search strings
+     * @param base the view being searched, which is not changed while it is searched
+     * @param index the index of the descriptions in the view, or null to scan the view instead
+     * @param view what the view being searched shows
+     * @param dataVersion the version of the items in the view
+     */
+    VisualizeList search(String[] searchStrings, VisualizeList base, DescriptionIndex index, ViewDescriptor view,
+                         long dataVersion) {
+        if (!view.equals(cachedView) || dataVersion != cachedDataVersion) {
+            cache.clear();
+            cachedView = view;
+            cachedDataVersion = dataVersion;
+        }
+
+        String query = String.join(" ", searchStrings);
+        VisualizeList result = cache.get(query);
+        if (result == null) {
+            // An earlier result is small enough to scan, while the whole view is looked up in the index
+            Optional<VisualizeList> superset = findNarrowestSuperset(searchStrings);
+            result = superset.isPresent()
+                    ? superset.get().find(searchStrings)
+                    : base.find(searchStrings, index);
+            cache.put(query, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the smallest cached result that holds every item the search strings can find, in find order.
+     * That is a result for the same search strings, except that the last of them may be shorter, since every
+     * item that contains the last search string also contains any part of it.
+     */
+    private Optional<VisualizeList> findNarrowestSuperset(String[] searchStrings) {
+        VisualizeList narrowest = null;
+        for (Map.Entry<String, VisualizeList> entry : cache.entrySet()) {
+            String[] cachedStrings = entry.getKey().split(" ");
+            if (isNarrowedBy(cachedStrings, searchStrings)
+                    && (narrowest == null || entry.getValue().size() < narrowest.size())) {
+                narrowest = entry.getValue();
+            }
+        }
+        return Optional.ofNullable(narrowest);
+    }
+
+    private static boolean isNarrowedBy(String[] cachedStrings, String[] searchStrings) {
+        int last = searchStrings.length - 1;
+        if (cachedStrings.length != searchStrings.length) {
+            return false;
+        }
+        for (int i = 0; i < last; i++) {
+            if (!cachedStrings[i].equalsIgnoreCase(searchStrings[i])) {
+                return false;
+            }
+        }
+        return searchStrings[last].toLowerCase().contains(cachedStrings[last].toLowerCase());
+    }
+}
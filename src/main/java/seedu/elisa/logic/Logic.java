@@ -1,6 +1,10 @@
 package seedu.elisa.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.beans.property.ListPropertyBase;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -58,10 +62,22 @@ public interface Logic {
     //ObservableList<Person> getFilteredPersonList();
     VisualizeList getVisualList();
 
+    /**
+     * Returns the items in the visual list whose event overlaps the range from {@code from} up to but not
+     * including {@code to}, ordered by start time.
+     */
+    List<Item> getEventsOverlapping(LocalDateTime from, LocalDateTime to);
+
     ItemModel getModel();
     //Bryan Reminder
     void shutdown();
 
+    /**
+     * Sets the handler that is told when the items could not be saved. Saving happens in the background,
+     * so the handler is not called on the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
     ListPropertyBase<Item> getActiveRemindersListProperty();
 
     SimpleBooleanProperty getPriorityMode();
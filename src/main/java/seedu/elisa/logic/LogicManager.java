@@ -2,10 +2,14 @@ package seedu.elisa.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.beans.property.ListPropertyBase;
 import javafx.beans.property.SimpleBooleanProperty;
 import seedu.elisa.commons.core.GuiSettings;
@@ -22,6 +26,7 @@ import seedu.elisa.model.ItemModel;
 import seedu.elisa.model.ItemStorage;
 import seedu.elisa.model.PriorityExitStatus;
 import seedu.elisa.model.item.VisualizeList;
+import seedu.elisa.storage.AsyncItemStorageSaver;
 import seedu.elisa.storage.Storage;
 
 /**
@@ -29,6 +34,7 @@ import seedu.elisa.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    private static final long ARCHIVE_CHECK_PERIOD_HOURS = 1;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final ItemModel model;
@@ -38,19 +44,30 @@ public class LogicManager implements Logic {
     private final ElisaParser focusParser;
     private final ScheduledThreadPoolExecutor checker;
     private final AutoRescheduleManager autoRescheduleManager;
+    private final AsyncItemStorageSaver saver;
+    // The version of the items that was last handed to the saver
+    private long savedDataVersion;
 
     public LogicManager(ItemModel model, Storage storage) {
         this.storage = storage;
         this.model = model;
+        this.savedDataVersion = model.getDataVersion();
+        this.saver = new AsyncItemStorageSaver(storage, model.getUserPrefs().getMaxSaveDelay());
         normalParser = new ElisaParser(model.getElisaCommandHistory());
         addressBookParser = normalParser;
         focusParser = new FocusElisaParser(model.getElisaCommandHistory());
         autoRescheduleManager = AutoRescheduleManager.getInstance();
         autoRescheduleManager.initStorageEvents(model.getEventList(), model);
 
+        // Items that have become old since the last run are moved into the archive before anything is shown
+        archiveOldItems();
+
         Runnable checkTask = new CheckTaskRunnable(model);
         checker = new ScheduledThreadPoolExecutor(1);
         checker.scheduleAtFixedRate(checkTask, 0, 5, TimeUnit.SECONDS);
+        // Items only become old by the day, so there is no need to look through all of them after every command
+        checker.scheduleAtFixedRate(() -> Platform.runLater(this::archiveOldItems),
+                ARCHIVE_CHECK_PERIOD_HOURS, ARCHIVE_CHECK_PERIOD_HOURS, TimeUnit.HOURS);
 
         // Changing of parser in focus mode
         model.getFocusMode().addListener((observable, oldValue, newValue) -> {
@@ -67,12 +84,21 @@ public class LogicManager implements Logic {
     }
 
     /**
-     * Shutdown threads for Reminders, PriorityMode and AutoRescheduleManager
+     * Shutdown threads for Reminders, PriorityMode and AutoRescheduleManager, and writes any unsaved items
      */
     public final void shutdown() {
         checker.shutdown();
         autoRescheduleManager.shutdown();
         model.closePriorityModeThread();
+
+        // Flush changes made in the background since the last command, such as rescheduled events
+        saveItemStorageIfChanged();
+        saver.shutdown();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        saver.setFailureHandler(handler);
     }
 
     @Override
@@ -84,19 +110,42 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         //Parse user input from String to a Command
         Command command = addressBookParser.parseCommand(commandText);
+        long dataVersionBefore = model.getDataVersion();
         commandResult = command.execute(model);
 
-        try {
-            storage.saveItemStorage(model.getItemStorage());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        if (!command.isMutating() && model.getDataVersion() != dataVersionBefore) {
+            logger.warning(command.getClass().getSimpleName() + " changed the items but is not marked as mutating");
         }
 
+        // Changes made in the background since the last command are saved here too
+        saveItemStorageIfChanged();
+
         model.updateCommandHistory(command);
 
         return commandResult;
     }
 
+    /**
+     * Moves the items that are old enough into the archive, and saves the items that are left.
+     */
+    private void archiveOldItems() {
+        model.archiveOldItems(LocalDateTime.now());
+        saveItemStorageIfChanged();
+    }
+
+    /**
+     * Hands a snapshot of the items to the saver if they have changed since they were last saved.
+     * The snapshot is written in the background, so a slow disk does not hold up the next command.
+     */
+    private void saveItemStorageIfChanged() {
+        long dataVersion = model.getDataVersion();
+        if (dataVersion == savedDataVersion) {
+            return;
+        }
+        saver.requestSave(model.getItemStorage().snapshotForSave());
+        savedDataVersion = dataVersion;
+    }
+
     @Override
     public ItemStorage getItemStorage() {
         return model.getItemStorage();
@@ -107,6 +156,11 @@ public class LogicManager implements Logic {
         return model.getVisualList();
     }
 
+    @Override
+    public List<Item> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        return model.getEventsOverlapping(from, to);
+    }
+
     @Override
     public ItemModel getModel() {
         return model;
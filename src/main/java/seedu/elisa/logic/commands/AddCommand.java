@@ -2,12 +2,17 @@ package seedu.elisa.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Optional;
+
+import seedu.elisa.commons.core.Messages;
 import seedu.elisa.commons.core.item.Event;
 import seedu.elisa.commons.core.item.Item;
 import seedu.elisa.logic.commands.exceptions.CommandException;
 import seedu.elisa.model.AutoRescheduleManager;
 import seedu.elisa.model.ItemModel;
 import seedu.elisa.model.RescheduleTask;
+import seedu.elisa.model.UndoRecord;
 
 /**
  * Add an Item to the item list.
@@ -20,13 +25,24 @@ public abstract class AddCommand extends UndoableCommand {
     public static final String MESSAGE_DUPLICATE_ITEM = "This item already exists.";
 
     protected final Item toAdd;
+    // True if the item is not added when its event clashes with another event, instead of only warning about it
+    protected final boolean rejectsConflicts;
 
     /**
      * Creates an AddCommand to add the specified {@code Item}
      */
     public AddCommand(Item item) {
+        this(item, false);
+    }
+
+    /**
+     * Creates an AddCommand to add the specified {@code Item}, which is not added if it clashes with another event
+     * when {@code rejectsConflicts} is true.
+     */
+    public AddCommand(Item item, boolean rejectsConflicts) {
         requireNonNull(item);
         toAdd = item;
+        this.rejectsConflicts = rejectsConflicts;
     }
 
     /**
@@ -41,9 +57,13 @@ public abstract class AddCommand extends UndoableCommand {
         // Check if item already exists, else, add it to the model.
         if (model.hasItem(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_ITEM);
-        } else {
-            model.addItem(toAdd);
         }
+        List<Item> conflicts = model.findConflicts(toAdd);
+        if (rejectsConflicts && !conflicts.isEmpty()) {
+            throw new CommandException(
+                    String.format(Messages.MESSAGE_EVENT_CONFLICT_REJECTED, describeConflicts(conflicts)));
+        }
+        model.addItem(toAdd);
 
         if (toAdd.hasAutoReschedule()) {
             Event event = toAdd.getEvent().get();
@@ -63,7 +83,11 @@ public abstract class AddCommand extends UndoableCommand {
             setExecuted(true);
         }
 
-        return new CommandResult(String.format(getMessageSuccess(), toAdd));
+        String message = String.format(getMessageSuccess(), toAdd);
+        if (!conflicts.isEmpty()) {
+            message += String.format(Messages.MESSAGE_EVENT_CONFLICT, describeConflicts(conflicts));
+        }
+        return new CommandResult(message);
     }
 
     public abstract String getListView();
@@ -74,7 +98,8 @@ public abstract class AddCommand extends UndoableCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddCommand // instanceof handles nulls
-                && toAdd.equals(((AddCommand) other).toAdd));
+                && toAdd.equals(((AddCommand) other).toAdd)
+                && rejectsConflicts == ((AddCommand) other).rejectsConflicts);
     }
 
     @Override
@@ -86,5 +111,9 @@ public abstract class AddCommand extends UndoableCommand {
             RescheduleTask.removeFromAllTasks(toAdd.getEvent().get());
         }
     }
-}
 
+    @Override
+    public Optional<UndoRecord> toUndoRecord() {
+        return Optional.of(UndoRecord.added(getCommandWord(), toAdd));
+    }
+}
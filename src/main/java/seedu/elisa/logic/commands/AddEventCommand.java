@@ -4,6 +4,7 @@ import static seedu.elisa.logic.parser.CliSyntax.PREFIX_AUTO_RESCHEDULE;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_DATETIME;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_REMINDER;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_STRICT;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_TAG;
 
 import seedu.elisa.commons.core.item.Item;
@@ -23,12 +24,17 @@ public class AddEventCommand extends AddCommand {
             + "<Optional> " + PREFIX_REMINDER + " Reminder \n"
             + "<Optional> " + PREFIX_PRIORITY + " Priority \n"
             + "<Optional> " + PREFIX_TAG + " Tag \n"
-            + "<Optional> " + PREFIX_AUTO_RESCHEDULE + " Period \n";
+            + "<Optional> " + PREFIX_AUTO_RESCHEDULE + " Period \n"
+            + "<Optional> " + PREFIX_STRICT + " (do not add the event if it clashes with another) \n";
 
     public AddEventCommand(Item item) {
         super(item);
     }
 
+    public AddEventCommand(Item item, boolean rejectsConflicts) {
+        super(item, rejectsConflicts);
+    }
+
     @Override
     public String getListView() {
         return SHOW_EVENT_VIEW;
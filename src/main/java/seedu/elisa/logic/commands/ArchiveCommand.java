@@ -0,0 +1,71 @@
+package seedu.elisa.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+
+import seedu.elisa.commons.exceptions.DataConversionException;
+import seedu.elisa.logic.commands.exceptions.CommandException;
+import seedu.elisa.model.ItemModel;
+import seedu.elisa.model.ViewDescriptor;
+import seedu.elisa.model.item.VisualizeList;
+
+/**
+ * Shows the archived items of the kind in the current view, which are read from the archive on demand.
+ */
+public class ArchiveCommand extends UndoableCommand {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the archived tasks, or the archived events in the event and calendar views.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Dug up %1$d archived items from the basement";
+    public static final String MESSAGE_ARCHIVE_UNREADABLE = "I couldn't read the archive: %1$s";
+
+    private ViewDescriptor beforeSwitch;
+
+    @Override
+    public CommandResult execute(ItemModel model) throws CommandException {
+        requireNonNull(model);
+
+        beforeSwitch = model.getView();
+        VisualizeList archived;
+        try {
+            archived = model.showArchive();
+        } catch (IOException | DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()));
+        }
+        if (!isExecuted()) {
+            model.getElisaCommandHistory().clearRedo();
+            setExecuted(true);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, archived.size()));
+    }
+
+    @Override
+    public void reverse(ItemModel model) throws CommandException {
+        model.setView(beforeSwitch);
+    }
+
+    @Override
+    public long estimateRetainedBytes() {
+        return estimateRetainedBytes(beforeSwitch);
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof ArchiveCommand;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+}
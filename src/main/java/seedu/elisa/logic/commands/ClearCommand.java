@@ -3,8 +3,8 @@ package seedu.elisa.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import seedu.elisa.logic.commands.exceptions.CommandException;
+import seedu.elisa.model.ClearedItems;
 import seedu.elisa.model.ItemModel;
-import seedu.elisa.model.ItemStorage;
 
 /**
  * Clears the address book.
@@ -13,14 +13,13 @@ public class ClearCommand extends UndoableCommand {
 
     public static final String COMMAND_WORD = "clear";
     public static final String MESSAGE_SUCCESS = "Item list has been cleared! (About time, isn't it?)";
-    private ItemStorage beforeClear;
+    private ClearedItems cleared;
 
 
     @Override
     public CommandResult execute(ItemModel model) {
         requireNonNull(model);
-        beforeClear = model.getItemStorage().deepCopy();
-        model.clear();
+        cleared = model.clear();
         if (!isExecuted()) {
             model.getElisaCommandHistory().clearRedo();
             setExecuted(true);
@@ -30,8 +29,16 @@ public class ClearCommand extends UndoableCommand {
 
     @Override
     public void reverse(ItemModel model) throws CommandException {
-        model.setItemStorage(beforeClear);
-        model.repopulateLists();
+        model.restoreCleared(cleared);
+        // The items are back in the storage, and a redo clears them again
+        cleared = null;
+    }
+
+    @Override
+    public long estimateRetainedBytes() {
+        // While the clear is done, the cleared items are no longer in the storage, so they are held by this command
+        int size = cleared == null ? 0 : cleared.size();
+        return ESTIMATED_COMMAND_BYTES + size * ESTIMATED_ITEM_BYTES;
     }
 
     @Override
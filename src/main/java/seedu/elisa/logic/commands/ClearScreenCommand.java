@@ -15,4 +15,9 @@ public class ClearScreenCommand extends Command {
     public CommandResult execute(ItemModel model) throws CommandException {
         return new ClearScreenCommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -21,4 +21,9 @@ public class CloseCommand extends Command {
         requireNonNull(model);
         return new CloseCommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
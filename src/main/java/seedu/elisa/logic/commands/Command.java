@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(ItemModel model) throws CommandException;
 
+    /**
+     * Returns true if executing the command may change the items, which then have to be saved.
+     * Commands that only change what is shown return false.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
@@ -2,6 +2,8 @@ package seedu.elisa.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+
 import seedu.elisa.commons.core.Messages;
 import seedu.elisa.commons.core.index.Index;
 import seedu.elisa.commons.core.item.Item;
@@ -10,6 +12,7 @@ import seedu.elisa.model.AutoRescheduleManager;
 import seedu.elisa.model.ItemIndexWrapper;
 import seedu.elisa.model.ItemModel;
 import seedu.elisa.model.RescheduleTask;
+import seedu.elisa.model.UndoRecord;
 import seedu.elisa.model.item.VisualizeList;
 
 /**
@@ -74,6 +77,11 @@ public class DeleteCommand extends UndoableCommand {
                 && targetIndex.equals(((DeleteCommand) other).targetIndex)); // state check
     }
 
+    @Override
+    public Optional<UndoRecord> toUndoRecord() {
+        return Optional.of(UndoRecord.deleted(COMMAND_WORD, deleted.getItem()));
+    }
+
     @Override
     public String getCommandWord() {
         return COMMAND_WORD;
@@ -2,11 +2,14 @@ package seedu.elisa.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+
 import seedu.elisa.commons.core.Messages;
 import seedu.elisa.commons.core.index.Index;
 import seedu.elisa.commons.core.item.Item;
 import seedu.elisa.logic.commands.exceptions.CommandException;
 import seedu.elisa.model.ItemModel;
+import seedu.elisa.model.UndoRecord;
 import seedu.elisa.model.exceptions.IllegalListException;
 import seedu.elisa.model.item.VisualizeList;
 
@@ -67,6 +70,11 @@ public class DoneCommand extends UndoableCommand {
                 && targetIndex.equals(((DoneCommand) other).targetIndex)); // state check
     }
 
+    @Override
+    public Optional<UndoRecord> toUndoRecord() {
+        return Optional.of(UndoRecord.replaced(COMMAND_WORD, oldItem, itemDone));
+    }
+
     @Override
     public String getCommandWord() {
         return COMMAND_WORD;
@@ -4,10 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_REMINDER;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_STRICT;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -27,6 +29,7 @@ import seedu.elisa.model.AutoRescheduleManager;
 import seedu.elisa.model.AutoReschedulePeriod;
 import seedu.elisa.model.ItemModel;
 import seedu.elisa.model.RescheduleTask;
+import seedu.elisa.model.UndoRecord;
 import seedu.elisa.model.item.VisualizeList;
 
 /**
@@ -45,6 +48,7 @@ public class EditCommand extends UndoableCommand {
             + "[" + PREFIX_REMINDER + " REMINDER] \n"
             + "[" + PREFIX_PRIORITY + " PRIORITY] \n"
             + "[" + PREFIX_TAG + " TAG]...\n"
+            + "[" + PREFIX_STRICT + "] (do not edit the item if its event would clash with another) \n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_DESCRIPTION + " DRINK WATER "
             + PREFIX_PRIORITY + " HIGH";
@@ -56,6 +60,8 @@ public class EditCommand extends UndoableCommand {
 
     private final Index index;
     private final EditItemDescriptor editItemDescriptor;
+    // True if the item is not edited when its event would clash with another event, instead of only warning about it
+    private final boolean rejectsConflicts;
 
     private Item oldItem;
     private Item editedItem;
@@ -65,11 +71,21 @@ public class EditCommand extends UndoableCommand {
      * @param editItemDescriptor details to edit the person with
      */
     public EditCommand(Index index, EditItemDescriptor editItemDescriptor) {
+        this(index, editItemDescriptor, false);
+    }
+
+    /**
+     * @param index              of the item in the shown list to edit
+     * @param editItemDescriptor details to edit the item with
+     * @param rejectsConflicts   true if the item is not edited when its event would clash with another event
+     */
+    public EditCommand(Index index, EditItemDescriptor editItemDescriptor, boolean rejectsConflicts) {
         requireNonNull(index);
         requireNonNull(editItemDescriptor);
 
         this.index = index;
         this.editItemDescriptor = new EditItemDescriptor(editItemDescriptor);
+        this.rejectsConflicts = rejectsConflicts;
     }
 
     @Override
@@ -89,6 +105,14 @@ public class EditCommand extends UndoableCommand {
         if (model.hasItem(editedItem)) {
             throw new CommandException("Edit failed! Don't you remember that this item already exists?");
         }
+        // Only a changed event can bring a new clash
+        List<Item> conflicts = editedItem.getEvent().equals(oldItem.getEvent())
+                ? List.of()
+                : model.findConflicts(editedItem);
+        if (rejectsConflicts && !conflicts.isEmpty()) {
+            throw new CommandException(
+                    String.format(Messages.MESSAGE_EVENT_CONFLICT_REJECTED, describeConflicts(conflicts)));
+        }
         // if event has AutoReschedule, add it to the AutoRescheduleManager
         if (editedItem.hasAutoReschedule()) {
             Event event = editedItem.getEvent().get();
@@ -101,7 +125,11 @@ public class EditCommand extends UndoableCommand {
             model.getElisaCommandHistory().clearRedo();
             setExecuted(true);
         }
-        return new CommandResult(String.format(MESSAGE_EDIT_ITEM_SUCCESS, editedItem));
+        String message = String.format(MESSAGE_EDIT_ITEM_SUCCESS, editedItem);
+        if (!conflicts.isEmpty()) {
+            message += String.format(Messages.MESSAGE_EVENT_CONFLICT, describeConflicts(conflicts));
+        }
+        return new CommandResult(message);
     }
 
     @Override
@@ -148,6 +176,7 @@ public class EditCommand extends UndoableCommand {
                         ? itemToEdit.getEvent().get().getPeriod() : null));
 
         ItemBuilder itemBuilder = new ItemBuilder();
+        itemBuilder.setId(itemToEdit.getId());
         itemBuilder.setItemDescription(updatedDescription);
         itemBuilder.setTags(updatedTags);
         itemBuilder.setItemPriority(updatedPriority);
@@ -321,6 +350,11 @@ public class EditCommand extends UndoableCommand {
         }
     }
 
+    @Override
+    public Optional<UndoRecord> toUndoRecord() {
+        return Optional.of(UndoRecord.replaced(COMMAND_WORD, oldItem, editedItem));
+    }
+
     @Override
     public String getCommandWord() {
         return COMMAND_WORD;
@@ -2,60 +2,134 @@ package seedu.elisa.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
 import seedu.elisa.commons.core.Messages;
+import seedu.elisa.commons.exceptions.DataConversionException;
 import seedu.elisa.logic.commands.exceptions.CommandException;
 import seedu.elisa.model.ItemModel;
-import seedu.elisa.model.item.VisualizeList;
+import seedu.elisa.model.ViewDescriptor;
+import seedu.elisa.model.item.TagQuery;
 
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all items in the current list whose description contains any of the argument keywords.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends UndoableCommand {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+    // Ranked results are shown a page at a time, so a search with thousands of matches shows only the best ones
+    public static final int RANKED_PAGE_SIZE = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all items in the current list whose "
+            + "descriptions contain any of the specified keywords (case-insensitive) and displays them as a list "
+            + "with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [--archive] [--rank] [-page PAGE] [-t TAG_QUERY]\n"
+            + "--archive searches the archived items instead. --rank shows the best matches first, "
+            + RANKED_PAGE_SIZE + " at a time, and -page PAGE shows another page of them (PAGE from 1).\n"
+            + "-t keeps only the items with the given tags: tags joined by commas are alternatives, tags separated "
+            + "by spaces are all needed, and a tag starting with ! must not be there. "
+            + "The keywords may be left out when -t is given.\n"
+            + "Example: " + COMMAND_WORD + " report meeting\n"
+            + "Example: " + COMMAND_WORD + " report --rank -page 2\n"
+            + "Example: " + COMMAND_WORD + " report -t work,home urgent !school";
+
+    public static final String MESSAGE_RANKED_OVERVIEW = "%1$d items found, best matches first. "
+            + "This is page %2$d of %3$d.";
 
     private final String[] searchString;
+    // True if the archived items are searched instead of the current view
+    private final boolean isArchiveSearch;
+    // The page of ranked results to show, or 0 if the results are shown in list order
+    private final int rankedPage;
+    // The filter on the tags of the items found, or null if their tags do not matter
+    private final TagQuery tagQuery;
 
-    private VisualizeList beforeFilter;
+    private ViewDescriptor beforeFilter;
 
     public FindCommand(String[] searchString) {
+        this(searchString, false);
+    }
+
+    public FindCommand(String[] searchString, boolean isArchiveSearch) {
+        this(searchString, isArchiveSearch, 0);
+    }
+
+    public FindCommand(String[] searchString, boolean isArchiveSearch, int rankedPage) {
+        this(searchString, isArchiveSearch, rankedPage, null);
+    }
+
+    public FindCommand(String[] searchString, boolean isArchiveSearch, int rankedPage, TagQuery tagQuery) {
         this.searchString = searchString;
+        this.isArchiveSearch = isArchiveSearch;
+        this.rankedPage = rankedPage;
+        this.tagQuery = tagQuery;
     }
 
     @Override
-    public CommandResult execute(ItemModel model) {
+    public CommandResult execute(ItemModel model) throws CommandException {
         requireNonNull(model);
-        beforeFilter = model.getVisualList().deepCopy();
-        model.findItem(searchString);
+        beforeFilter = model.getView();
+        if (isArchiveSearch) {
+            try {
+                if (searchString.length > 0) {
+                    model.findArchivedItem(searchString);
+                } else {
+                    model.showArchive();
+                }
+            } catch (IOException | DataConversionException e) {
+                throw new CommandException(String.format(ArchiveCommand.MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()));
+            }
+        } else if (searchString.length > 0) {
+            model.findItem(searchString);
+        }
+        if (tagQuery != null) {
+            model.findTaggedItem(tagQuery);
+        }
+        int rankedCount = rankedPage > 0 ? model.rankItems(searchString, rankedPage, RANKED_PAGE_SIZE) : 0;
         if (!isExecuted()) {
             model.getElisaCommandHistory().clearRedo();
             setExecuted(true);
         }
+        if (rankedPage > 0) {
+            int pageCount = Math.max(1, (rankedCount + RANKED_PAGE_SIZE - 1) / RANKED_PAGE_SIZE);
+            return new CommandResult(String.format(MESSAGE_RANKED_OVERVIEW, rankedCount, rankedPage, pageCount));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_ITEM_LISTED_OVERVIEW, model.getVisualList().size()));
     }
 
     @Override
     public void reverse(ItemModel model) throws CommandException {
-        model.setVisualizeList(beforeFilter);
+        model.setView(beforeFilter);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && searchString.equals(((FindCommand) other).searchString)); // state check
+                && Arrays.equals(searchString, ((FindCommand) other).searchString)
+                && isArchiveSearch == ((FindCommand) other).isArchiveSearch
+                && rankedPage == ((FindCommand) other).rankedPage
+                && Objects.equals(tagQuery, ((FindCommand) other).tagQuery)); // state check
+    }
+
+    @Override
+    public long estimateRetainedBytes() {
+        return estimateRetainedBytes(beforeFilter);
     }
 
     @Override
     public String getCommandWord() {
         return COMMAND_WORD;
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
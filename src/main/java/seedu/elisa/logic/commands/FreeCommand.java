@@ -0,0 +1,87 @@
+package seedu.elisa.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.elisa.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_MIN_DURATION;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.elisa.logic.commands.exceptions.CommandException;
+import seedu.elisa.model.ItemModel;
+import seedu.elisa.model.item.TimeSlot;
+
+/**
+ * Finds the free time between events in a range of time.
+ */
+public class FreeCommand extends Command {
+
+    public static final String COMMAND_WORD = "free";
+
+    public static final Duration DEFAULT_MIN_DURATION = Duration.ofMinutes(30);
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the free time between your events "
+            + "that lasts at least the given number of minutes (30 if not given).\n"
+            + "Parameters: " + PREFIX_FROM + " START " + PREFIX_TO + " END "
+            + "[" + PREFIX_MIN_DURATION + " MINUTES]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + " 25/09/2019 0800 "
+            + PREFIX_TO + " 25/09/2019 1800 " + PREFIX_MIN_DURATION + " 60";
+
+    public static final String MESSAGE_FREE_SLOTS = "You're free at these times:%1$s";
+    public static final String MESSAGE_NO_FREE_SLOTS = "No free time of %1$d minutes in there, you busy bee!";
+    public static final String MESSAGE_MORE_FREE_SLOTS = "\n...and %1$d more";
+
+    // Only the first of many free slots are listed, so a long range does not flood the result box
+    private static final int MAX_SLOTS_SHOWN = 20;
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Duration minDuration;
+
+    /**
+     * @param from the start of the range to look in
+     * @param to the end of the range to look in, which must be after its start
+     * @param minDuration the shortest free time to be listed
+     */
+    public FreeCommand(LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        requireAllNonNull(from, to, minDuration);
+        this.from = from;
+        this.to = to;
+        this.minDuration = minDuration;
+    }
+
+    @Override
+    public CommandResult execute(ItemModel model) throws CommandException {
+        requireNonNull(model);
+        List<TimeSlot> slots = model.findFreeSlots(from, to, minDuration);
+        if (slots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, minDuration.toMinutes()));
+        }
+
+        StringBuilder listed = new StringBuilder();
+        for (int i = 0; i < slots.size() && i < MAX_SLOTS_SHOWN; i++) {
+            listed.append("\n").append(i + 1).append(". ").append(slots.get(i));
+        }
+        if (slots.size() > MAX_SLOTS_SHOWN) {
+            listed.append(String.format(MESSAGE_MORE_FREE_SLOTS, slots.size() - MAX_SLOTS_SHOWN));
+        }
+        return new CommandResult(String.format(MESSAGE_FREE_SLOTS, listed));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof FreeCommand
+                && from.equals(((FreeCommand) other).from)
+                && to.equals(((FreeCommand) other).to)
+                && minDuration.equals(((FreeCommand) other).minDuration));
+    }
+}
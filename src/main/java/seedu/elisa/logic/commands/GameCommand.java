@@ -31,4 +31,9 @@ public class GameCommand extends Command {
             throw new IllegalArgumentException(MESSAGE_USAGE);
         }
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -0,0 +1,37 @@
+package seedu.elisa.logic.commands;
+
+import seedu.elisa.model.ElisaCommandHistory;
+import seedu.elisa.model.ItemModel;
+
+/**
+ * Shows how many commands can be undone and redone, and about how much memory they hold on to.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+
+    public static final String MESSAGE_SUCCESS = "I remember %1$d of at most %2$d commands to undo and %3$d to redo, "
+            + "holding about %4$d KB of the %5$d KB I'm allowed";
+
+    private ElisaCommandHistory elisaCommandHistory;
+
+    public HistoryCommand(ElisaCommandHistory elisaCommandHistory) {
+        this.elisaCommandHistory = elisaCommandHistory;
+    }
+
+    @Override
+    public CommandResult execute(ItemModel model) {
+        return new CommandResult(String.format(MESSAGE_SUCCESS, elisaCommandHistory.sizeUndo(),
+                elisaCommandHistory.getMaxDepth(), elisaCommandHistory.sizeRedo(),
+                toKilobytes(elisaCommandHistory.getRetainedBytes()), toKilobytes(elisaCommandHistory.getMaxBytes())));
+    }
+
+    private static long toKilobytes(long bytes) {
+        return (bytes + 1023) / 1024;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+}
@@ -16,4 +16,8 @@ public class JokeCommand extends Command {
         return new CommandResult(model.getJoke());
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -36,7 +36,7 @@ public class OpenCommand extends Command {
      */
     public CommandResult execute(ItemModel model) throws CommandException {
         requireNonNull(model);
-        beforeOpen = model.getVisualList().deepCopy(); // for undo. Undo action is technically close.
+        beforeOpen = model.getVisualList().snapshot(); // for undo. Undo action is technically close.
         VisualizeList lastShownList = model.getVisualList(); //shallow copy just to get item
 
         if (index.getZeroBased() >= lastShownList.size()) {
@@ -47,4 +47,8 @@ public class OpenCommand extends Command {
         return new OpenCommandResult(String.format(MESSAGE_SUCCESS, index.getOneBased()), toOpen);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
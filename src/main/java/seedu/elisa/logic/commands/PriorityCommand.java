@@ -59,4 +59,9 @@ public class PriorityCommand extends UndoableCommand {
     public String getCommandWord() {
         return COMMAND_WORD;
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -26,6 +26,8 @@ public class RedoCommand extends Command {
         } else {
             UndoableCommand lastDone = elisaCommandHistory.popRedo();
             lastDone.execute(model);
+            // The command may hold on to more now that it is done again
+            elisaCommandHistory.trimToBounds();
             return new CommandResult("Redo [" + lastDone.getCommandWord() + "] command successful!");
         }
     }
@@ -0,0 +1,53 @@
+package seedu.elisa.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.elisa.model.ItemModel;
+import seedu.elisa.model.UndoRecord;
+
+/**
+ * A command from an earlier run of ELISA, read back from the saved undo history so that it can still be undone
+ * and redone.
+ */
+public class RestoredCommand extends UndoableCommand {
+
+    public static final String MESSAGE_SUCCESS = "Redid [%1$s] from the last time we met";
+
+    private final UndoRecord record;
+
+    public RestoredCommand(UndoRecord record) {
+        requireNonNull(record);
+        this.record = record;
+        setExecuted(true);
+    }
+
+    @Override
+    public CommandResult execute(ItemModel model) {
+        requireNonNull(model);
+        record.redo(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, getCommandWord()));
+    }
+
+    @Override
+    public void reverse(ItemModel model) {
+        record.undo(model);
+    }
+
+    @Override
+    public String getCommandWord() {
+        return record.getCommandWord();
+    }
+
+    @Override
+    public Optional<UndoRecord> toUndoRecord() {
+        return Optional.of(record);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof RestoredCommand && record.equals(((RestoredCommand) other).record));
+    }
+}
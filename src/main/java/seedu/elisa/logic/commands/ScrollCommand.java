@@ -18,4 +18,8 @@ public abstract class ScrollCommand extends Command {
         return new CommandResult("Scrolling");
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -5,7 +5,7 @@ import static java.util.Objects.requireNonNull;
 import seedu.elisa.commons.exceptions.IllegalValueException;
 import seedu.elisa.logic.commands.exceptions.CommandException;
 import seedu.elisa.model.ItemModel;
-import seedu.elisa.model.item.VisualizeList;
+import seedu.elisa.model.ViewDescriptor;
 
 /**
  * Switches the current view to the desired view.
@@ -27,7 +27,7 @@ public class ShowCommand extends UndoableCommand {
 
     private final String targetView;
     private final String targetList;
-    private VisualizeList beforeSwitch;
+    private ViewDescriptor beforeSwitch;
 
     public ShowCommand(String unprocessedView) {
         String targetView = unprocessedView.toUpperCase();
@@ -55,7 +55,7 @@ public class ShowCommand extends UndoableCommand {
     public CommandResult execute(ItemModel model) throws CommandException {
         requireNonNull(model);
 
-        beforeSwitch = model.getVisualList().deepCopy();
+        beforeSwitch = model.getView();
         try {
             model.setVisualList(targetList); // should be T/E/R
         } catch (IllegalValueException e) {
@@ -70,7 +70,12 @@ public class ShowCommand extends UndoableCommand {
 
     @Override
     public void reverse(ItemModel model) throws CommandException {
-        model.setVisualizeList(beforeSwitch);
+        model.setView(beforeSwitch);
+    }
+
+    @Override
+    public long estimateRetainedBytes() {
+        return estimateRetainedBytes(beforeSwitch);
     }
 
     @Override
@@ -92,4 +97,9 @@ public class ShowCommand extends UndoableCommand {
                     && other.targetView.equalsIgnoreCase(targetView);
         }
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
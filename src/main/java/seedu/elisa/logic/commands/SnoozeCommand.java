@@ -6,12 +6,14 @@ import static seedu.elisa.logic.parser.CliSyntax.PREFIX_SNOOZE;
 
 import java.time.LocalDateTime;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 import seedu.elisa.commons.core.Messages;
 import seedu.elisa.commons.core.index.Index;
 import seedu.elisa.commons.core.item.Item;
 import seedu.elisa.logic.commands.exceptions.CommandException;
 import seedu.elisa.model.ItemModel;
+import seedu.elisa.model.UndoRecord;
 import seedu.elisa.model.item.VisualizeList;
 
 /**
@@ -96,6 +98,11 @@ public class SnoozeCommand extends UndoableCommand {
         model.replaceItem(snoozedItem, oldItem);
     }
 
+    @Override
+    public Optional<UndoRecord> toUndoRecord() {
+        return Optional.of(UndoRecord.replaced(COMMAND_WORD, oldItem, snoozedItem));
+    }
+
     @Override
     public String getCommandWord() {
         return COMMAND_WORD;
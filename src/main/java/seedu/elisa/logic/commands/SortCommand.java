@@ -8,7 +8,7 @@ import java.util.Optional;
 import seedu.elisa.commons.core.item.Item;
 import seedu.elisa.logic.commands.exceptions.CommandException;
 import seedu.elisa.model.ItemModel;
-import seedu.elisa.model.item.VisualizeList;
+import seedu.elisa.model.ViewDescriptor;
 
 /**
  * Sort the current list.
@@ -17,7 +17,7 @@ public class SortCommand extends UndoableCommand {
 
     public static final String COMMAND_WORD = "sort";
     public static final String MESSAGE_SUCCESS = "%s has been sorted!";
-    private VisualizeList beforeSort;
+    private ViewDescriptor beforeSort;
     private Optional<Comparator<Item>> comparator;
 
     public SortCommand(Optional<Comparator<Item>> comparator) {
@@ -27,7 +27,7 @@ public class SortCommand extends UndoableCommand {
     @Override
     public CommandResult execute(ItemModel model) {
         requireNonNull(model);
-        beforeSort = model.getVisualList().deepCopy();
+        beforeSort = model.getView();
         if (comparator.isPresent()) {
             model.sort(comparator.get());
         } else {
@@ -37,12 +37,17 @@ public class SortCommand extends UndoableCommand {
             model.getElisaCommandHistory().clearRedo();
             setExecuted(true);
         }
-        return new CommandResult(String.format(MESSAGE_SUCCESS, beforeSort.getClass().getSimpleName()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getVisualList().getClass().getSimpleName()));
     }
 
     @Override
     public void reverse(ItemModel model) throws CommandException {
-        model.setVisualizeList(beforeSort);
+        model.setView(beforeSort);
+    }
+
+    @Override
+    public long estimateRetainedBytes() {
+        return estimateRetainedBytes(beforeSort);
     }
 
     @Override
@@ -63,4 +68,9 @@ public class SortCommand extends UndoableCommand {
             return other.comparator.equals(comparator);
         }
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -28,4 +28,9 @@ public class ThemeCommand extends Command {
             throw new CommandException(MESSAGE_INVALID);
         }
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
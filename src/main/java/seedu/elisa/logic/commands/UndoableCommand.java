@@ -1,13 +1,27 @@
 package seedu.elisa.logic.commands;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.elisa.commons.core.item.Item;
 import seedu.elisa.logic.commands.exceptions.CommandException;
 import seedu.elisa.model.ItemModel;
+import seedu.elisa.model.UndoRecord;
+import seedu.elisa.model.ViewDescriptor;
+import seedu.elisa.model.item.VisualizeList;
 
 /**
  * Superclass of all commands that can be undone
  * */
 
 public abstract class UndoableCommand extends Command {
+    // Rough sizes of what a command holds on to so that it can be undone
+    protected static final long ESTIMATED_COMMAND_BYTES = 256;
+    protected static final long ESTIMATED_ITEM_BYTES = 512;
+    // Rough size of an item in a list derived for a view, which shares the item but indexes it by its id
+    protected static final long ESTIMATED_LIST_ENTRY_BYTES = 64;
+
     private boolean isExecuted = false;
     public abstract void reverse(ItemModel model) throws CommandException;
     public abstract String getCommandWord();
@@ -19,4 +33,42 @@ public abstract class UndoableCommand extends Command {
     public void setExecuted(boolean executed) {
         isExecuted = executed;
     }
+
+    /**
+     * Returns an estimate of the bytes that this command keeps from being collected while it can be undone.
+     * Most commands hold on to the item they changed, while commands that keep a whole list override this.
+     */
+    public long estimateRetainedBytes() {
+        return ESTIMATED_COMMAND_BYTES + ESTIMATED_ITEM_BYTES;
+    }
+
+    /**
+     * Returns an estimate of the bytes kept by a command that holds on to the view it changed. A view keeps the
+     * items of the archive that it shows, or the list it was last derived as, which shares the items of the lists.
+     */
+    protected static long estimateRetainedBytes(ViewDescriptor view) {
+        if (view == null) {
+            return ESTIMATED_COMMAND_BYTES;
+        }
+        int archivedItemCount = view.getArchivedItems().map(VisualizeList::size).orElse(0);
+        return ESTIMATED_COMMAND_BYTES + archivedItemCount * ESTIMATED_ITEM_BYTES
+                + view.getDerivedListSize() * ESTIMATED_LIST_ENTRY_BYTES;
+    }
+
+    /**
+     * Returns the descriptions of the items whose events clash with an event of this command, for a message.
+     */
+    protected static String describeConflicts(List<Item> conflicts) {
+        return conflicts.stream()
+                .map(item -> item.getItemDescription().getDescription())
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Returns the change this command made to the items in a form that can be saved, so that it can be undone
+     * after a restart. Commands that only change the view, or whose change is too large to save, return nothing.
+     */
+    public Optional<UndoRecord> toUndoRecord() {
+        return Optional.empty();
+    }
 }
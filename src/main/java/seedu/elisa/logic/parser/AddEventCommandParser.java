@@ -5,6 +5,7 @@ import static seedu.elisa.logic.parser.CliSyntax.PREFIX_AUTO_RESCHEDULE;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_DATETIME;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_REMINDER;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_STRICT;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.time.LocalDateTime;
@@ -35,9 +36,10 @@ public class AddEventCommandParser implements Parser<AddCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddCommand parse(String desc, String args) throws ParseException {
+        // account for the possibility that --strict is given last, with no space after it
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DATETIME, PREFIX_REMINDER, PREFIX_PRIORITY,
-                        PREFIX_TAG, PREFIX_AUTO_RESCHEDULE);
+                ArgumentTokenizer.tokenize(args + " ", PREFIX_DATETIME, PREFIX_REMINDER, PREFIX_PRIORITY,
+                        PREFIX_TAG, PREFIX_AUTO_RESCHEDULE, PREFIX_STRICT);
 
         // Event must have a deadline.
         if (!arePrefixesPresent(argMultimap, PREFIX_DATETIME)
@@ -92,7 +94,7 @@ public class AddEventCommandParser implements Parser<AddCommand> {
             throw new ParseException(e.getMessage());
         }
 
-        AddCommand addCommand = new AddEventCommand(newItem);
+        AddCommand addCommand = new AddEventCommand(newItem, argMultimap.getValue(PREFIX_STRICT).isPresent());
         return addCommand;
     }
 
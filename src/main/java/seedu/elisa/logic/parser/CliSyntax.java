@@ -16,4 +16,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_DELETE_TASK = new Prefix("--tk");
     public static final Prefix PREFIX_DELETE_REMINDER = new Prefix("--r");
     public static final Prefix PREFIX_AUTO_RESCHEDULE = new Prefix("-auto");
+    public static final Prefix PREFIX_ARCHIVE = new Prefix("--archive");
+    public static final Prefix PREFIX_RANK = new Prefix("--rank");
+    public static final Prefix PREFIX_PAGE = new Prefix("-page");
+    public static final Prefix PREFIX_STRICT = new Prefix("--strict");
+    public static final Prefix PREFIX_FROM = new Prefix("-from");
+    public static final Prefix PREFIX_TO = new Prefix("-to");
+    public static final Prefix PREFIX_MIN_DURATION = new Prefix("-min");
 }
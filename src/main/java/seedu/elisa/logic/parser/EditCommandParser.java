@@ -10,6 +10,7 @@ import static seedu.elisa.logic.parser.CliSyntax.PREFIX_DELETE_TASK;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_REMINDER;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_STRICT;
 import static seedu.elisa.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Collection;
@@ -45,7 +46,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         try {
             argMultiMap = ArgumentTokenizer.tokenize(processArgs, PREFIX_DESCRIPTION, PREFIX_DATETIME, PREFIX_REMINDER,
                     PREFIX_PRIORITY, PREFIX_TAG, PREFIX_DELETE_TASK, PREFIX_DELETE_REMINDER, PREFIX_DELETE_EVENT,
-                    PREFIX_AUTO_RESCHEDULE);
+                    PREFIX_AUTO_RESCHEDULE, PREFIX_STRICT);
         } catch (Exception e) {
             logger.info("Failure to tokenize arguments: EditCommand");
             throw new ParseException("Edit command format is incorrect.");
@@ -102,7 +103,7 @@ public class EditCommandParser implements Parser<EditCommand> {
             throw new ParseException(EditCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditCommand(index, editItemDescriptor);
+        return new EditCommand(index, editItemDescriptor, argMultiMap.getValue(PREFIX_STRICT).isPresent());
     }
 
     /**
@@ -6,6 +6,7 @@ import static seedu.elisa.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import seedu.elisa.logic.commands.ArchiveCommand;
 import seedu.elisa.logic.commands.ClearCommand;
 import seedu.elisa.logic.commands.ClearScreenCommand;
 import seedu.elisa.logic.commands.CloseCommand;
@@ -17,7 +18,9 @@ import seedu.elisa.logic.commands.DownCommand;
 import seedu.elisa.logic.commands.EditCommand;
 import seedu.elisa.logic.commands.ExitCommand;
 import seedu.elisa.logic.commands.FindCommand;
+import seedu.elisa.logic.commands.FreeCommand;
 import seedu.elisa.logic.commands.GameCommand;
+import seedu.elisa.logic.commands.HistoryCommand;
 import seedu.elisa.logic.commands.JokeCommand;
 import seedu.elisa.logic.commands.OpenCommand;
 import seedu.elisa.logic.commands.PriorityCommand;
@@ -117,9 +120,15 @@ public class ElisaParser {
         case RedoCommand.COMMAND_WORD:
             return new RedoCommand(elisaCommandHistory);
 
+        case HistoryCommand.COMMAND_WORD:
+            return new HistoryCommand(elisaCommandHistory);
+
         case ShowCommand.COMMAND_WORD:
             return new ShowCommandParser().parse(description, flags);
 
+        case ArchiveCommand.COMMAND_WORD:
+            return new ArchiveCommand();
+
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(description, flags);
 
@@ -163,6 +172,9 @@ public class ElisaParser {
         case GameCommand.COMMAND_WORD:
             return new GameCommandParser().parse(description, "");
 
+        case FreeCommand.COMMAND_WORD:
+            return new FreeCommandParser().parse(description, flags);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -1,9 +1,16 @@
 package seedu.elisa.logic.parser;
 
 import static seedu.elisa.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_ARCHIVE;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_RANK;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Optional;
 
 import seedu.elisa.logic.commands.FindCommand;
 import seedu.elisa.logic.parser.exceptions.ParseException;
+import seedu.elisa.model.item.TagQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -15,17 +22,55 @@ public class FindCommandParser implements Parser<FindCommand> {
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String keywords, String empty) throws ParseException {
+    public FindCommand parse(String keywords, String flags) throws ParseException {
+        // account for the possibility that a flag is given last, with no space after it
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(flags + " ", PREFIX_ARCHIVE, PREFIX_RANK,
+                PREFIX_PAGE, PREFIX_TAG);
+        boolean isArchiveSearch = argMultimap.getValue(PREFIX_ARCHIVE).isPresent();
+
+        // Keywords may also follow the flags, as in "find --archive report"
+        String trimmedArgs = (keywords + " " + argMultimap.getValue(PREFIX_ARCHIVE).orElse("") + " "
+                + argMultimap.getValue(PREFIX_RANK).orElse("")).trim();
+        Optional<TagQuery> tagQuery = Optional.empty();
+        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
+            tagQuery = Optional.of(ParserUtil.parseTagQuery(argMultimap.getValue(PREFIX_TAG).get()));
+        }
+
+        // Keywords may be left out when the items are only filtered by their tags
+        if (trimmedArgs.isEmpty() && tagQuery.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        String[] keywordArray = trimmedArgs.isEmpty() ? new String[0] : trimmedArgs.split("\\s+");
+
+        // Asking for a page of the results implies that they are ranked
+        int rankedPage = 0;
+        if (argMultimap.getValue(PREFIX_PAGE).isPresent()) {
+            rankedPage = parsePage(argMultimap.getValue(PREFIX_PAGE).get());
+        } else if (argMultimap.getValue(PREFIX_RANK).isPresent()) {
+            rankedPage = 1;
+        }
 
-        String trimmedArgs = keywords.trim();
-        if (trimmedArgs.isEmpty()) {
+        if (rankedPage > 0 && keywordArray.length == 0) {
+            // There is nothing to rank the items by
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] keywordArray = trimmedArgs.split("\\s+");
+        return new FindCommand(keywordArray, isArchiveSearch, rankedPage, tagQuery.orElse(null));
+    }
 
-        return new FindCommand(keywordArray);
+    private static int parsePage(String page) throws ParseException {
+        try {
+            int parsedPage = Integer.parseInt(page.trim());
+            if (parsedPage >= 1) {
+                return parsedPage;
+            }
+        } catch (NumberFormatException e) {
+            // The page is not a number, which is reported below
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
 }
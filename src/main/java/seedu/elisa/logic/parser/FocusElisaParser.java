@@ -2,6 +2,7 @@ package seedu.elisa.logic.parser;
 
 import java.util.regex.Matcher;
 
+import seedu.elisa.logic.commands.ArchiveCommand;
 import seedu.elisa.logic.commands.Command;
 import seedu.elisa.logic.commands.DownCommand;
 import seedu.elisa.logic.commands.FindCommand;
@@ -36,6 +37,7 @@ public class FocusElisaParser extends ElisaParser {
         case SortCommand.COMMAND_WORD:
         case ShowCommand.COMMAND_WORD:
         case FindCommand.COMMAND_WORD:
+        case ArchiveCommand.COMMAND_WORD:
         case UpCommand.COMMAND_WORD:
         case DownCommand.COMMAND_WORD:
         case GameCommand.COMMAND_WORD:
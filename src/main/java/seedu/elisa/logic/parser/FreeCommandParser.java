@@ -0,0 +1,61 @@
+package seedu.elisa.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.elisa.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_MIN_DURATION;
+import static seedu.elisa.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import seedu.elisa.logic.commands.FreeCommand;
+import seedu.elisa.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FreeCommand object
+ */
+public class FreeCommandParser implements Parser<FreeCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The end of the range has to be after its start!";
+
+    /**
+     * Parses the given {@code description} and {@code args} of arguments in the context of the FreeCommand
+     * and returns a FreeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeCommand parse(String description, String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args + " ",
+                PREFIX_FROM, PREFIX_TO, PREFIX_MIN_DURATION);
+
+        if (!description.isBlank() || !argMultimap.getValue(PREFIX_FROM).isPresent()
+                || !argMultimap.getValue(PREFIX_TO).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        }
+
+        LocalDateTime from = ParserUtil.getFormattedDateTime(argMultimap.getValue(PREFIX_FROM).get().trim());
+        LocalDateTime to = ParserUtil.getFormattedDateTime(argMultimap.getValue(PREFIX_TO).get().trim());
+        if (!to.isAfter(from)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+
+        Duration minDuration = FreeCommand.DEFAULT_MIN_DURATION;
+        if (argMultimap.getValue(PREFIX_MIN_DURATION).isPresent()) {
+            minDuration = parseMinutes(argMultimap.getValue(PREFIX_MIN_DURATION).get().trim());
+        }
+        return new FreeCommand(from, to, minDuration);
+    }
+
+    private static Duration parseMinutes(String minutes) throws ParseException {
+        try {
+            long parsed = Long.parseLong(minutes);
+            if (parsed > 0) {
+                return Duration.ofMinutes(parsed);
+            }
+        } catch (NumberFormatException e) {
+            // Falls through to the error below
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+    }
+}
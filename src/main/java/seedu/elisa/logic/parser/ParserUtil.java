@@ -8,6 +8,7 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -23,6 +24,7 @@ import seedu.elisa.logic.parser.exceptions.InvalidDateException;
 import seedu.elisa.logic.parser.exceptions.MidnightParseException;
 import seedu.elisa.logic.parser.exceptions.ParseException;
 import seedu.elisa.model.AutoReschedulePeriod;
+import seedu.elisa.model.item.TagQuery;
 
 
 /**
@@ -202,6 +204,36 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses {@code String query} into a {@code TagQuery}. Tags joined by commas are alternatives, tags separated
+     * by spaces are all needed, and a tag starting with "!" must not be there, as in "work,home urgent !school".
+     *
+     * @throws ParseException if the given {@code query} is empty or has an invalid tag name.
+     */
+    public static TagQuery parseTagQuery(String query) throws ParseException {
+        requireNonNull(query);
+        String trimmedQuery = query.trim();
+        if (trimmedQuery.isEmpty()) {
+            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        List<List<String>> requiredGroups = new ArrayList<>();
+        List<String> excludedNames = new ArrayList<>();
+        for (String term : trimmedQuery.split("\\s+")) {
+            if (term.startsWith("!")) {
+                for (String tagName : term.substring(1).split(",", -1)) {
+                    excludedNames.add(parseTag(tagName).tagName);
+                }
+            } else {
+                List<String> group = new ArrayList<>();
+                for (String tagName : term.split(",", -1)) {
+                    group.add(parseTag(tagName).tagName);
+                }
+                requiredGroups.add(group);
+            }
+        }
+        return new TagQuery(requiredGroups, excludedNames);
+    }
+
     /**
      * Parses string {@code period} into an {@code Optional<AutoReschedulePeriod>} representation of the period.
      * @param period of the auto-reschedule. Expects "hour"/"day"/"week" or format "10.min.later"
@@ -0,0 +1,119 @@
+package seedu.elisa.model;
+
+import java.util.List;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.model.item.DescriptionIndex;
+import seedu.elisa.model.item.EventIndex;
+import seedu.elisa.model.item.TagIndex;
+import seedu.elisa.model.item.VisualizeList;
+
+/**
+ * The items taken out of the model by a clear, together with the lists that were derived from them and the view that
+ * was shown, so that the clear can be undone by putting them back instead of rebuilding them from the items.
+ * The lists are snapshots that share the immutable items, so nothing is copied when the model is cleared.
+ */
+public class ClearedItems {
+    private final ItemStorage itemStorage;
+    private final VisualizeList taskList;
+    private final VisualizeList eventList;
+    private final VisualizeList reminderList;
+    private final VisualizeList calendarList;
+    private final List<Item> futureReminders;
+    private final List<Item> activeReminders;
+    // The list that was shown and what it showed, which is one of the lists above or a list derived from them
+    private final VisualizeList visualList;
+    private final ViewDescriptor view;
+    // Handed back to the model by the first restore, as the model keeps updating them afterwards
+    private DescriptionIndex descriptionIndex;
+    private TagIndex tagIndex;
+    private EventIndex eventIndex;
+
+    ClearedItems(ItemStorage itemStorage, VisualizeList taskList, VisualizeList eventList,
+                 VisualizeList reminderList, VisualizeList calendarList, List<Item> futureReminders,
+                 List<Item> activeReminders, VisualizeList visualList, ViewDescriptor view,
+                 DescriptionIndex descriptionIndex, TagIndex tagIndex, EventIndex eventIndex) {
+        this.itemStorage = itemStorage;
+        this.taskList = taskList;
+        this.eventList = eventList;
+        this.reminderList = reminderList;
+        this.calendarList = calendarList;
+        this.futureReminders = futureReminders;
+        this.activeReminders = activeReminders;
+        this.visualList = visualList;
+        this.view = view;
+        this.descriptionIndex = descriptionIndex;
+        this.tagIndex = tagIndex;
+        this.eventIndex = eventIndex;
+    }
+
+    ItemStorage getItemStorage() {
+        return itemStorage;
+    }
+
+    VisualizeList getTaskList() {
+        return taskList;
+    }
+
+    VisualizeList getEventList() {
+        return eventList;
+    }
+
+    VisualizeList getReminderList() {
+        return reminderList;
+    }
+
+    VisualizeList getCalendarList() {
+        return calendarList;
+    }
+
+    List<Item> getFutureReminders() {
+        return futureReminders;
+    }
+
+    List<Item> getActiveReminders() {
+        return activeReminders;
+    }
+
+    VisualizeList getVisualList() {
+        return visualList;
+    }
+
+    ViewDescriptor getView() {
+        return view;
+    }
+
+    /**
+     * Returns the index of the descriptions of the cleared items, or null if it was already taken by a restore.
+     */
+    DescriptionIndex takeDescriptionIndex() {
+        DescriptionIndex taken = descriptionIndex;
+        descriptionIndex = null;
+        return taken;
+    }
+
+    /**
+     * Returns the index of the tags of the cleared items, or null if it was already taken by a restore.
+     */
+    TagIndex takeTagIndex() {
+        TagIndex taken = tagIndex;
+        tagIndex = null;
+        return taken;
+    }
+
+    /**
+     * Returns the index of the events of the cleared items, or null if it was already taken by a restore.
+     */
+    EventIndex takeEventIndex() {
+        EventIndex taken = eventIndex;
+        eventIndex = null;
+        return taken;
+    }
+
+    /**
+     * Returns the number of items that were cleared.
+     */
+    public int size() {
+        return itemStorage.size();
+    }
+}
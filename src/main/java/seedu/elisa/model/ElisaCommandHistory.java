@@ -25,4 +25,19 @@ public interface ElisaCommandHistory {
     public int sizeRedo();
 
     public void clearRedo();
+
+    /**
+     * Returns an estimate of the bytes held by the commands that can be undone or redone.
+     */
+    public long getRetainedBytes();
+
+    /**
+     * Drops the oldest commands if the history has grown past its bounds since they were last checked, such as when
+     * a command that was redone holds on to more than it did while it was undone.
+     */
+    public void trimToBounds();
+
+    public int getMaxDepth();
+
+    public long getMaxBytes();
 }
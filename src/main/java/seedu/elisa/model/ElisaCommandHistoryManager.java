@@ -1,31 +1,98 @@
 package seedu.elisa.model;
 
-import java.util.Stack;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
 
+import seedu.elisa.commons.core.LogsCenter;
 import seedu.elisa.logic.commands.Command;
+import seedu.elisa.logic.commands.RestoredCommand;
 import seedu.elisa.logic.commands.UndoableCommand;
+import seedu.elisa.model.UndoJournal.Operation;
 
 
 /**
- * Stores the stack of all application states with current state at the top
+ * Stores the stack of all application states with current state at the top.
+ * The history is bounded by the number of commands in it and by an estimate of the memory they hold on to. When
+ * either bound is passed, the oldest commands can no longer be undone, although the latest command always can.
+ * If an {@link UndoJournal} is set, the changes that the commands made to the items are logged to it, and the
+ * history left in it by the last run is read back the first time it is needed.
  */
 
 public class ElisaCommandHistoryManager implements ElisaCommandHistory {
-    private Stack<UndoableCommand> undoStack;
-    private Stack<UndoableCommand> redoStack;
+    // The smallest size of the journal at which it is compacted
+    private static final long MIN_COMPACTION_LENGTH = 256 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(ElisaCommandHistoryManager.class);
+
+    private final Deque<UndoableCommand> undoStack;
+    private final Deque<UndoableCommand> redoStack;
+    private final int maxDepth;
+    private final long maxBytes;
+
+    private UndoJournal undoJournal;
+    // The commands in the stacks that are in the journal, in the same order as they are in the stacks
+    private final Set<UndoableCommand> journaledCommands = Collections.newSetFromMap(new IdentityHashMap<>());
+    // The length of the journal left by the last run, which has not been read back yet unless this is 0
+    private long journalStart = 0;
+    // True if the history left by the last run was dropped before it was read back
+    private boolean hasDroppedJournal = false;
+    // True if the redo stack left by the last run was emptied before it was read back
+    private boolean hasClearedJournalRedo = false;
+    private long compactionLength = MIN_COMPACTION_LENGTH;
 
     public ElisaCommandHistoryManager() {
-        undoStack = new Stack<>();
-        redoStack = new Stack<>();
+        this(UserPrefs.DEFAULT_UNDO_HISTORY_DEPTH, UserPrefs.DEFAULT_UNDO_HISTORY_BYTES);
+    }
+
+    public ElisaCommandHistoryManager(int maxDepth, long maxBytes) {
+        if (maxDepth < 1 || maxBytes < 0) {
+            throw new IllegalArgumentException("The undo history must be able to hold at least one command");
+        }
+        undoStack = new ArrayDeque<>();
+        redoStack = new ArrayDeque<>();
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Logs the commands to the given journal from now on. The history in it is read back when it is first needed.
+     */
+    public void setUndoJournal(UndoJournal undoJournal) {
+        this.undoJournal = undoJournal;
+        this.journalStart = undoJournal.getLength();
+        this.compactionLength = Math.max(MIN_COMPACTION_LENGTH, 2 * journalStart);
     }
 
     /**
-     * push a command into undo stack
+     * push a command into undo stack, dropping the oldest commands if the history grows too large
      * */
     @Override
     public void pushUndo(Command command) {
         if (command instanceof UndoableCommand) {
             undoStack.push((UndoableCommand) command);
+            journal((UndoableCommand) command, Operation.PUSH);
+            evictOldest();
+        }
+    }
+
+    /**
+     * Drops the oldest commands of the undo stack until the history is within its bounds again.
+     */
+    private void evictOldest() {
+        long retainedBytes = sumRetainedBytes();
+        while (undoStack.size() > 1
+                && (undoStack.size() + redoStack.size() > maxDepth || retainedBytes > maxBytes)) {
+            UndoableCommand evicted = undoStack.removeLast();
+            journaledCommands.remove(evicted);
+            retainedBytes -= evicted.estimateRetainedBytes();
         }
     }
 
@@ -34,7 +101,15 @@ public class ElisaCommandHistoryManager implements ElisaCommandHistory {
      * */
     @Override
     public void clearRedo() {
+        boolean isRedoJournaled = journalStart > 0 && !hasClearedJournalRedo;
+        for (UndoableCommand command : redoStack) {
+            isRedoJournaled |= journaledCommands.remove(command);
+        }
         redoStack.clear();
+        if (isRedoJournaled) {
+            hasClearedJournalRedo = true;
+            appendToJournal(Operation.CLEAR_REDO, null);
+        }
     }
 
     /**
@@ -42,8 +117,10 @@ public class ElisaCommandHistoryManager implements ElisaCommandHistory {
      * */
     @Override
     public UndoableCommand popUndo() {
+        restoreJournal();
         UndoableCommand command = undoStack.pop();
-        pushRedo(command);
+        redoStack.push(command);
+        journal(command, Operation.UNDO);
         return command;
     }
 
@@ -52,6 +129,7 @@ public class ElisaCommandHistoryManager implements ElisaCommandHistory {
      * */
     @Override
     public UndoableCommand peekUndo() {
+        restoreJournal();
         return undoStack.peek();
     }
 
@@ -60,6 +138,7 @@ public class ElisaCommandHistoryManager implements ElisaCommandHistory {
      * */
     @Override
     public int sizeUndo() {
+        restoreJournal();
         return undoStack.size();
     }
 
@@ -72,21 +151,208 @@ public class ElisaCommandHistoryManager implements ElisaCommandHistory {
 
     @Override
     public UndoableCommand popRedo() {
+        restoreJournal();
         UndoableCommand command = redoStack.pop();
-        pushUndo(command);
+        undoStack.push(command);
+        journal(command, Operation.REDO);
+        evictOldest();
         return command;
     }
 
     @Override
     public UndoableCommand peekRedo() {
+        restoreJournal();
         return redoStack.peek();
     }
 
     @Override
     public int sizeRedo() {
+        restoreJournal();
         return redoStack.size();
     }
 
+    /**
+     * Logs an operation on the given command to the journal.
+     * Commands that only change the view are left out, as the view is not kept across runs. A command that
+     * changes the items in a way that cannot be logged drops the logged history, as the changes logged before it
+     * can no longer be undone once it is forgotten.
+     */
+    private void journal(UndoableCommand command, Operation operation) {
+        if (undoJournal == null) {
+            return;
+        }
+
+        Optional<UndoRecord> record = command.toUndoRecord();
+        if (record.isEmpty()) {
+            if (command.isMutating()) {
+                journaledCommands.clear();
+                hasDroppedJournal = true;
+                appendToJournal(Operation.CLEAR, null);
+            }
+        } else if (operation == Operation.PUSH) {
+            journaledCommands.add(command);
+            appendToJournal(operation, record.get());
+        } else if (journaledCommands.contains(command)) {
+            appendToJournal(operation, null);
+        }
+    }
+
+    private void appendToJournal(Operation operation, UndoRecord record) {
+        try {
+            undoJournal.append(operation, record);
+            if (undoJournal.getLength() > compactionLength) {
+                compactJournal();
+            }
+        } catch (IOException e) {
+            abandonJournal(e);
+        }
+    }
+
+    /**
+     * Rewrites the journal with only the commands that are still in the stacks.
+     */
+    private void compactJournal() throws IOException {
+        restoreJournal();
+        List<UndoRecord> undoRecords = new ArrayList<>();
+        undoStack.descendingIterator().forEachRemaining(command -> {
+            if (journaledCommands.contains(command)) {
+                undoRecords.add(command.toUndoRecord().get());
+            }
+        });
+        List<UndoRecord> redoRecords = new ArrayList<>();
+        for (UndoableCommand command : redoStack) {
+            if (journaledCommands.contains(command)) {
+                redoRecords.add(command.toUndoRecord().get());
+            }
+        }
+
+        undoJournal.rewrite(undoRecords, redoRecords);
+        compactionLength = Math.max(MIN_COMPACTION_LENGTH, 2 * undoJournal.getLength());
+    }
+
+    /**
+     * Stops logging to the journal after it could not be written, as it no longer matches the stacks. The journal
+     * is emptied if possible, so that the history in it is not read back in the next run.
+     */
+    private void abandonJournal(IOException cause) {
+        logger.warning("Could not save the undo history, so it will not be kept after ELISA is closed: " + cause);
+        UndoJournal abandoned = undoJournal;
+        undoJournal = null;
+        journaledCommands.clear();
+        journalStart = 0;
+        try {
+            abandoned.rewrite(List.of(), List.of());
+        } catch (IOException e) {
+            logger.warning("Could not empty the undo history either: " + e);
+        }
+    }
+
+    /**
+     * Reads back the history left in the journal by the last run, below the commands executed since.
+     * Until this is called, the only operations on the stacks are pushes of new commands, which empty the redo
+     * stack, so the commands read back only have to be put at the bottom of the undo stack.
+     */
+    private void restoreJournal() {
+        if (journalStart == 0) {
+            return;
+        }
+        long length = journalStart;
+        journalStart = 0;
+        if (hasDroppedJournal) {
+            return;
+        }
+
+        List<UndoJournal.Entry> entries;
+        try {
+            entries = undoJournal.read(length);
+        } catch (IOException e) {
+            logger.warning("Could not read back the undo history of the last run: " + e);
+            return;
+        }
+
+        Deque<UndoRecord> undoRecords = new ArrayDeque<>();
+        Deque<UndoRecord> redoRecords = new ArrayDeque<>();
+        for (UndoJournal.Entry entry : entries) {
+            replay(entry, undoRecords, redoRecords);
+        }
+        for (UndoRecord record : undoRecords) {
+            UndoableCommand command = new RestoredCommand(record);
+            undoStack.addLast(command);
+            journaledCommands.add(command);
+        }
+        if (!hasClearedJournalRedo) {
+            for (UndoRecord record : redoRecords) {
+                UndoableCommand command = new RestoredCommand(record);
+                redoStack.addLast(command);
+                journaledCommands.add(command);
+            }
+        }
+        evictOldest();
+        logger.info("Read back " + undoRecords.size() + " commands to undo from the last run");
+    }
+
+    private static void replay(UndoJournal.Entry entry, Deque<UndoRecord> undoRecords,
+                               Deque<UndoRecord> redoRecords) {
+        switch (entry.getOperation()) {
+        case PUSH:
+            undoRecords.push(entry.getRecord());
+            break;
+        case UNDO:
+            if (!undoRecords.isEmpty()) {
+                redoRecords.push(undoRecords.pop());
+            }
+            break;
+        case REDO:
+            if (!redoRecords.isEmpty()) {
+                undoRecords.push(redoRecords.pop());
+            }
+            break;
+        case CLEAR_REDO:
+            redoRecords.clear();
+            break;
+        default:
+            undoRecords.clear();
+            redoRecords.clear();
+        }
+    }
+
+    /**
+     * Returns the estimated bytes held by the commands in both stacks. The estimates are summed on every call, as
+     * a command holds on to more once it is executed again by a redo.
+     */
+    @Override
+    public long getRetainedBytes() {
+        restoreJournal();
+        return sumRetainedBytes();
+    }
+
+    @Override
+    public void trimToBounds() {
+        restoreJournal();
+        evictOldest();
+    }
+
+    private long sumRetainedBytes() {
+        long retainedBytes = 0;
+        for (UndoableCommand command : undoStack) {
+            retainedBytes += command.estimateRetainedBytes();
+        }
+        for (UndoableCommand command : redoStack) {
+            retainedBytes += command.estimateRetainedBytes();
+        }
+        return retainedBytes;
+    }
+
+    @Override
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    @Override
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -98,7 +364,7 @@ public class ElisaCommandHistoryManager implements ElisaCommandHistory {
         }
 
         ElisaCommandHistoryManager hm = (ElisaCommandHistoryManager) other;
-        return hm.redoStack.equals(this.redoStack)
-                && hm.undoStack.equals(this.undoStack);
+        return new ArrayList<>(hm.redoStack).equals(new ArrayList<>(this.redoStack))
+                && new ArrayList<>(hm.undoStack).equals(new ArrayList<>(this.undoStack));
     }
 }
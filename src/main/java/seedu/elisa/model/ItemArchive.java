@@ -0,0 +1,56 @@
+package seedu.elisa.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.exceptions.DataConversionException;
+
+/**
+ * A cold store for items that are no longer in use, such as completed tasks and past events.
+ * Archived items are kept out of the {@link ItemStorage}, so they are only read when they are asked for.
+ */
+public interface ItemArchive {
+
+    /**
+     * Adds the items to the archive without reading the items that are already archived.
+     * @throws IOException if the items could not be written to the archive.
+     */
+    void archive(List<Item> items) throws IOException;
+
+    /**
+     * Removes the item with the same id as the given item from the archive.
+     * @return true if the item was in the archive.
+     * @throws IOException if the archive could not be read or written.
+     * @throws DataConversionException if the archive is corrupted.
+     */
+    boolean unarchive(Item item) throws IOException, DataConversionException;
+
+    /**
+     * Reads every archived item, in the order they were archived.
+     * @throws IOException if the archive could not be read.
+     * @throws DataConversionException if the archive is corrupted.
+     */
+    List<Item> readArchivedItems() throws IOException, DataConversionException;
+
+    /**
+     * Reads the archived items whose description contains any of the search strings, ignoring case, in the order
+     * they were archived.
+     * @throws IOException if the archive could not be read.
+     * @throws DataConversionException if the archive is corrupted.
+     */
+    default List<Item> findArchivedItems(String[] searchStrings) throws IOException, DataConversionException {
+        List<Item> matches = new ArrayList<>();
+        for (Item item : readArchivedItems()) {
+            String description = item.getItemDescription().getDescription().toLowerCase();
+            for (String searchString : searchStrings) {
+                if (description.contains(searchString.toLowerCase())) {
+                    matches.add(item);
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+}
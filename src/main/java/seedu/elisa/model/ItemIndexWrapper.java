@@ -3,7 +3,8 @@ package seedu.elisa.model;
 import seedu.elisa.commons.core.item.Item;
 
 /**
- * Stores an item along with its indices in the separate item lists
+ * Stores an item along with its indices in the separate item lists.
+ * The indices are looked up by the id of the item, so they stay valid for edited versions of the item.
  * */
 
 public class ItemIndexWrapper {
@@ -1,19 +1,26 @@
 package seedu.elisa.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import javafx.beans.property.SimpleBooleanProperty;
 import seedu.elisa.commons.core.GuiSettings;
 import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.exceptions.DataConversionException;
 import seedu.elisa.commons.exceptions.IllegalValueException;
 import seedu.elisa.logic.commands.Command;
 import seedu.elisa.model.exceptions.IllegalListException;
 import seedu.elisa.model.item.ActiveRemindersList;
+import seedu.elisa.model.item.DescriptionIndex;
 import seedu.elisa.model.item.EventList;
 import seedu.elisa.model.item.FutureRemindersList;
+import seedu.elisa.model.item.TagQuery;
+import seedu.elisa.model.item.TimeSlot;
 import seedu.elisa.model.item.VisualizeList;
 
 /**
@@ -59,11 +66,35 @@ public interface ItemModel {
     /** Returns the AddressBook */
     ItemStorage getItemStorage();
 
+    /**
+     * Returns the version of the items in the model, which changes whenever the items are changed or replaced.
+     */
+    long getDataVersion();
+
+    /**
+     * Sets the cold store that old items are moved into.
+     */
+    void setItemArchive(ItemArchive itemArchive);
+
+    /**
+     * Moves the completed tasks and past events that are old enough into the archive.
+     * @return the number of items that were archived
+     */
+    int archiveOldItems(LocalDateTime now);
+
+    public VisualizeList showArchive() throws IOException, DataConversionException;
+
+    public VisualizeList findArchivedItem(String[] searchStrings) throws IOException, DataConversionException;
+
     public void addItem(Item item);
 
     public void addItem(ItemIndexWrapper wrapper);
 
-    public void replaceItem(Item item, Item newItem);
+    /**
+     * Replaces the item with the same id as {@code item}, in the storage or the archive, with {@code newItem}.
+     * @return false if there is no such item, in which case nothing is changed.
+     */
+    public boolean replaceItem(Item item, Item newItem);
 
     public Item deleteItem(int index);
 
@@ -71,16 +102,60 @@ public interface ItemModel {
 
     public VisualizeList getVisualList();
 
+    /**
+     * Returns the items in the visual list whose event overlaps the range from {@code from} up to but not
+     * including {@code to}, ordered by start time.
+     */
+    public List<Item> getEventsOverlapping(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the other items whose event overlaps the event of the item, including the later occurrences of events
+     * that recur.
+     */
+    public List<Item> findConflicts(Item item);
+
+    /**
+     * Returns the gaps between events in the range from {@code from} up to but not including {@code to} that last
+     * at least {@code minDuration}, in order.
+     */
+    public List<TimeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, Duration minDuration);
+
     public void setVisualList(String listString) throws IllegalValueException;
 
-    public void clear();
+    public ClearedItems clear();
+
+    public void restoreCleared(ClearedItems cleared);
 
     public void emptyLists();
 
     public VisualizeList findItem(String[] searchStrings);
 
+    /**
+     * Returns a snapshot of the index to find items in the current view with, which can be searched on another
+     * thread, or null if the view is of archived items, which are not in the index.
+     */
+    public DescriptionIndex snapshotDescriptionIndex();
+
+    public VisualizeList findTaggedItem(TagQuery query);
+
+    /**
+     * Ranks the items in the visual list by how well they match the search strings, and shows one page of them.
+     * @return the number of items that were ranked, over all the pages
+     */
+    public int rankItems(String[] searchStrings, int page, int pageSize);
+
     public void setVisualizeList(VisualizeList list);
 
+    /**
+     * Returns what the visual list shows, so that it can be shown again with {@link #setView(ViewDescriptor)}.
+     */
+    public ViewDescriptor getView();
+
+    /**
+     * Shows a view again, deriving it from the lists as they are now.
+     */
+    public void setView(ViewDescriptor view);
+
     public void sort();
 
     public void sort(Comparator<Item> comparator);
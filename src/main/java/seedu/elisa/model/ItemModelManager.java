@@ -2,46 +2,74 @@ package seedu.elisa.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.PriorityQueue;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.beans.property.SimpleBooleanProperty;
 import seedu.elisa.commons.core.GuiSettings;
+import seedu.elisa.commons.core.LogsCenter;
+import seedu.elisa.commons.core.item.Event;
 import seedu.elisa.commons.core.item.Item;
-import seedu.elisa.commons.core.item.Reminder;
 import seedu.elisa.commons.core.item.Task;
+import seedu.elisa.commons.exceptions.DataConversionException;
 import seedu.elisa.commons.exceptions.IllegalValueException;
 import seedu.elisa.logic.commands.Command;
 import seedu.elisa.model.exceptions.IllegalListException;
 import seedu.elisa.model.item.ActiveRemindersList;
 import seedu.elisa.model.item.CalendarList;
+import seedu.elisa.model.item.DescriptionIndex;
+import seedu.elisa.model.item.EventIndex;
 import seedu.elisa.model.item.EventList;
 import seedu.elisa.model.item.FutureRemindersList;
+import seedu.elisa.model.item.ItemDelta;
 import seedu.elisa.model.item.ReminderList;
+import seedu.elisa.model.item.SearchRanker;
+import seedu.elisa.model.item.TagIndex;
+import seedu.elisa.model.item.TagQuery;
 import seedu.elisa.model.item.TaskList;
+import seedu.elisa.model.item.TimeSlot;
 import seedu.elisa.model.item.VisualizeList;
 
 /**
  * Represents the model for ELISA
  */
 public class ItemModelManager implements ItemModel {
+    private static final Logger logger = LogsCenter.getLogger(ItemModelManager.class);
+    // How far ahead the occurrences of an event that recurs are checked for conflicts
+    private static final Duration CONFLICT_HORIZON = Duration.ofDays(28);
+
     private TaskList taskList;
     private EventList eventList;
     private ReminderList reminderList;
     private CalendarList calendarList;
     // The list to be used for visualizing in the Ui
     private VisualizeList visualList;
+    // What the visual list shows, so that it can be shown again after it changes
+    private ViewDescriptor view;
+    // The descriptions of the items in the item storage, for finding items without scanning the lists
+    private DescriptionIndex descriptionIndex = new DescriptionIndex();
+    private TagIndex tagIndex = new TagIndex();
+    private EventIndex eventIndex = new EventIndex();
     private final UserPrefs userPrefs;
     private ItemStorage itemStorage;
     private final ElisaCommandHistory elisaCommandHistory;
+    // The cold store of old items, or null if items are never archived
+    private ItemArchive itemArchive = null;
     private final JokeList jokeList;
     private SimpleBooleanProperty priorityMode = new SimpleBooleanProperty(false);
     private boolean systemToggle = false;
@@ -65,6 +93,7 @@ public class ItemModelManager implements ItemModel {
         this.reminderList = new ReminderList();
         this.calendarList = new CalendarList();
         this.visualList = taskList;
+        this.view = ViewDescriptor.of("T");
         this.itemStorage = itemStorage;
         this.userPrefs = new UserPrefs(userPrefs);
         this.elisaCommandHistory = elisaCommandHistory;
@@ -155,6 +184,118 @@ public class ItemModelManager implements ItemModel {
     public ItemStorage getItemStorage() {
         return itemStorage;
     }
+
+    @Override
+    public long getDataVersion() {
+        return itemStorage.getVersion();
+    }
+
+    @Override
+    public void setItemArchive(ItemArchive itemArchive) {
+        this.itemArchive = itemArchive;
+    }
+
+    /**
+     * Moves the completed tasks and past events that are older than the age set in the user prefs out of the item
+     * storage and into the archive. Tasks are aged from when they were completed, or from when they were created if
+     * they were completed before that was recorded, and events from when they end.
+     * Items with a reminder and events that are rescheduled automatically are never archived.
+     * @param now the current time
+     * @return the number of items that were archived
+     */
+    public int archiveOldItems(LocalDateTime now) {
+        if (itemArchive == null || userPrefs.getArchiveAfterDays() == 0) {
+            return 0;
+        }
+
+        LocalDateTime cutoff = now.minusDays(userPrefs.getArchiveAfterDays());
+        List<Item> oldItems = itemStorage.getItems().stream()
+                .filter(item -> isArchivable(item, cutoff))
+                .collect(Collectors.toList());
+        if (oldItems.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            itemArchive.archive(oldItems);
+        } catch (IOException e) {
+            logger.warning("Could not archive old items, so they are kept: " + e);
+            return 0;
+        }
+        for (Item item : oldItems) {
+            deleteItem(item);
+        }
+        logger.info("Archived " + oldItems.size() + " items");
+        return oldItems.size();
+    }
+
+    private static boolean isArchivable(Item item, LocalDateTime cutoff) {
+        if (item.hasReminder() || !(item.hasTask() || item.hasEvent())) {
+            return false;
+        }
+        if (item.hasTask()) {
+            Task task = item.getTask().get();
+            LocalDateTime completedDateTime = task.getCompletedDateTime().orElse(item.getCreationDateTime());
+            if (!task.isComplete() || !completedDateTime.isBefore(cutoff)) {
+                return false;
+            }
+        }
+        if (item.hasEvent()) {
+            Event event = item.getEvent().get();
+            return !event.hasAutoReschedule() && event.getEndDateTime().isBefore(cutoff);
+        }
+        return true;
+    }
+
+    /**
+     * Takes the item with the same id as the given item out of the archive, if it is there.
+     * @return true if the item was in the archive.
+     */
+    private boolean removeFromArchive(Item item) {
+        if (itemArchive == null) {
+            return false;
+        }
+        try {
+            return itemArchive.unarchive(item);
+        } catch (IOException | DataConversionException e) {
+            logger.warning("Could not take " + item + " out of the archive: " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Shows the archived items of the kind in the current view: events in the event and calendar views, and
+     * tasks otherwise. The archive is read every time it is shown, so it never stays in memory.
+     * @return the list of archived items
+     */
+    public VisualizeList showArchive() throws IOException, DataConversionException {
+        this.visualList = toArchiveView(itemArchive == null ? List.of() : itemArchive.readArchivedItems());
+        this.view = ViewDescriptor.ofArchive(view.getListKind(), visualList);
+        return this.visualList;
+    }
+
+    /**
+     * Find archived items based on their description, among the archived items of the kind in the current view.
+     * @param searchStrings the string to search for within the description
+     * @return the item list containing all the archived items that contain the search string
+     */
+    public VisualizeList findArchivedItem(String[] searchStrings) throws IOException, DataConversionException {
+        List<Item> matches = itemArchive == null ? List.of() : itemArchive.findArchivedItems(searchStrings);
+        // Only the matches are read from the archive, and find puts them in the same order as in the other views
+        this.visualList = toArchiveView(matches).find(searchStrings);
+        this.view = ViewDescriptor.ofArchive(view.getListKind(), visualList);
+        return this.visualList;
+    }
+
+    private VisualizeList toArchiveView(List<Item> archivedItems) {
+        VisualizeList view = visualList instanceof EventList || visualList instanceof CalendarList
+                ? new EventList()
+                : new TaskList();
+        for (Item item : archivedItems) {
+            view.add(item);
+        }
+        return view;
+    }
     //Above deals with storage
 
     //Edits state of model
@@ -164,8 +305,8 @@ public class ItemModelManager implements ItemModel {
      * @param item the item to be added to the program
      */
     public void addItem (Item item) {
-        addToSeparateList(item);
         itemStorage.add(item);
+        addToSeparateList(item);
     }
 
     /**
@@ -173,11 +314,43 @@ public class ItemModelManager implements ItemModel {
      * */
 
     public void addItem(ItemIndexWrapper wrapper) {
-        if (visualList.belongToList(wrapper.getItem())) {
-            visualList.addToIndex(wrapper.getVisual(), wrapper.getItem());
+        Item item = wrapper.getItem();
+        if (wrapper.getStorage() < 0) {
+            // The item was deleted from the archive, so it is put back there, and is only shown again if the archive
+            // is being shown
+            if (putBackIntoArchive(item)) {
+                if (view.getArchivedItems().isPresent() && visualList.belongToList(item)) {
+                    visualList.addToIndex(wrapper.getVisual(), item);
+                }
+            } else {
+                itemStorage.add(item);
+                addToSeparateList(item);
+            }
+            return;
+        }
+
+        if (visualList.belongToList(item)) {
+            visualList.addToIndex(wrapper.getVisual(), item);
         }
         addToSeparateList(wrapper);
-        itemStorage.add(wrapper.getStorage(), wrapper.getItem());
+        itemStorage.add(wrapper.getStorage(), item);
+    }
+
+    /**
+     * Puts an item that was deleted from the archive back into it.
+     * @return true if the item is in the archive again.
+     */
+    private boolean putBackIntoArchive(Item item) {
+        if (itemArchive == null) {
+            return false;
+        }
+        try {
+            itemArchive.archive(List.of(item));
+            return true;
+        } catch (IOException e) {
+            logger.warning("Could not put " + item + " back into the archive: " + e);
+            return false;
+        }
     }
 
     /**
@@ -185,37 +358,50 @@ public class ItemModelManager implements ItemModel {
      * @param item the item to be added into the lists
      */
     public void addToSeparateList(Item item) {
-        if (visualList.belongToList(item)) {
-            visualList.add(item);
-        }
-
-        if (item.hasTask()) {
-            taskList.add(item);
-            if (priorityMode.getValue()) {
-                sortedTask.offer(item);
-                getNextTask();
-            }
-        }
+        propagate(ItemDelta.added(item));
+    }
 
-        if (item.hasEvent()) {
-            eventList.add(item);
-            calendarList.add(item);
+    /**
+     * Applies a change made to the items to every list that holds items, including the priority queue.
+     * Each list finds the affected item through its own index, so no list is rescanned or rebuilt.
+     * @param delta the change made to the items
+     */
+    private void propagate(ItemDelta delta) {
+        updateIndexes(delta);
+        taskList.applyDelta(delta);
+        eventList.applyDelta(delta);
+        calendarList.applyDelta(delta);
+        reminderList.applyDelta(delta);
+        futureReminders.applyDelta(delta);
+        activeReminders.applyDelta(delta);
+        if (visualList != taskList && visualList != eventList
+                && visualList != calendarList && visualList != reminderList) {
+            visualList.applyDelta(delta);
         }
 
-        if (item.hasReminder()) {
-            reminderList.add(item);
-            if ((!futureReminders.contains(item))
-                    && item.getReminder().get().getOccurrenceDateTime().isAfter(LocalDateTime.now())) {
-                futureReminders.add(item);
+        if (priorityMode.getValue() && sortedTask != null) {
+            if (delta.getOldItem() != null) {
+                sortedTask.remove(delta.getOldItem());
+            }
+            if (delta.getNewItem() != null && delta.getNewItem().hasTask()) {
+                sortedTask.offer(delta.getNewItem());
             }
+            getNextTask();
         }
     }
 
+    private void updateIndexes(ItemDelta delta) {
+        descriptionIndex.applyDelta(delta);
+        tagIndex.applyDelta(delta);
+        eventIndex.applyDelta(delta);
+    }
+
     /**
      * add item to separate lists into given index
      * */
 
     public void addToSeparateList(ItemIndexWrapper wrapper) {
+        updateIndexes(ItemDelta.added(wrapper.getItem()));
         if (wrapper.getTask() != -1) {
             taskList.addToIndex(wrapper.getTask(), wrapper.getItem());
         }
@@ -264,18 +450,13 @@ public class ItemModelManager implements ItemModel {
      * @return the item that was deleted from the program
      */
     public Item deleteItem(Item item) {
-        visualList.remove(item);
-        taskList.remove(item);
-        eventList.remove(item);
-        calendarList.remove(item);
-        reminderList.remove(item);
-        futureReminders.remove(item);
-        activeReminders.remove(item);
-        itemStorage.remove(item);
-        if (priorityMode.getValue() && sortedTask != null) {
-            sortedTask.remove(item);
-            getNextTask();
+        if (itemStorage.indexOf(item) >= 0) {
+            itemStorage.remove(item);
+        } else {
+            // The item may have been archived since it was last seen, such as when its addition is undone
+            removeFromArchive(item);
         }
+        propagate(ItemDelta.removed(item));
         return item;
     }
 
@@ -314,6 +495,7 @@ public class ItemModelManager implements ItemModel {
         default:
             throw new IllegalValueException(String.format("%s is no a valid list", listString));
         }
+        this.view = ViewDescriptor.of(listString);
     }
 
     private void setVisualList(VisualizeList il) {
@@ -324,96 +506,23 @@ public class ItemModelManager implements ItemModel {
      * Replaces one item with another item.
      * @param item the item to be replace
      * @param newItem the item that will replace the previous item
+     * @return false if the item is neither in the storage nor in the archive, in which case nothing is changed
      */
-    public void replaceItem(Item item, Item newItem) {
+    public boolean replaceItem(Item item, Item newItem) {
         int index = itemStorage.indexOf(item);
 
         if (index >= 0) {
             itemStorage.setItem(index, newItem);
+        } else if (removeFromArchive(item)) {
+            // The item was archived since it was last seen, such as when its change is undone, so it comes back
+            itemStorage.add(newItem);
+        } else {
+            // The lists would otherwise add the new item, which the storage does not hold
+            return false;
         }
 
-        if ((index = taskList.indexOf(item)) >= 0) {
-            if (newItem.hasTask()) {
-                taskList.setItem(index, newItem);
-            } else {
-                taskList.remove(index);
-            }
-        }
-
-        if ((index = eventList.indexOf(item)) >= 0) {
-            if (newItem.hasEvent()) {
-                eventList.setItem(index, newItem);
-                calendarList.setItem(index, newItem);
-            } else {
-                eventList.remove(index);
-                calendarList.remove(index);
-            }
-        }
-
-        if ((index = calendarList.indexOf(item)) >= 0) {
-            if (newItem.hasEvent()) {
-                calendarList.setItem(index, newItem);
-            } else {
-                calendarList.remove(index);
-            }
-        }
-
-        if ((index = reminderList.indexOf(item)) >= 0) {
-            if (newItem.hasReminder()) {
-                reminderList.setItem(index, newItem);
-            } else {
-                reminderList.remove(index);
-            }
-
-            if (!item.getReminder().equals(newItem.getReminder())) {
-                if (newItem.getReminder().isEmpty()) {
-                    if (activeReminders.contains(item)) {
-                        activeReminders.remove(item);
-                    }
-
-                    if (futureReminders.contains(item)) {
-                        futureReminders.remove(item);
-                    }
-
-                } else {
-                    //means that newItem has a reminder that is diff from old reminder
-                    //if old had nothing just add to corresponding
-                    //if old had a reminder, remove it
-                    if (item.getReminder().isPresent()) {
-                        if (activeReminders.contains(item)) {
-                            activeReminders.remove(item);
-                        }
-
-                        if (futureReminders.contains(item)) {
-                            futureReminders.remove(item);
-                        }
-                    }
-                    Reminder newReminder = newItem.getReminder().get();
-
-                    if (newReminder.getOccurrenceDateTime().isAfter(LocalDateTime.now())) {
-                        //Add to futureReminders if it is to occur later.
-                        futureReminders.add(newItem);
-                        //Otherwise do not add
-                    }
-                }
-            }
-        }
-
-        if ((index = visualList.indexOf(item)) >= 0) {
-            if (visualList.belongToList(newItem)) {
-                visualList.setItem(index, newItem);
-            } else {
-                visualList.remove(index);
-            }
-        }
-
-        if (priorityMode.getValue()) {
-            sortedTask.remove(item);
-            if (newItem.hasTask()) {
-                sortedTask.offer(newItem);
-            }
-            getNextTask();
-        }
+        propagate(ItemDelta.replaced(item, newItem));
+        return true;
     }
 
     /**
@@ -424,7 +533,6 @@ public class ItemModelManager implements ItemModel {
      */
     public Item editItem(Item oldItem, Item newItem) {
         replaceItem(oldItem, newItem);
-        addToSeparateList(newItem);
         return newItem;
     }
 
@@ -434,22 +542,223 @@ public class ItemModelManager implements ItemModel {
      * @return the item list containing all the items that contain the search string
      */
     public VisualizeList findItem(String[] searchStrings) {
-        this.visualList = visualList.find(searchStrings);
+        this.visualList = visualList.find(searchStrings, getDescriptionIndex(view));
+        this.view = view.filter(searchStrings);
         return this.visualList;
     }
 
+    /**
+     * Finds the items whose tags pass the filter.
+     * @param query the filter on tags
+     * @return the item list containing all the items whose tags pass the filter
+     */
+    @Override
+    public VisualizeList findTaggedItem(TagQuery query) {
+        this.visualList = visualList.findTagged(query, getTagIndex(view));
+        this.view = view.filterTags(query);
+        return this.visualList;
+    }
+
+    @Override
+    public DescriptionIndex snapshotDescriptionIndex() {
+        DescriptionIndex index = getDescriptionIndex(view);
+        return index == null ? null : index.snapshot();
+    }
+
+    /**
+     * Returns the index to find items in the given view with, or null if the view is of archived items, which are
+     * not in the index.
+     */
+    private DescriptionIndex getDescriptionIndex(ViewDescriptor view) {
+        return view.getArchivedItems().isPresent() ? null : descriptionIndex;
+    }
+
+    private TagIndex getTagIndex(ViewDescriptor view) {
+        return view.getArchivedItems().isPresent() ? null : tagIndex;
+    }
+
+    private EventIndex getEventIndex(ViewDescriptor view) {
+        return view.getArchivedItems().isPresent() ? null : eventIndex;
+    }
+
+    /**
+     * Returns the other items whose event overlaps the event of the item, including the later occurrences of events
+     * that recur. The item need not have been added yet.
+     * @param item the item whose event is checked
+     * @return the items whose event overlaps, or an empty list if the item has no event
+     */
+    @Override
+    public List<Item> findConflicts(Item item) {
+        requireNonNull(item);
+        if (!item.hasEvent()) {
+            return List.of();
+        }
+        LocalDateTime start = item.getEvent().get().getStartDateTime();
+        return eventIndex.findConflicts(item, start.plus(CONFLICT_HORIZON));
+    }
+
+    /**
+     * Returns the gaps between all the events, whatever the current view, in the range from {@code from} up to but
+     * not including {@code to} that last at least {@code minDuration}, in order.
+     */
+    @Override
+    public List<TimeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        return eventIndex.findFreeSlots(from, to, minDuration);
+    }
+
+    /**
+     * Returns the items in the current visual list whose event overlaps the range from {@code from} up to but not
+     * including {@code to}, ordered by start time.
+     */
+    @Override
+    public List<Item> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        return visualList.findEventsOverlapping(from, to, getEventIndex(view));
+    }
+
     @Override
     public void setVisualizeList(VisualizeList list) {
         this.visualList = list;
     }
 
     /**
-     * Clears the storage for the current ELISA run.
+     * Returns what the visual list shows, remembering the visual list in it so that the view can be shown again
+     * without deriving it while the items do not change.
      */
-    public void clear() {
+    @Override
+    public ViewDescriptor getView() {
+        view.cacheDerivedList(visualList, getDataVersion());
+        return view;
+    }
+
+    /**
+     * Shows a view again. The list it was last derived as is shown if the items have not changed since, and the view
+     * is derived from the lists as they are now otherwise. Items edited since the view was last shown are shown as
+     * they are now, and items deleted since then are not shown.
+     * @param view the view to show
+     */
+    @Override
+    public void setView(ViewDescriptor view) {
+        requireNonNull(view);
+        Optional<VisualizeList> derivedList = view.getDerivedList(getDataVersion());
+        if (derivedList.isPresent()) {
+            // A list derived for a view is never changed in place without changing the data version
+            this.visualList = derivedList.get();
+            this.view = view;
+            return;
+        }
+
+        Optional<VisualizeList> archivedItems = view.getArchivedItems();
+        if (archivedItems.isPresent()) {
+            // The view takes on changes to the items, so it must not change the items kept by the descriptor
+            this.visualList = archivedItems.get().snapshot();
+        } else {
+            try {
+                setVisualList(view.getListKind());
+            } catch (IllegalValueException e) {
+                throw new AssertionError("A view is always made from a valid list", e);
+            }
+        }
+
+        for (ViewDescriptor.Step step : view.getSteps()) {
+            switch (step.getKind()) {
+            case FILTER:
+                this.visualList = visualList.find(step.getSearchStrings(), getDescriptionIndex(view));
+                break;
+            case FILTER_TAGS:
+                this.visualList = visualList.findTagged(step.getTagQuery(), getTagIndex(view));
+                break;
+            case RANK:
+                rankVisualList(step.getSearchStrings(), step.getPage(), step.getPageSize(), getDescriptionIndex(view));
+                break;
+            default:
+                if (step.getComparator().isPresent()) {
+                    sortVisualList(step.getComparator().get());
+                } else {
+                    this.visualList = visualList.sort(getEventIndex(view));
+                }
+            }
+        }
+        this.view = view;
+    }
+
+    /**
+     * Ranks the items in the current visual list by how well they match the search strings, and shows only one
+     * page of them, best matches first.
+     * @param searchStrings the strings that the items were found with
+     * @param page the page to show, counted from 1
+     * @param pageSize the number of items on a page
+     * @return the number of items that were ranked, over all the pages
+     */
+    @Override
+    public int rankItems(String[] searchStrings, int page, int pageSize) {
+        int rankedCount = visualList.size();
+        rankVisualList(searchStrings, page, pageSize, getDescriptionIndex(view));
+        this.view = view.rank(searchStrings, page, pageSize);
+        return rankedCount;
+    }
+
+    private void rankVisualList(String[] searchStrings, int page, int pageSize, DescriptionIndex index) {
+        if (index == null) {
+            // Archived items are not in the index, so the search strings are weighed among the shown items alone
+            index = new DescriptionIndex();
+            for (Item item : visualList) {
+                index.add(item);
+            }
+        }
+        SearchRanker ranker = new SearchRanker(searchStrings, index, LocalDateTime.now());
+        int skip = (int) Math.min((long) (page - 1) * pageSize, visualList.size());
+        this.visualList = visualList.rank(ranker, skip, pageSize);
+    }
+
+    /**
+     * Clears the storage for the current ELISA run, together with the reminders that have occurred.
+     */
+    public ClearedItems clear() {
+        ClearedItems cleared = new ClearedItems(itemStorage, taskList.snapshot(), eventList.snapshot(),
+                reminderList.snapshot(), calendarList.snapshot(), new ArrayList<>(futureReminders),
+                activeReminders.takeReminders(), visualList, view, descriptionIndex, tagIndex, eventIndex);
         setItemStorage(new ItemStorage());
+        descriptionIndex = new DescriptionIndex();
+        tagIndex = new TagIndex();
+        eventIndex = new EventIndex();
         emptyLists();
         this.visualList = taskList;
+        this.view = ViewDescriptor.of("T");
+        return cleared;
+    }
+
+    /**
+     * Puts back the items taken out by a clear, together with the reminders that had occurred and the view that was
+     * shown. Every list takes back its old items in a single change, so no item is added to a list, sorted or looked
+     * up again.
+     * @param cleared the items returned by the clear
+     */
+    public void restoreCleared(ClearedItems cleared) {
+        setItemStorage(cleared.getItemStorage());
+        taskList.restore(cleared.getTaskList());
+        eventList.restore(cleared.getEventList());
+        reminderList.restore(cleared.getReminderList());
+        calendarList.restore(cleared.getCalendarList());
+        futureReminders.restore(cleared.getFutureReminders());
+        activeReminders.restoreReminders(cleared.getActiveReminders());
+        // The lists were restored in place, so a view of one of them shows the restored items
+        this.visualList = cleared.getVisualList();
+        this.view = cleared.getView();
+
+        descriptionIndex = cleared.takeDescriptionIndex();
+        tagIndex = cleared.takeTagIndex();
+        eventIndex = cleared.takeEventIndex();
+        if (descriptionIndex == null) {
+            // The indexes went to an earlier restore of the same items and have changed since, so they are rebuilt
+            descriptionIndex = new DescriptionIndex();
+            tagIndex = new TagIndex();
+            eventIndex = new EventIndex();
+            for (Item item : itemStorage.getItems()) {
+                descriptionIndex.add(item);
+                tagIndex.add(item);
+                eventIndex.add(item);
+            }
+        }
     }
 
     /**
@@ -461,13 +770,17 @@ public class ItemModelManager implements ItemModel {
         reminderList.clear();
         calendarList.clear();
         futureReminders.clear();
+        descriptionIndex.clear();
+        tagIndex.clear();
+        eventIndex.clear();
     }
 
     /**
      * Sort the current visual list.
      */
     public void sort() {
-        this.visualList = visualList.sort();
+        this.visualList = visualList.sort(getEventIndex(view));
+        this.view = view.sort(null);
     }
 
     /**
@@ -475,7 +788,12 @@ public class ItemModelManager implements ItemModel {
      * @param comparator the comparator to sort the current list by.
      */
     public void sort(Comparator<Item> comparator) {
-        VisualizeList tempList = visualList.deepCopy();
+        sortVisualList(comparator);
+        this.view = view.sort(comparator);
+    }
+
+    private void sortVisualList(Comparator<Item> comparator) {
+        VisualizeList tempList = visualList.snapshot();
         tempList.sort(comparator);
         this.visualList = tempList;
     }
@@ -561,6 +879,7 @@ public class ItemModelManager implements ItemModel {
         focusMode.set(false);
         if (visualList instanceof TaskList) {
             this.visualList = taskList;
+            this.view = ViewDescriptor.of("T");
         }
         priorityMode.setValue(false);
     }
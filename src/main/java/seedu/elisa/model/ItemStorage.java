@@ -2,54 +2,82 @@ package seedu.elisa.model;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.elisa.commons.core.LogsCenter;
 import seedu.elisa.commons.core.item.Item;
 import seedu.elisa.commons.exceptions.DataConversionException;
 import seedu.elisa.commons.exceptions.DuplicateItemException;
 import seedu.elisa.commons.util.JsonUtil;
+import seedu.elisa.model.item.ItemDelta;
+import seedu.elisa.model.item.ItemPositions;
 
 /**
  * The central storage of all the items in the program.
+ * Items are kept in insertion order, which is also the order they are saved in. Items are located by their id
+ * through an {@link ItemPositions} index, and a hash set of the items backs the duplicate check and
+ * {@link #contains(Item)}, so none of these operations have to scan the list. Inserting or removing an item in the
+ * middle still shifts the items after it, and the index is recomputed once every
+ * {@link ItemPositions#MAX_SHIFTS} such changes.
  */
 public class ItemStorage {
+    // Beyond this many unsaved changes, the storage has to be saved in full instead
+    public static final int MAX_UNSAVED_CHANGES = 1000;
+
     private static final Logger logger = LogsCenter.getLogger(ItemModelManager.class);
+    private static final AtomicLong lastVersion = new AtomicLong();
 
     private ArrayList<Item> items = new ArrayList<>();
+    private HashSet<Item> contents = new HashSet<>();
+    private ItemPositions positions = new ItemPositions();
+    // True if the items may be shared with a snapshot, in which case they are copied before the next change
+    private boolean shared = false;
+    // Changes since the storage was last saved, or null if there were too many to keep track of
+    private ArrayList<ItemDelta> unsavedChanges = new ArrayList<>();
+    // Versions are unique across all item storages, so that replacing the storage also changes the version
+    private long version = lastVersion.incrementAndGet();
+    // Storages with the same origin hold the same data at different points in time
+    private Object origin = new Object();
 
     /**
      * Adds an item to the item list.
      * @param item the item to be added to the item list.
      */
     public void add(Item item) throws DuplicateItemException {
-        if (items.contains(item)) {
-            throw new DuplicateItemException();
-        }
-        items.add(item);
+        add(items.size(), item);
     }
 
     /**
      * add item into specified index
      * */
     public void add(int targetIndex, Item item) throws DuplicateItemException {
-        if (items.contains(item)) {
+        if (contents.contains(item) || positions.contains(items, item)) {
             throw new DuplicateItemException();
         }
+        ensureUnshared();
         items.add(targetIndex, item);
+        contents.add(item);
+        positions.added(items, targetIndex, item);
+        recordChange(ItemDelta.added(item, targetIndex));
     }
 
     /**
      * Retrieve the item list.
-     * @return the item list.
+     * @return an unmodifiable view of the item list.
      */
-    public ArrayList<Item> getItems() {
-        return this.items;
+    public List<Item> getItems() {
+        return Collections.unmodifiableList(items);
     }
 
     /**
@@ -70,32 +98,48 @@ public class ItemStorage {
     }
 
     /**
-     * Returns if the storage already contains the item.
+     * Returns if the storage already contains an item with the same fields as the given item.
      * @param item the item to be searched for
      * @return
      */
     public boolean contains(Item item) {
-        return items.contains(item);
+        return contents.contains(item);
     }
 
     /**
-     * Remove the item from within the storage.
+     * Remove the item with the same id as the given item from within the storage.
      * @param item the item to be removed from the storage.
      * @return
      */
     public Item remove(Item item) {
-        items.remove(item);
+        int index = indexOf(item);
+        if (index >= 0) {
+            ensureUnshared();
+            Item removed = items.remove(index);
+            contents.remove(removed);
+            positions.removed(index, removed);
+            recordChange(ItemDelta.removed(removed));
+        }
         return item;
     }
 
     /**
-     * Returns the index of the item in the storage. If the item is not in the storage,
-     * a index of -1 is returned.
+     * Returns the index of the item with the same id as the given item in the storage.
+     * If the item is not in the storage, a index of -1 is returned.
      * @param item the item to be searched for.
      * @return the index of the item in the storage.
      */
     public int indexOf(Item item) {
-        return items.indexOf(item);
+        return positions.indexOf(items, item);
+    }
+
+    /**
+     * Returns the index of the item with the given id in the storage, or -1 if there is no such item.
+     * @param id the id of the item to be searched for.
+     * @return the index of the item in the storage.
+     */
+    public int indexOf(long id) {
+        return positions.indexOf(items, id);
     }
 
     /**
@@ -105,7 +149,108 @@ public class ItemStorage {
      * @return
      */
     public Item setItem(int index, Item newItem) {
-        return items.set(index, newItem);
+        ensureUnshared();
+        Item oldItem = items.set(index, newItem);
+        contents.remove(oldItem);
+        contents.add(newItem);
+        positions.replaced(index, oldItem, newItem);
+        recordChange(ItemDelta.replaced(oldItem, newItem));
+        return oldItem;
+    }
+
+    /**
+     * Returns the changes made to the storage since this method was last called, so that they can be saved
+     * without saving the whole storage. Returns an empty Optional if there were too many changes to keep track of,
+     * in which case the whole storage has to be saved.
+     */
+    public Optional<List<ItemDelta>> takeUnsavedChanges() {
+        List<ItemDelta> changes = unsavedChanges;
+        unsavedChanges = new ArrayList<>();
+        return Optional.ofNullable(changes);
+    }
+
+    /**
+     * Forgets the unsaved changes, so that the whole storage is saved the next time it is saved. A save that
+     * failed after taking the changes may have left the save file in a state that the changes no longer apply to.
+     */
+    public void forgetUnsavedChanges() {
+        unsavedChanges = null;
+    }
+
+    /**
+     * Takes a snapshot of this storage to be saved, handing the unsaved changes over to the snapshot.
+     * Unlike {@link #snapshot()}, the snapshot is considered the same storage as this storage, so that only its
+     * changes have to be saved.
+     * @return a storage with the same items as this storage and its unsaved changes
+     */
+    public ItemStorage snapshotForSave() {
+        ItemStorage itemStorage = snapshot();
+        itemStorage.origin = origin;
+        itemStorage.version = version;
+        itemStorage.unsavedChanges = unsavedChanges;
+        unsavedChanges = new ArrayList<>();
+        return itemStorage;
+    }
+
+    /**
+     * Returns true if both storages hold the same data at different points in time, i.e. one storage is a snapshot
+     * taken for saving of the other.
+     */
+    public boolean hasSameOrigin(ItemStorage other) {
+        return other != null && origin == other.origin;
+    }
+
+    /**
+     * Puts the unsaved changes of an earlier snapshot of the same storage before the unsaved changes of this
+     * storage, so that the earlier snapshot no longer has to be saved.
+     * @param earlier an earlier snapshot taken for saving of the same storage
+     */
+    public void addEarlierUnsavedChanges(ItemStorage earlier) {
+        if (!hasSameOrigin(earlier)) {
+            return;
+        }
+        if (earlier.unsavedChanges == null || unsavedChanges == null
+                || earlier.unsavedChanges.size() + unsavedChanges.size() > MAX_UNSAVED_CHANGES) {
+            unsavedChanges = null;
+            return;
+        }
+        ArrayList<ItemDelta> changes = new ArrayList<>(earlier.unsavedChanges);
+        changes.addAll(unsavedChanges);
+        unsavedChanges = changes;
+    }
+
+    /**
+     * Returns the version of the items in this storage. The version changes whenever the items are changed.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Remembers a change until the storage is saved.
+     */
+    private void recordChange(ItemDelta change) {
+        version = lastVersion.incrementAndGet();
+        if (unsavedChanges == null) {
+            return;
+        }
+        if (unsavedChanges.size() >= MAX_UNSAVED_CHANGES) {
+            unsavedChanges = null;
+        } else {
+            unsavedChanges.add(change);
+        }
+    }
+
+    /**
+     * Gives this storage its own copy of the items if they may be shared with a snapshot.
+     */
+    private void ensureUnshared() {
+        if (shared) {
+            items = new ArrayList<>(items);
+            contents = new HashSet<>(contents);
+            positions = positions.copy();
+            shared = false;
+        }
     }
 
     /**
@@ -125,25 +270,98 @@ public class ItemStorage {
      * @throws DataConversionException when the item is not in a proper format
      */
     public static ItemStorage fromJson(String jsonString) throws IOException, DataConversionException {
-        ItemStorage itemStorage = new ItemStorage();
-        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
-        Iterator<JsonNode> it = node.iterator();
-        while (it.hasNext()) {
-            String json = it.next().toString();
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            return fromJson(parser);
+        }
+    }
+
+    /**
+     * Creates the item storage from the JSON array of items that the parser is at, reading one item at a time.
+     * Items that are corrupted are skipped, as are items that are already in the storage.
+     * @param parser the parser at the start of the JSON array of items.
+     * @return the item storage with all items added
+     * @throws IOException when the JSON cannot be read
+     * @throws DataConversionException when the JSON is not an array of items, or an item is missing a field
+     */
+    public static ItemStorage fromJson(JsonParser parser) throws IOException, DataConversionException {
+        return fromReadItems(readItems(parser));
+    }
+
+    /**
+     * Reads the items in the JSON array that the parser is at, one item at a time.
+     * @param parser the parser at the start of the JSON array of items.
+     * @return the items in the order they were saved, with null in place of every record that is corrupted
+     * @throws IOException when the JSON cannot be read
+     * @throws DataConversionException when the JSON is not an array of items, or an item is missing a field
+     */
+    public static List<Item> readItems(JsonParser parser) throws IOException, DataConversionException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new DataConversionException(new IOException("Expected an array of items"));
+        }
+
+        ArrayList<Item> readItems = new ArrayList<>();
+        JsonStreamContext arrayContext = parser.getParsingContext();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
             try {
-                Item item = Item.fromJson(json);
-                itemStorage.add(item);
+                readItems.add(Item.fromJson(parser));
             } catch (NullPointerException e) {
                 throw new DataConversionException(e);
-            } catch (DuplicateItemException e) {
-                logger.log(Level.INFO, String.format("%s already exists. Skipping.", json));
             } catch (IllegalArgumentException e) {
-                logger.log(Level.WARNING, String.format("%s is corrupted and will be skipped.", json));
+                readItems.add(null);
+                skipToEndOfRecord(parser, arrayContext);
             }
         }
+        return readItems;
+    }
+
+    /**
+     * Creates the item storage from the items read by {@link #readItems(JsonParser)}. Records that are corrupted
+     * are skipped, as are items that are already in the storage. If any item had no id in the save file, the
+     * storage does not keep track of its changes, so that it is saved in full with the new ids.
+     * @param readItems the items in the order they were saved, with null in place of corrupted records
+     * @return the item storage with all items added
+     */
+    public static ItemStorage fromReadItems(List<Item> readItems) {
+        ItemStorage itemStorage = new ItemStorage();
+        boolean hasNewIds = false;
+        int recordNumber = 0;
+        for (Item item : readItems) {
+            recordNumber++;
+            if (item == null) {
+                logger.log(Level.WARNING, String.format("Item %d is corrupted and will be skipped.", recordNumber));
+                continue;
+            }
+
+            hasNewIds |= item.isIdMissingFromSave();
+            try {
+                itemStorage.add(item);
+            } catch (DuplicateItemException e) {
+                logger.log(Level.INFO, String.format("%s already exists. Skipping.", item));
+            }
+        }
+        if (hasNewIds) {
+            // The save file does not know the new ids, so changes saved by id would not apply to it
+            logger.info("Items without ids were given new ids, so the storage will be saved in full.");
+            itemStorage.unsavedChanges = null;
+        } else {
+            // The storage is exactly what was saved
+            itemStorage.unsavedChanges.clear();
+        }
         return itemStorage;
     }
 
+    /**
+     * Moves the parser past the rest of a record that could not be read, to the last token of the record.
+     * @param arrayContext the context of the array that holds the records.
+     */
+    private static void skipToEndOfRecord(JsonParser parser, JsonStreamContext arrayContext) throws IOException {
+        while (parser.getParsingContext() != arrayContext) {
+            if (parser.nextToken() == null) {
+                throw new IOException("Unexpected end of the items");
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -157,6 +375,21 @@ public class ItemStorage {
         }
     }
 
+    /**
+     * Takes a snapshot of this item storage. The snapshot shares the items of this storage until either storage
+     * is changed, so taking a snapshot takes constant time.
+     * @return a storage with the same items as this storage
+     */
+    public ItemStorage snapshot() {
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.items = items;
+        itemStorage.contents = contents;
+        itemStorage.positions = positions;
+        itemStorage.shared = true;
+        shared = true;
+        return itemStorage;
+    }
+
     /**
      * Returns a deep copy of this item storage.
      * @return deep copy of the item storage
@@ -2,7 +2,9 @@ package seedu.elisa.model;
 
 import java.nio.file.Path;
 
+import seedu.elisa.commons.core.FsyncPolicy;
 import seedu.elisa.commons.core.GuiSettings;
+import seedu.elisa.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,45 @@ public interface ReadOnlyUserPrefs {
 
     Path getItemStorageFilePath();
 
+    /**
+     * Returns the longest time, in milliseconds, that changes to the items may wait before they are saved.
+     */
+    long getMaxSaveDelay();
+
+    /**
+     * Returns how often saved items are forced onto the disk.
+     */
+    FsyncPolicy getFsyncPolicy();
+
+    /**
+     * Returns the number of earlier data files that are kept as backups.
+     */
+    int getBackupCount();
+
+    /**
+     * Returns true if the items are decoded on several cores when they are loaded.
+     */
+    boolean isParallelLoad();
+
+    /**
+     * Returns the format that the items are saved in.
+     */
+    StorageFormat getStorageFormat();
+
+    /**
+     * Returns the number of days after which completed tasks and past events are archived, or 0 if they are never
+     * archived.
+     */
+    int getArchiveAfterDays();
+
+    /**
+     * Returns the number of commands that can be undone.
+     */
+    int getUndoHistoryDepth();
+
+    /**
+     * Returns the estimated number of bytes that the commands kept for undo and redo may hold on to.
+     */
+    long getUndoHistoryBytes();
+
 }
@@ -88,7 +88,6 @@ public class RescheduleTask extends TimerTask {
             @Override
             public void run() {
                 model.replaceItem(oldItem, newItem);
-                model.repopulateLists();
                 model.setVisualizeList(model.getVisualList()); // to refresh the view
             }
         });
@@ -0,0 +1,74 @@
+package seedu.elisa.model;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A log of the changes made to the undo and redo stacks, so that the commands can still be undone after ELISA is
+ * restarted. Only the operations are appended as commands are executed, and the log is read back when the
+ * history is first needed.
+ */
+public interface UndoJournal {
+
+    /**
+     * The operations on the undo and redo stacks that are logged.
+     */
+    enum Operation {
+        // A command was pushed onto the undo stack
+        PUSH,
+        // The top of the undo stack was moved onto the redo stack
+        UNDO,
+        // The top of the redo stack was moved back onto the undo stack
+        REDO,
+        // The redo stack was emptied
+        CLEAR_REDO,
+        // Both stacks were emptied, as a command that cannot be logged changed the items
+        CLEAR
+    }
+
+    /**
+     * An operation read back from the log, with the change that was pushed if it is a push.
+     */
+    class Entry {
+        private final Operation operation;
+        private final UndoRecord record;
+
+        public Entry(Operation operation, UndoRecord record) {
+            this.operation = operation;
+            this.record = record;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+
+        public UndoRecord getRecord() {
+            return record;
+        }
+    }
+
+    /**
+     * Appends an operation to the log. The record is only given for a push, and is null otherwise.
+     * @throws IOException if the log could not be written.
+     */
+    void append(Operation operation, UndoRecord record) throws IOException;
+
+    /**
+     * Returns the length of the log in bytes.
+     */
+    long getLength();
+
+    /**
+     * Reads the operations in the first {@code length} bytes of the log, skipping any that cannot be read.
+     * @throws IOException if the log could not be read.
+     */
+    List<Entry> read(long length) throws IOException;
+
+    /**
+     * Replaces the log with the shortest one that leads to the given stacks.
+     * @param undoRecords the changes on the undo stack, from the bottom to the top.
+     * @param redoRecords the changes on the redo stack, from the top to the bottom.
+     * @throws IOException if the log could not be written.
+     */
+    void rewrite(List<UndoRecord> undoRecords, List<UndoRecord> redoRecords) throws IOException;
+}
@@ -0,0 +1,138 @@
+package seedu.elisa.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.elisa.commons.core.LogsCenter;
+import seedu.elisa.commons.core.item.Item;
+
+/**
+ * The change an undoable command made to the items, in a form that can be saved so that the command can still be
+ * undone after ELISA is restarted.
+ * An added item is deleted again, a deleted item is added back, and a replaced item is put back in place of the
+ * item that replaced it.
+ */
+public class UndoRecord {
+
+    /**
+     * The kinds of changes that can be undone.
+     */
+    public enum Kind {
+        ADDED, DELETED, REPLACED
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(UndoRecord.class);
+
+    private final String commandWord;
+    private final Kind kind;
+    private final Item before; // null if the item was added
+    private final Item after; // null if the item was deleted
+
+    public UndoRecord(String commandWord, Kind kind, Item before, Item after) {
+        requireNonNull(commandWord);
+        requireNonNull(kind);
+        assert (kind == Kind.ADDED || before != null) && (kind == Kind.DELETED || after != null);
+        this.commandWord = commandWord;
+        this.kind = kind;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static UndoRecord added(String commandWord, Item item) {
+        return new UndoRecord(commandWord, Kind.ADDED, null, item);
+    }
+
+    public static UndoRecord deleted(String commandWord, Item item) {
+        return new UndoRecord(commandWord, Kind.DELETED, item, null);
+    }
+
+    public static UndoRecord replaced(String commandWord, Item before, Item after) {
+        return new UndoRecord(commandWord, Kind.REPLACED, before, after);
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Item getBefore() {
+        return before;
+    }
+
+    public Item getAfter() {
+        return after;
+    }
+
+    /**
+     * Reverts the change in the model.
+     */
+    public void undo(ItemModel model) {
+        switch (kind) {
+        case ADDED:
+            model.deleteItem(after);
+            break;
+        case DELETED:
+            // The deletion may already be undone if ELISA stopped before the history was written
+            if (model.getItemStorage().indexOf(before.getId()) < 0) {
+                model.addItem(before);
+            }
+            break;
+        default:
+            // The item may be missing if the history was written but the items were not saved before ELISA stopped
+            if (!model.replaceItem(after, before)) {
+                logger.warning("Could not undo " + commandWord + ", as the item is no longer there: " + after);
+            }
+        }
+    }
+
+    /**
+     * Makes the change in the model again.
+     */
+    public void redo(ItemModel model) {
+        switch (kind) {
+        case ADDED:
+            if (model.getItemStorage().indexOf(after.getId()) < 0) {
+                model.addItem(after);
+            }
+            break;
+        case DELETED:
+            model.deleteItem(before);
+            break;
+        default:
+            if (!model.replaceItem(before, after)) {
+                logger.warning("Could not redo " + commandWord + ", as the item is no longer there: " + before);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof UndoRecord)) {
+            return false;
+        }
+
+        UndoRecord otherRecord = (UndoRecord) other;
+        return commandWord.equals(otherRecord.commandWord)
+                && kind == otherRecord.kind
+                && Objects.equals(before, otherRecord.before)
+                && Objects.equals(after, otherRecord.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(commandWord, kind, before, after);
+    }
+
+    @Override
+    public String toString() {
+        return commandWord + " " + kind + ": " + before + " -> " + after;
+    }
+}
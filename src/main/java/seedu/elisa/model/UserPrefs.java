@@ -6,15 +6,31 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.elisa.commons.core.FsyncPolicy;
 import seedu.elisa.commons.core.GuiSettings;
+import seedu.elisa.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_MAX_SAVE_DELAY = 1000;
+    public static final int DEFAULT_BACKUP_COUNT = 2;
+    public static final int DEFAULT_ARCHIVE_AFTER_DAYS = 30;
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 100;
+    public static final long DEFAULT_UNDO_HISTORY_BYTES = 8 * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "itemstorage.json");
+    private long maxSaveDelay = DEFAULT_MAX_SAVE_DELAY;
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.BATCHED;
+    private int backupCount = DEFAULT_BACKUP_COUNT;
+    private boolean isParallelLoad = false;
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private int archiveAfterDays = DEFAULT_ARCHIVE_AFTER_DAYS;
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
+    private long undoHistoryBytes = DEFAULT_UNDO_HISTORY_BYTES;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +52,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setItemStorageFilePath(newUserPrefs.getItemStorageFilePath());
+        setMaxSaveDelay(newUserPrefs.getMaxSaveDelay());
+        setFsyncPolicy(newUserPrefs.getFsyncPolicy());
+        setBackupCount(newUserPrefs.getBackupCount());
+        setParallelLoad(newUserPrefs.isParallelLoad());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setArchiveAfterDays(newUserPrefs.getArchiveAfterDays());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoHistoryBytes(newUserPrefs.getUndoHistoryBytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +80,102 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getMaxSaveDelay() {
+        return maxSaveDelay;
+    }
+
+    /**
+     * Sets the longest time, in milliseconds, that changes to the items may wait before they are saved.
+     */
+    public void setMaxSaveDelay(long maxSaveDelay) {
+        if (maxSaveDelay < 0) {
+            throw new IllegalArgumentException("The maximum save delay cannot be negative");
+        }
+        this.maxSaveDelay = maxSaveDelay;
+    }
+
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        requireNonNull(fsyncPolicy);
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    public int getBackupCount() {
+        return backupCount;
+    }
+
+    /**
+     * Sets the number of earlier data files that are kept as backups.
+     */
+    public void setBackupCount(int backupCount) {
+        if (backupCount < 0) {
+            throw new IllegalArgumentException("The number of backups cannot be negative");
+        }
+        this.backupCount = backupCount;
+    }
+
+    public boolean isParallelLoad() {
+        return isParallelLoad;
+    }
+
+    public void setParallelLoad(boolean isParallelLoad) {
+        this.isParallelLoad = isParallelLoad;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public int getArchiveAfterDays() {
+        return archiveAfterDays;
+    }
+
+    /**
+     * Sets the number of days after which completed tasks and past events are archived, or 0 to never archive them.
+     */
+    public void setArchiveAfterDays(int archiveAfterDays) {
+        if (archiveAfterDays < 0) {
+            throw new IllegalArgumentException("The number of days before archiving cannot be negative");
+        }
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the number of commands that can be undone.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        if (undoHistoryDepth < 1) {
+            throw new IllegalArgumentException("At least one command has to be kept for undo");
+        }
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public long getUndoHistoryBytes() {
+        return undoHistoryBytes;
+    }
+
+    /**
+     * Sets the estimated number of bytes that the commands kept for undo and redo may hold on to.
+     */
+    public void setUndoHistoryBytes(long undoHistoryBytes) {
+        if (undoHistoryBytes < 0) {
+            throw new IllegalArgumentException("The memory kept for undo cannot be negative");
+        }
+        this.undoHistoryBytes = undoHistoryBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +188,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && maxSaveDelay == o.maxSaveDelay
+                && fsyncPolicy == o.fsyncPolicy
+                && backupCount == o.backupCount
+                && isParallelLoad == o.isParallelLoad
+                && storageFormat == o.storageFormat
+                && archiveAfterDays == o.archiveAfterDays
+                && undoHistoryDepth == o.undoHistoryDepth
+                && undoHistoryBytes == o.undoHistoryBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, maxSaveDelay, fsyncPolicy, backupCount, isParallelLoad,
+                storageFormat, archiveAfterDays, undoHistoryDepth, undoHistoryBytes);
     }
 
     @Override
@@ -81,6 +210,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nMaximum save delay : " + maxSaveDelay + "ms");
+        sb.append("\nFsync policy : " + fsyncPolicy);
+        sb.append("\nBackups kept : " + backupCount);
+        sb.append("\nParallel load : " + isParallelLoad);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nArchive after : " + archiveAfterDays + " days");
+        sb.append("\nUndo history : " + undoHistoryDepth + " commands, " + undoHistoryBytes + " bytes");
         return sb.toString();
     }
 
@@ -0,0 +1,237 @@
+package seedu.elisa.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.model.item.TagQuery;
+import seedu.elisa.model.item.VisualizeList;
+
+/**
+ * Describes what a view shows, so that the view can be shown again by deriving it from the live lists instead of
+ * keeping a copy of its items. A view starts from one of the lists of the model, which is then filtered, sorted
+ * and ranked in the order that the steps were taken.
+ * A view of the archive starts from the archived items instead, which are kept as they are not in any live list.
+ * The list that a view of a live list was last derived as is remembered together with the data version it was
+ * derived at, so that the view can be shown again without deriving it as long as the items have not changed since.
+ */
+public class ViewDescriptor {
+
+    /**
+     * A filter, a sort or a ranking applied to a view.
+     */
+    static class Step {
+        /**
+         * The kinds of steps that can be applied to a view.
+         */
+        enum Kind {
+            FILTER, FILTER_TAGS, SORT, RANK
+        }
+
+        private final Kind kind;
+        private final String[] searchStrings; // null unless a filter or a ranking
+        private final TagQuery tagQuery; // null unless a filter on tags
+        private final Comparator<Item> comparator; // null unless a sort, and for the default order of the list
+        private final int page; // only for a ranking, counted from 1
+        private final int pageSize; // only for a ranking
+
+        private Step(Kind kind, String[] searchStrings, TagQuery tagQuery, Comparator<Item> comparator, int page,
+                     int pageSize) {
+            this.kind = kind;
+            this.searchStrings = searchStrings;
+            this.tagQuery = tagQuery;
+            this.comparator = comparator;
+            this.page = page;
+            this.pageSize = pageSize;
+        }
+
+        Kind getKind() {
+            return kind;
+        }
+
+        String[] getSearchStrings() {
+            return searchStrings.clone();
+        }
+
+        TagQuery getTagQuery() {
+            return tagQuery;
+        }
+
+        Optional<Comparator<Item>> getComparator() {
+            return Optional.ofNullable(comparator);
+        }
+
+        int getPage() {
+            return page;
+        }
+
+        int getPageSize() {
+            return pageSize;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Step)) {
+                return false;
+            }
+
+            Step otherStep = (Step) other;
+            return kind == otherStep.kind
+                    && Arrays.equals(searchStrings, otherStep.searchStrings)
+                    && Objects.equals(tagQuery, otherStep.tagQuery)
+                    && Objects.equals(comparator, otherStep.comparator)
+                    && page == otherStep.page
+                    && pageSize == otherStep.pageSize;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, Arrays.hashCode(searchStrings), tagQuery, comparator, page, pageSize);
+        }
+    }
+
+    private final String listKind;
+    private final VisualizeList archivedItems; // null unless this is a view of the archive
+    private final List<Step> steps;
+    // The list this view was last derived as and the data version it was derived at, which are not part of the view
+    private VisualizeList derivedList = null;
+    private long derivedVersion = 0;
+
+    private ViewDescriptor(String listKind, VisualizeList archivedItems, List<Step> steps) {
+        this.listKind = listKind;
+        this.archivedItems = archivedItems;
+        this.steps = Collections.unmodifiableList(steps);
+    }
+
+    /**
+     * Returns the view of a whole list of the model.
+     * @param listKind the string representation of the list, as taken by {@link ItemModel#setVisualList(String)}
+     */
+    public static ViewDescriptor of(String listKind) {
+        requireNonNull(listKind);
+        return new ViewDescriptor(listKind, null, List.of());
+    }
+
+    /**
+     * Returns the view of items read from the archive, which are shown in place of the given list.
+     */
+    public static ViewDescriptor ofArchive(String listKind, VisualizeList archivedItems) {
+        requireNonNull(listKind);
+        requireNonNull(archivedItems);
+        return new ViewDescriptor(listKind, archivedItems.snapshot(), List.of());
+    }
+
+    /**
+     * Returns this view narrowed down to the items whose description contains any of the search strings.
+     */
+    public ViewDescriptor filter(String[] searchStrings) {
+        requireNonNull(searchStrings);
+        return withStep(new Step(Step.Kind.FILTER, searchStrings.clone(), null, null, 0, 0));
+    }
+
+    /**
+     * Returns this view narrowed down to the items whose tags pass the filter.
+     */
+    public ViewDescriptor filterTags(TagQuery tagQuery) {
+        requireNonNull(tagQuery);
+        return withStep(new Step(Step.Kind.FILTER_TAGS, null, tagQuery, null, 0, 0));
+    }
+
+    /**
+     * Returns this view sorted by the given comparator, or in the default order of its list if it is null.
+     */
+    public ViewDescriptor sort(Comparator<Item> comparator) {
+        return withStep(new Step(Step.Kind.SORT, null, null, comparator, 0, 0));
+    }
+
+    /**
+     * Returns this view ranked by how well its items match the search strings, showing only the given page.
+     */
+    public ViewDescriptor rank(String[] searchStrings, int page, int pageSize) {
+        requireNonNull(searchStrings);
+        assert page >= 1 && pageSize >= 1;
+        return withStep(new Step(Step.Kind.RANK, searchStrings.clone(), null, null, page, pageSize));
+    }
+
+    private ViewDescriptor withStep(Step step) {
+        List<Step> newSteps = new ArrayList<>(steps);
+        newSteps.add(step);
+        return new ViewDescriptor(listKind, archivedItems, newSteps);
+    }
+
+    public String getListKind() {
+        return listKind;
+    }
+
+    /**
+     * Returns the archived items that the view starts from, if it is a view of the archive.
+     */
+    public Optional<VisualizeList> getArchivedItems() {
+        return Optional.ofNullable(archivedItems);
+    }
+
+    List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Remembers the list that this view was derived as while the items were at the given data version. A view of
+     * a whole live list is not remembered, as it can be shown again without deriving anything. Neither is a view of
+     * the archive, as items are put back into and taken out of the archive without changing the data version.
+     */
+    void cacheDerivedList(VisualizeList list, long dataVersion) {
+        if (steps.isEmpty() || archivedItems != null) {
+            return;
+        }
+        derivedList = list;
+        derivedVersion = dataVersion;
+    }
+
+    /**
+     * Returns the list that this view was last derived as, if the items are still at the data version it was
+     * derived at. A list derived at another version is forgotten, as it can no longer be shown.
+     */
+    Optional<VisualizeList> getDerivedList(long dataVersion) {
+        if (derivedList != null && derivedVersion != dataVersion) {
+            derivedList = null;
+        }
+        return Optional.ofNullable(derivedList);
+    }
+
+    /**
+     * Returns the number of items in the list that this view was last derived as, or 0 if none is remembered.
+     */
+    public int getDerivedListSize() {
+        return derivedList == null ? 0 : derivedList.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ViewDescriptor)) {
+            return false;
+        }
+
+        ViewDescriptor otherView = (ViewDescriptor) other;
+        return listKind.equals(otherView.listKind)
+                && Objects.equals(archivedItems, otherView.archivedItems)
+                && steps.equals(otherView.steps);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(listKind, steps);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.elisa.model.item;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import javafx.beans.property.ListPropertyBase;
@@ -37,6 +39,51 @@ public class ActiveRemindersList extends ListPropertyBase<Item> {
         }
     }
 
+    /**
+     * Takes every reminder out of the list, such as when the items are cleared.
+     *
+     * @return the reminders that were in the list, in the same order
+     */
+    public synchronized List<Item> takeReminders() {
+        List<Item> reminders = new ArrayList<>(this);
+        clear();
+        return reminders;
+    }
+
+    /**
+     * Puts back the reminders taken out by {@link #takeReminders()} in place of the reminders in the list.
+     *
+     * @param reminders the reminders that were taken out
+     */
+    public synchronized void restoreReminders(Collection<Item> reminders) {
+        setAll(reminders);
+    }
+
+    /**
+     * Updates the list with a change made to the items of the program. A reminder stays in the list when its item
+     * is edited without changing the reminder, and is dropped otherwise. Added items are not shown until their
+     * reminder occurs.
+     *
+     * @param delta the change to be applied to the list
+     */
+    public synchronized void applyDelta(ItemDelta delta) {
+        if (delta.getKind() == ItemDelta.Kind.ADDED) {
+            return;
+        }
+
+        int index = indexOf(delta.getOldItem());
+        if (index < 0) {
+            return;
+        }
+
+        Item newItem = delta.getNewItem();
+        if (newItem != null && newItem.getReminder().equals(delta.getOldItem().getReminder())) {
+            set(index, newItem);
+        } else {
+            remove(index);
+        }
+    }
+
     public Item getLatestOccurredReminder() throws NoSuchElementException {
         if (size() <= 0) {
             throw new NoSuchElementException("No reminders have occurred yet!");
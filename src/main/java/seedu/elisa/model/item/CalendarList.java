@@ -1,5 +1,7 @@
 package seedu.elisa.model.item;
 
+import java.util.function.ToDoubleFunction;
+
 import seedu.elisa.commons.core.item.Item;
 
 /**
@@ -11,8 +13,18 @@ public class CalendarList extends VisualizeList {
     }
 
     @Override
-    public VisualizeList find(String[] searchString) {
-        return super.find(searchString, new CalendarList());
+    public VisualizeList find(String[] searchStrings, DescriptionIndex index) {
+        return super.find(searchStrings, index, new CalendarList());
+    }
+
+    @Override
+    public VisualizeList findTagged(TagQuery query, TagIndex index) {
+        return super.findTagged(query, index, new CalendarList());
+    }
+
+    @Override
+    public VisualizeList rank(ToDoubleFunction<Item> scorer, int skip, int limit) {
+        return super.rank(scorer, skip, limit, new CalendarList());
     }
 
     @Override
@@ -20,6 +32,11 @@ public class CalendarList extends VisualizeList {
         return super.deepCopy(new CalendarList());
     }
 
+    @Override
+    public VisualizeList snapshot() {
+        return super.snapshot(new CalendarList());
+    }
+
     @Override
     public VisualizeList sort() {
         // calendar list is used in the panel and so their sorting will have no value
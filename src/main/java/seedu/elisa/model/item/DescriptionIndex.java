@@ -0,0 +1,197 @@
+package seedu.elisa.model.item;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.elisa.commons.core.item.Item;
+
+/**
+ * An inverted index from the trigrams of the item descriptions to the ids of the items, so that the items whose
+ * description contains a search string are found without lowercasing and scanning every description.
+ * The items that have every trigram of the search string are only candidates, and are checked against their
+ * description, so a search matches exactly the items that a scan would.
+ * The owner of the index has to report every change made to the items. A snapshot of the index can be searched on
+ * another thread while the index itself keeps changing.
+ */
+public class DescriptionIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final HashMap<String, Set<Long>> postings = new HashMap<>();
+    // The lowercased description of every indexed item, which both removals and checks of candidates need
+    private final HashMap<Long, String> descriptions = new HashMap<>();
+    // The number of words in all the indexed descriptions, for ranking matches by the length of their description
+    private long totalWordCount = 0;
+    // Whether the sets of ids are shared with a snapshot, in which case each is copied before it is first changed
+    private boolean isShared = false;
+    private final Set<String> copiedGrams = new HashSet<>();
+
+    /**
+     * Adds an item to the index, in place of any item with the same id.
+     */
+    public void add(Item item) {
+        remove(item.getId());
+        String description = normalize(item.getItemDescription().getDescription());
+        descriptions.put(item.getId(), description);
+        totalWordCount += countWords(description);
+        for (String gram : toGrams(description)) {
+            Set<Long> ids = getPostingToChange(gram);
+            if (ids == null) {
+                ids = new HashSet<>();
+                postings.put(gram, ids);
+                if (isShared) {
+                    copiedGrams.add(gram);
+                }
+            }
+            ids.add(item.getId());
+        }
+    }
+
+    /**
+     * Removes the item with the given id from the index, if it is there.
+     */
+    public void remove(long id) {
+        String description = descriptions.remove(id);
+        if (description == null) {
+            return;
+        }
+        totalWordCount -= countWords(description);
+        for (String gram : toGrams(description)) {
+            Set<Long> ids = getPostingToChange(gram);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Updates the index with a change made to the items.
+     * @param delta the change to be applied to the index
+     */
+    public void applyDelta(ItemDelta delta) {
+        if (delta.getOldItem() != null) {
+            remove(delta.getOldItem().getId());
+        }
+        if (delta.getNewItem() != null) {
+            add(delta.getNewItem());
+        }
+    }
+
+    /**
+     * Returns the ids of the items with the given trigram, copied first if they are shared with a snapshot, or null
+     * if no item has the trigram.
+     */
+    private Set<Long> getPostingToChange(String gram) {
+        Set<Long> ids = postings.get(gram);
+        if (isShared && ids != null && copiedGrams.add(gram)) {
+            ids = new HashSet<>(ids);
+            postings.put(gram, ids);
+        }
+        return ids;
+    }
+
+    /**
+     * Forgets every item.
+     */
+    public void clear() {
+        postings.clear();
+        descriptions.clear();
+        totalWordCount = 0;
+        isShared = false;
+        copiedGrams.clear();
+    }
+
+    /**
+     * Returns an index of the same items that is not affected by later changes to this index, so that it can be
+     * searched on another thread. Only the maps are copied, and the sets of ids are shared until they are changed.
+     */
+    public DescriptionIndex snapshot() {
+        DescriptionIndex snapshot = new DescriptionIndex();
+        snapshot.postings.putAll(postings);
+        snapshot.descriptions.putAll(descriptions);
+        snapshot.totalWordCount = totalWordCount;
+        snapshot.isShared = true;
+        isShared = true;
+        copiedGrams.clear();
+        return snapshot;
+    }
+
+    public int size() {
+        return descriptions.size();
+    }
+
+    /**
+     * Returns the average number of words in a description, or 0 if there are no items.
+     */
+    public double getAverageWordCount() {
+        return descriptions.isEmpty() ? 0 : (double) totalWordCount / descriptions.size();
+    }
+
+    /**
+     * Returns the ids of the items whose description contains the search string, ignoring case.
+     * Search strings shorter than a trigram have no trigram to look up, so every description is checked for them.
+     */
+    public Set<Long> find(String searchString) {
+        String term = normalize(searchString);
+        Set<Long> found = new HashSet<>();
+        if (term.length() < GRAM_LENGTH) {
+            descriptions.forEach((id, description) -> {
+                if (description.contains(term)) {
+                    found.add(id);
+                }
+            });
+            return found;
+        }
+
+        // Intersecting from the rarest trigram keeps every intermediate set no larger than the smallest posting
+        List<Set<Long>> candidatePostings = new ArrayList<>();
+        for (String gram : toGrams(term)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return found;
+            }
+            candidatePostings.add(ids);
+        }
+        candidatePostings.sort(Comparator.comparingInt(Set::size));
+
+        for (long id : candidatePostings.get(0)) {
+            if (isInAll(id, candidatePostings) && descriptions.get(id).contains(term)) {
+                found.add(id);
+            }
+        }
+        return found;
+    }
+
+    private static boolean isInAll(long id, List<Set<Long>> candidatePostings) {
+        for (int i = 1; i < candidatePostings.size(); i++) {
+            if (!candidatePostings.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lowercases a string the same way for descriptions and search strings, as the scan of a list does.
+     */
+    static String normalize(String string) {
+        return string.toLowerCase();
+    }
+
+    static int countWords(String string) {
+        String trimmed = string.trim();
+        return trimmed.isEmpty() ? 0 : trimmed.split("\\s+").length;
+    }
+
+    private static Set<String> toGrams(String string) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= string.length(); i++) {
+            grams.add(string.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
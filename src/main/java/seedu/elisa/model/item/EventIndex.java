@@ -0,0 +1,410 @@
+package seedu.elisa.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.elisa.commons.core.item.Event;
+import seedu.elisa.commons.core.item.Item;
+
+/**
+ * An interval tree over the events of the items, ordered by start time, so that the events overlapping a range of
+ * time are found without checking every event.
+ * Every node also keeps the latest end time in its subtree, so a query skips the subtrees that end before the range
+ * and stops at the first event that starts after it. The tree is a treap, which stays balanced as events are added
+ * and removed one at a time.
+ * Events that are rescheduled automatically are also kept aside, so that their later occurrences, which are not in
+ * the tree, can be checked for conflicts and free time by working out when they recur.
+ * The owner of the index has to report every change made to the items.
+ */
+public class EventIndex {
+    private final Random random = new Random();
+    private Node root = null;
+    private int size = 0;
+    // The events that are rescheduled automatically, whose later occurrences are not in the tree
+    private final Map<Long, Item> recurring = new LinkedHashMap<>();
+
+    /**
+     * A node of the tree, holding one event.
+     */
+    private static class Node {
+        private final Item item;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final int priority;
+        private Node left = null;
+        private Node right = null;
+        // The latest end time of the events in the subtree of this node
+        private LocalDateTime maxEnd;
+
+        private Node(Item item, int priority) {
+            Event event = item.getEvent().get();
+            this.item = item;
+            this.start = event.getStartDateTime();
+            this.end = event.getEndDateTime();
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        private boolean isBefore(LocalDateTime otherStart, long otherId) {
+            int compared = start.compareTo(otherStart);
+            return compared < 0 || (compared == 0 && item.getId() < otherId);
+        }
+
+        private void update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+
+    /**
+     * Adds the event of an item to the index. Items without an event are left out. The item must not already be
+     * in the index.
+     */
+    public void add(Item item) {
+        requireNonNull(item);
+        if (!item.hasEvent()) {
+            return;
+        }
+        root = insert(root, new Node(item, random.nextInt()));
+        size++;
+        if (isRecurring(item.getEvent().get())) {
+            recurring.put(item.getId(), item);
+        }
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.isBefore(node.start, node.item.getId())) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newTop = node.left;
+        node.left = newTop.right;
+        newTop.right = node;
+        node.update();
+        newTop.update();
+        return newTop;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newTop = node.right;
+        node.right = newTop.left;
+        newTop.left = node;
+        node.update();
+        newTop.update();
+        return newTop;
+    }
+
+    /**
+     * Removes the event of an item from the index, if it is there.
+     */
+    public void remove(Item item) {
+        requireNonNull(item);
+        if (!item.hasEvent()) {
+            return;
+        }
+        root = delete(root, item.getEvent().get().getStartDateTime(), item.getId());
+        recurring.remove(item.getId());
+    }
+
+    private Node delete(Node node, LocalDateTime start, long id) {
+        if (node == null) {
+            return null;
+        }
+        if (node.start.equals(start) && node.item.getId() == id) {
+            size--;
+            return merge(node.left, node.right);
+        }
+        if (node.isBefore(start, id)) {
+            node.right = delete(node.right, start, id);
+        } else {
+            node.left = delete(node.left, start, id);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Merges two subtrees, where every event of the first comes before every event of the second.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.update();
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.update();
+        return second;
+    }
+
+    /**
+     * Updates the index with a change made to the items.
+     * @param delta the change to be applied to the index
+     */
+    public void applyDelta(ItemDelta delta) {
+        if (delta.getOldItem() != null) {
+            remove(delta.getOldItem());
+        }
+        if (delta.getNewItem() != null) {
+            add(delta.getNewItem());
+        }
+    }
+
+    /**
+     * Forgets every event.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+        recurring.clear();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the items whose event overlaps the range from {@code from} up to but not including {@code to},
+     * ordered by start time. An event without a duration overlaps the range if it starts within it.
+     */
+    public List<Item> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Item> found = new ArrayList<>();
+        collectOverlapping(root, from, to, found);
+        return found;
+    }
+
+    /**
+     * Returns true if the event from {@code start} to {@code end} overlaps the range from {@code from} up to but not
+     * including {@code to}.
+     */
+    static boolean overlaps(LocalDateTime start, LocalDateTime end, LocalDateTime from, LocalDateTime to) {
+        return start.isBefore(to) && (end.isAfter(from) || !start.isBefore(from));
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime from, LocalDateTime to, List<Item> found) {
+        if (node == null || node.maxEnd.isBefore(from)) {
+            // Every event in the subtree is over before the range
+            return;
+        }
+        collectOverlapping(node.left, from, to, found);
+        if (!node.start.isBefore(to)) {
+            // This event and every event after it start after the range
+            return;
+        }
+        if (overlaps(node.start, node.end, from, to)) {
+            found.add(node.item);
+        }
+        collectOverlapping(node.right, from, to, found);
+    }
+
+    /**
+     * Returns the other items whose event overlaps the event of the item, at any of their occurrences. The
+     * occurrences of the item up to {@code until} are each looked up in the tree, and the events that are
+     * rescheduled automatically are checked for an occurrence in the same time by working out when they recur.
+     * An event without a duration is taken to use up the moment it starts.
+     * @param item the item with an event, which need not be in the index
+     * @param until the time after which later occurrences of the item are not checked
+     * @return the items found, in the order they were found
+     */
+    public List<Item> findConflicts(Item item, LocalDateTime until) {
+        requireNonNull(item);
+        requireNonNull(until);
+        Event event = item.getEvent().get();
+        Set<Item> conflicts = new LinkedHashSet<>();
+        addConflicts(item, event.getStartDateTime(), conflicts);
+        if (isRecurring(event)) {
+            Duration period = Duration.ofMillis(event.getPeriod().getPeriod());
+            for (LocalDateTime start = event.getStartDateTime().plus(period); start.isBefore(until);
+                 start = start.plus(period)) {
+                addConflicts(item, start, conflicts);
+            }
+        }
+        return new ArrayList<>(conflicts);
+    }
+
+    /**
+     * Adds the other items whose event overlaps the occurrence of the item that starts at {@code start}.
+     */
+    private void addConflicts(Item item, LocalDateTime start, Set<Item> conflicts) {
+        LocalDateTime end = start.plus(item.getEvent().get().getDuration());
+        if (!end.isAfter(start)) {
+            end = start.plusNanos(1);
+        }
+        for (Item found : findOverlapping(start, end)) {
+            if (found.getId() != item.getId()) {
+                conflicts.add(found);
+            }
+        }
+        for (Item other : recurring.values()) {
+            if (other.getId() != item.getId() && recursWithin(other.getEvent().get(), start, end)) {
+                conflicts.add(other);
+            }
+        }
+    }
+
+    private static boolean isRecurring(Event event) {
+        return event.hasAutoReschedule() && event.getPeriod() != null && event.getPeriod().getPeriod() > 0;
+    }
+
+    /**
+     * Returns true if an occurrence of the recurring event overlaps the range from {@code from} up to but not
+     * including {@code to}.
+     */
+    private static boolean recursWithin(Event event, LocalDateTime from, LocalDateTime to) {
+        Duration period = Duration.ofMillis(event.getPeriod().getPeriod());
+        for (LocalDateTime start = skipTo(event, from); start.isBefore(to); start = start.plus(period)) {
+            if (overlaps(start, start.plus(event.getDuration()), from, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the start of the last occurrence of the recurring event that is over by {@code from}, or of its first
+     * occurrence if none is, so that the occurrences before it need not be gone through.
+     */
+    private static LocalDateTime skipTo(Event event, LocalDateTime from) {
+        long period = event.getPeriod().getPeriod();
+        long skipped = Math.max(0, Duration.between(event.getEndDateTime(), from).toMillis() / period);
+        return event.getStartDateTime().plus(Duration.ofMillis(skipped * period));
+    }
+
+    /**
+     * Returns the gaps between events in the range from {@code from} up to but not including {@code to} that last at
+     * least {@code minDuration}, in order.
+     * The events in the range are taken from the tree already in start order, and the occurrences of the events that
+     * are rescheduled automatically are worked out and merged in, so that one sweep from the start of the range finds
+     * every gap. An event without a duration is taken to use up the moment it starts, so it splits a gap in two.
+     */
+    public List<TimeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        requireNonNull(from);
+        requireNonNull(to);
+        requireNonNull(minDuration);
+        List<TimeSlot> busy = mergeByStart(findBusyOnce(from, to), findBusyRecurring(from, to));
+
+        List<TimeSlot> free = new ArrayList<>();
+        LocalDateTime freeFrom = from;
+        for (TimeSlot slot : busy) {
+            addIfLongEnough(freeFrom, slot.getStart(), minDuration, free);
+            if (slot.getEnd().isAfter(freeFrom)) {
+                freeFrom = slot.getEnd();
+            }
+        }
+        addIfLongEnough(freeFrom, to, minDuration, free);
+        return free;
+    }
+
+    /**
+     * Returns the times taken up in the range by the events in the tree that do not recur, in start order.
+     */
+    private List<TimeSlot> findBusyOnce(LocalDateTime from, LocalDateTime to) {
+        List<TimeSlot> busy = new ArrayList<>();
+        for (Item item : findOverlapping(from, to)) {
+            if (!recurring.containsKey(item.getId())) {
+                Event event = item.getEvent().get();
+                busy.add(new TimeSlot(event.getStartDateTime(), event.getEndDateTime()));
+            }
+        }
+        return busy;
+    }
+
+    /**
+     * Returns the times taken up in the range by every occurrence of the events that recur, in start order.
+     */
+    private List<TimeSlot> findBusyRecurring(LocalDateTime from, LocalDateTime to) {
+        List<TimeSlot> busy = new ArrayList<>();
+        for (Item item : recurring.values()) {
+            Event event = item.getEvent().get();
+            Duration period = Duration.ofMillis(event.getPeriod().getPeriod());
+            for (LocalDateTime start = skipTo(event, from); start.isBefore(to); start = start.plus(period)) {
+                LocalDateTime end = start.plus(event.getDuration());
+                if (overlaps(start, end, from, to)) {
+                    busy.add(new TimeSlot(start, end));
+                }
+            }
+        }
+        busy.sort((first, second) -> first.getStart().compareTo(second.getStart()));
+        return busy;
+    }
+
+    /**
+     * Merges two lists of times that are each in start order into one list in start order.
+     */
+    private static List<TimeSlot> mergeByStart(List<TimeSlot> first, List<TimeSlot> second) {
+        List<TimeSlot> merged = new ArrayList<>(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while (i < first.size() || j < second.size()) {
+            if (j == second.size()
+                    || (i < first.size() && !first.get(i).getStart().isAfter(second.get(j).getStart()))) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private static void addIfLongEnough(LocalDateTime start, LocalDateTime end, Duration minDuration,
+                                        List<TimeSlot> slots) {
+        if (end.isAfter(start) && Duration.between(start, end).compareTo(minDuration) >= 0) {
+            slots.add(new TimeSlot(start, end));
+        }
+    }
+
+    /**
+     * Returns every item in the index, ordered by the start time of its event.
+     */
+    public List<Item> getItems() {
+        List<Item> items = new ArrayList<>(size);
+        collectAll(root, items);
+        return items;
+    }
+
+    private static void collectAll(Node node, List<Item> items) {
+        if (node == null) {
+            return;
+        }
+        collectAll(node.left, items);
+        items.add(node.item);
+        collectAll(node.right, items);
+    }
+}
@@ -1,6 +1,10 @@
 package seedu.elisa.model.item;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 import seedu.elisa.commons.core.item.Item;
 
@@ -8,6 +12,8 @@ import seedu.elisa.commons.core.item.Item;
  * Object class to store all the items that are events within the program
  */
 public class EventList extends VisualizeList {
+    private static final int INDEX_SORT_RATIO = 8;
+
     public EventList() {
         super();
     }
@@ -27,13 +33,61 @@ public class EventList extends VisualizeList {
         return el;
     }
 
+    /**
+     * Sorts the event list based on the date of the event, reading the order from the index of events when the
+     * list holds a good share of them. Events that start at the same time stay in list order, as with
+     * {@link #sort()}.
+     * @param index an index of the events of every item in the list, or null to compare the items instead
+     * @return a sorted EventList of the current list
+     */
+    @Override
+    public VisualizeList sort(EventIndex index) {
+        // Walking the whole index costs more than sorting a list that holds only a few of its events
+        if (index == null || index.size() > list.size() * INDEX_SORT_RATIO) {
+            return sort();
+        }
+        EventList el = new EventList();
+        List<Integer> sameStart = new ArrayList<>();
+        LocalDateTime currentStart = null;
+        for (Item item : index.getItems()) {
+            int position = indexOf(item);
+            if (position < 0) {
+                continue;
+            }
+            LocalDateTime start = item.getEvent().get().getStartDateTime();
+            if (!start.equals(currentStart)) {
+                addInListOrder(sameStart, el);
+                currentStart = start;
+            }
+            sameStart.add(position);
+        }
+        addInListOrder(sameStart, el);
+        return el;
+    }
+
+    private void addInListOrder(List<Integer> positions, EventList el) {
+        Collections.sort(positions);
+        for (int position : positions) {
+            el.add(list.get(position));
+        }
+        positions.clear();
+    }
+
     /**
      * Finds a substring within the description of an item.
      * @param searchString a string to be search for within the description of an item
      * @return a new EventList only containing the items that have the search string in their description
      */
-    public VisualizeList find(String[] searchString) {
-        return find(searchString, new EventList());
+    public VisualizeList find(String[] searchStrings, DescriptionIndex index) {
+        return find(searchStrings, index, new EventList());
+    }
+
+    public VisualizeList findTagged(TagQuery query, TagIndex index) {
+        return findTagged(query, index, new EventList());
+    }
+
+    public VisualizeList rank(ToDoubleFunction<Item> scorer, int skip, int limit) {
+        return rank(scorer, skip, limit, new EventList());
     }
 
     @Override
@@ -41,6 +95,11 @@ public class EventList extends VisualizeList {
         return super.deepCopy(new EventList());
     }
 
+    @Override
+    public VisualizeList snapshot() {
+        return super.snapshot(new EventList());
+    }
+
     public boolean belongToList(Item item) {
         return item.hasEvent();
     }
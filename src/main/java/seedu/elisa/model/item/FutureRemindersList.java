@@ -1,18 +1,126 @@
 package seedu.elisa.model.item;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 import seedu.elisa.commons.core.item.Item;
 import seedu.elisa.commons.core.item.ItemReminderDateTimeComparator;
 
 /**
  * A data structure to hold Items with Reminders that have not yet been prompted to the user.
+ * The items are kept sorted by the time their reminder occurs, so items are inserted and located with a binary
+ * search instead of sorting or scanning the whole list.
  */
 public class FutureRemindersList extends ArrayList<Item> {
+    private static final Comparator<Item> COMPARATOR = new ItemReminderDateTimeComparator();
+
     @Override
     public boolean add(Item item) {
-        boolean result = super.add(item);
-        super.sort(new ItemReminderDateTimeComparator());
-        return result;
+        super.add(upperBound(item), item);
+        return true;
+    }
+
+    /**
+     * Updates the list with a change made to the items of the program.
+     * Only items with a reminder that has yet to occur are kept in the list.
+     * @param delta the change to be applied to the list
+     */
+    public void applyDelta(ItemDelta delta) {
+        if (delta.getOldItem() != null) {
+            remove(delta.getOldItem());
+        }
+
+        Item newItem = delta.getNewItem();
+        if (newItem != null && newItem.hasReminder()
+                && newItem.getReminder().get().getOccurrenceDateTime().isAfter(LocalDateTime.now())
+                && !contains(newItem)) {
+            add(newItem);
+        }
+    }
+
+    /**
+     * Puts back the items of an earlier copy of the list, which are already sorted, so they are appended in one
+     * step if the list is empty.
+     * @param items the items that were in the list, in the order they were in it
+     */
+    public void restore(List<Item> items) {
+        if (isEmpty()) {
+            addAll(items);
+            return;
+        }
+        for (Item item : items) {
+            if (!contains(item)) {
+                add(item);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the item with the same id as the given item, or -1 if it is not in the list.
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Item) || !((Item) o).hasReminder()) {
+            return -1;
+        }
+
+        Item item = (Item) o;
+        for (int i = lowerBound(item); i < size() && COMPARATOR.compare(get(i), item) == 0; i++) {
+            if (get(i).getId() == item.getId()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Returns the index of the first item whose reminder does not occur before the reminder of the given item.
+     */
+    private int lowerBound(Item item) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (COMPARATOR.compare(get(mid), item) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first item whose reminder occurs after the reminder of the given item.
+     */
+    private int upperBound(Item item) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (COMPARATOR.compare(get(mid), item) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 }
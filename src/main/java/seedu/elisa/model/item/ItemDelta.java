@@ -0,0 +1,88 @@
+package seedu.elisa.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.elisa.commons.core.item.Item;
+
+/**
+ * Describes a single change made to the items of the program, so that every list holding items can update
+ * itself without being rebuilt.
+ */
+public class ItemDelta {
+
+    /**
+     * The kinds of change that can be made to the items.
+     */
+    public enum Kind {
+        ADDED, REMOVED, REPLACED
+    }
+
+    private final Kind kind;
+    private final Item oldItem;
+    private final Item newItem;
+    private final int index;
+
+    private ItemDelta(Kind kind, Item oldItem, Item newItem, int index) {
+        this.kind = kind;
+        this.oldItem = oldItem;
+        this.newItem = newItem;
+        this.index = index;
+    }
+
+    /**
+     * Creates a delta for an item that has been added.
+     */
+    public static ItemDelta added(Item item) {
+        return added(item, -1);
+    }
+
+    /**
+     * Creates a delta for an item that has been added at the given index of the item storage.
+     */
+    public static ItemDelta added(Item item, int index) {
+        requireNonNull(item);
+        return new ItemDelta(Kind.ADDED, null, item, index);
+    }
+
+    /**
+     * Creates a delta for an item that has been removed.
+     */
+    public static ItemDelta removed(Item item) {
+        requireNonNull(item);
+        return new ItemDelta(Kind.REMOVED, item, null, -1);
+    }
+
+    /**
+     * Creates a delta for an item that has been replaced by another item.
+     */
+    public static ItemDelta replaced(Item oldItem, Item newItem) {
+        requireNonNull(oldItem);
+        requireNonNull(newItem);
+        return new ItemDelta(Kind.REPLACED, oldItem, newItem, -1);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the item before the change, or null if the item was added.
+     */
+    public Item getOldItem() {
+        return oldItem;
+    }
+
+    /**
+     * Returns the item after the change, or null if the item was removed.
+     */
+    public Item getNewItem() {
+        return newItem;
+    }
+
+    /**
+     * Returns the index in the item storage that an added item was put at, or -1 if it is not known.
+     */
+    public int getIndex() {
+        return index;
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.elisa.model.item;
+
+import java.util.HashMap;
+import java.util.List;
+
+import seedu.elisa.commons.core.item.Item;
+
+/**
+ * Keeps track of the position of every item of a list by the id of the item, so that an item can be found
+ * without scanning the list.
+ * The owner of the list has to report every change made to the list. An insertion or removal in the middle of the
+ * list does not update the positions of the items after it. Instead, it is written to a short log of shifts, and a
+ * position that was recorded before a shift is moved past the shifts that followed it when it is looked up. Once
+ * the log is full, every position is recomputed at the next lookup, so a lookup never has to go through more than
+ * {@link #MAX_SHIFTS} shifts, and the positions are recomputed at most once every {@link #MAX_SHIFTS} insertions
+ * and removals.
+ */
+public class ItemPositions {
+    // Number of insertions and removals in the middle of the list after which every position is recomputed
+    public static final int MAX_SHIFTS = 32;
+
+    private final HashMap<Long, Position> positions = new HashMap<>();
+    // Insertions and removals since the positions were last recomputed, as the index shifted at times two, plus one
+    // for an insertion
+    private int[] shifts = new int[MAX_SHIFTS];
+    private int shiftCount = 0;
+    // True if the log of shifts was full, so that every position has to be recomputed before it can be used
+    private boolean isStale = false;
+
+    /**
+     * Records that an item has been inserted into the list.
+     * @param items the list after the insertion.
+     * @param index the index the item was inserted at.
+     * @param item the item that was inserted.
+     */
+    public void added(List<Item> items, int index, Item item) {
+        if (index != items.size() - 1) {
+            recordShift((index << 1) | 1);
+        }
+        positions.put(item.getId(), new Position(index, shiftCount));
+    }
+
+    /**
+     * Records that an item has been removed from the list.
+     * @param index the index the item was removed from.
+     * @param item the item that was removed.
+     */
+    public void removed(int index, Item item) {
+        positions.remove(item.getId());
+        recordShift(index << 1);
+    }
+
+    /**
+     * Records that an item in the list has been replaced by another item.
+     * @param index the index of the replaced item.
+     * @param oldItem the item that was replaced.
+     * @param newItem the item that took its place.
+     */
+    public void replaced(int index, Item oldItem, Item newItem) {
+        // When the list is reordered in place, the old item may already have been put at another index.
+        if (oldItem.getId() != newItem.getId()) {
+            Position oldPosition = positions.get(oldItem.getId());
+            if (oldPosition != null && !isStale && toCurrentIndex(oldPosition) == index) {
+                positions.remove(oldItem.getId());
+            }
+        }
+        positions.put(newItem.getId(), new Position(index, shiftCount));
+    }
+
+    /**
+     * Returns true if an item with the same id as the given item is in the list.
+     * @param items the list whose positions are being tracked.
+     * @param item the item to be searched for.
+     */
+    public boolean contains(List<Item> items, Item item) {
+        return indexOf(items, item) >= 0;
+    }
+
+    /**
+     * Returns the index of the item with the same id as the given item, or -1 if there is no such item.
+     * @param items the list whose positions are being tracked.
+     * @param item the item to be searched for.
+     */
+    public int indexOf(List<Item> items, Item item) {
+        return indexOf(items, item.getId());
+    }
+
+    /**
+     * Returns the index of the item with the given id, or -1 if there is no such item.
+     * @param items the list whose positions are being tracked.
+     * @param id the id of the item to be searched for.
+     */
+    public int indexOf(List<Item> items, long id) {
+        if (isStale) {
+            rebuild(items);
+        }
+        Position position = positions.get(id);
+        if (position == null) {
+            return -1;
+        }
+        int index = toCurrentIndex(position);
+        if (!isAt(items, index, id)) {
+            // The recorded position was left behind by a replacement of a moved item
+            rebuild(items);
+            position = positions.get(id);
+            return position == null ? -1 : position.index;
+        }
+        if (position.shiftCount != shiftCount) {
+            positions.put(id, new Position(index, shiftCount));
+        }
+        return index;
+    }
+
+    /**
+     * Returns a copy of these positions that can be updated independently of this object.
+     */
+    public ItemPositions copy() {
+        ItemPositions copy = new ItemPositions();
+        copy.positions.putAll(positions);
+        copy.shifts = shifts.clone();
+        copy.shiftCount = shiftCount;
+        copy.isStale = isStale;
+        return copy;
+    }
+
+    /**
+     * Forgets all positions and records the positions of the items in the given list instead.
+     */
+    public void rebuild(List<Item> items) {
+        positions.clear();
+        shiftCount = 0;
+        isStale = false;
+        for (int i = 0; i < items.size(); i++) {
+            positions.put(items.get(i).getId(), new Position(i, 0));
+        }
+    }
+
+    /**
+     * Returns true if the item at {@code index} of the list has the given id.
+     */
+    private boolean isAt(List<Item> items, int index, long id) {
+        return index >= 0 && index < items.size() && items.get(index).getId() == id;
+    }
+
+    /**
+     * Writes an insertion or removal to the log of shifts, marking every position as stale if the log is full.
+     */
+    private void recordShift(int shift) {
+        if (isStale) {
+            return;
+        }
+        if (shiftCount == MAX_SHIFTS) {
+            isStale = true;
+            return;
+        }
+        shifts[shiftCount++] = shift;
+    }
+
+    /**
+     * Returns the index that a recorded position has been moved to by the shifts that followed it.
+     */
+    private int toCurrentIndex(Position position) {
+        int index = position.index;
+        for (int i = position.shiftCount; i < shiftCount; i++) {
+            int shiftedIndex = shifts[i] >> 1;
+            if ((shifts[i] & 1) != 0) {
+                index += index >= shiftedIndex ? 1 : 0;
+            } else {
+                index -= index > shiftedIndex ? 1 : 0;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * The index of an item, as it was when the given number of shifts had been written to the log.
+     */
+    private static class Position {
+        private final int index;
+        private final int shiftCount;
+
+        Position(int index, int shiftCount) {
+            this.index = index;
+            this.shiftCount = shiftCount;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.elisa.model.item;
 
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 import seedu.elisa.commons.core.item.Item;
 
@@ -33,8 +34,16 @@ public class ReminderList extends VisualizeList {
      * @param searchString a string to be search for within the description of an item
      * @return a new ReminderList only containing the items that have the search string in their description
      */
-    public VisualizeList find(String[] searchString) {
-        return super.find(searchString, new ReminderList());
+    public VisualizeList find(String[] searchStrings, DescriptionIndex index) {
+        return super.find(searchStrings, index, new ReminderList());
+    }
+
+    public VisualizeList findTagged(TagQuery query, TagIndex index) {
+        return super.findTagged(query, index, new ReminderList());
+    }
+
+    public VisualizeList rank(ToDoubleFunction<Item> scorer, int skip, int limit) {
+        return super.rank(scorer, skip, limit, new ReminderList());
     }
 
     @Override
@@ -42,6 +51,11 @@ public class ReminderList extends VisualizeList {
         return super.deepCopy(new ReminderList());
     }
 
+    @Override
+    public VisualizeList snapshot() {
+        return super.snapshot(new ReminderList());
+    }
+
     public boolean belongToList(Item item) {
         return item.hasReminder();
     }
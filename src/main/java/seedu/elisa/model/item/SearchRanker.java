@@ -0,0 +1,104 @@
+package seedu.elisa.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.ToDoubleFunction;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.Priority;
+import seedu.elisa.commons.core.item.tag.Tag;
+
+/**
+ * Scores items for how well they match a search, so that the best matches can be shown first.
+ * The score is BM25 over the description, where a search string is a term that counts once for every time it
+ * appears in the description and more for every tag that contains it. Rare search strings count for more, and
+ * matches in long descriptions for less. The score is then raised for items of high priority and recent items.
+ */
+public class SearchRanker implements ToDoubleFunction<Item> {
+    // The usual BM25 parameters: how soon repeated matches stop counting, and how much length counts
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TAG_WEIGHT = 2.0;
+    private static final double HIGH_PRIORITY_BOOST = 1.3;
+    private static final double MEDIUM_PRIORITY_BOOST = 1.1;
+    // A new item scores up to this much more, and half as much more for every month of its age
+    private static final double RECENCY_BOOST = 0.5;
+    private static final double RECENCY_HALF_LIFE_DAYS = 30;
+
+    private final String[] terms;
+    private final double[] termWeights;
+    private final double averageWordCount;
+    private final LocalDateTime now;
+
+    /**
+     * Creates a ranker for a search.
+     * @param searchStrings the search strings that the items were found with
+     * @param index an index of every item that could have been found, for how rare each search string is
+     * @param now the time that the age of an item is measured at
+     */
+    public SearchRanker(String[] searchStrings, DescriptionIndex index, LocalDateTime now) {
+        requireNonNull(searchStrings);
+        requireNonNull(index);
+        requireNonNull(now);
+        this.terms = new String[searchStrings.length];
+        this.termWeights = new double[searchStrings.length];
+        for (int i = 0; i < searchStrings.length; i++) {
+            terms[i] = DescriptionIndex.normalize(searchStrings[i]);
+            int matchCount = index.find(searchStrings[i]).size();
+            termWeights[i] = Math.log(1 + (index.size() - matchCount + 0.5) / (matchCount + 0.5));
+        }
+        this.averageWordCount = index.getAverageWordCount();
+        this.now = now;
+    }
+
+    @Override
+    public double applyAsDouble(Item item) {
+        String description = DescriptionIndex.normalize(item.getItemDescription().getDescription());
+        double lengthRatio = averageWordCount == 0 ? 1 : DescriptionIndex.countWords(description) / averageWordCount;
+
+        double score = 0;
+        for (int i = 0; i < terms.length; i++) {
+            double frequency = countOccurrences(description, terms[i]) + TAG_WEIGHT * countTags(item, terms[i]);
+            score += termWeights[i] * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+        }
+        return score * getPriorityBoost(item) * getRecencyBoost(item);
+    }
+
+    private static int countOccurrences(String description, String term) {
+        if (term.isEmpty()) {
+            return 1;
+        }
+        int count = 0;
+        for (int i = description.indexOf(term); i >= 0; i = description.indexOf(term, i + term.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static int countTags(Item item, String term) {
+        int count = 0;
+        for (Tag tag : item.getTags()) {
+            if (DescriptionIndex.normalize(tag.tagName).contains(term)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static double getPriorityBoost(Item item) {
+        if (item.getPriority() == Priority.HIGH) {
+            return HIGH_PRIORITY_BOOST;
+        } else if (item.getPriority() == Priority.MEDIUM) {
+            return MEDIUM_PRIORITY_BOOST;
+        } else {
+            return 1;
+        }
+    }
+
+    private double getRecencyBoost(Item item) {
+        double ageInDays = Math.max(0, Duration.between(item.getCreationDateTime(), now).toHours() / 24.0);
+        return 1 + RECENCY_BOOST * Math.pow(0.5, ageInDays / RECENCY_HALF_LIFE_DAYS);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.elisa.model.item;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.tag.Tag;
+
+/**
+ * An index from the id of every tag to the ids of the items with that tag, so that a filter on tags only checks
+ * the items that have one of its required tags.
+ * The owner of the index has to report every change made to the items.
+ */
+public class TagIndex {
+    private final HashMap<Integer, Set<Long>> itemsByTag = new HashMap<>();
+
+    /**
+     * Adds an item to the index. The item must not already be in the index.
+     */
+    public void add(Item item) {
+        for (Tag tag : item.getTags()) {
+            itemsByTag.computeIfAbsent(tag.getId(), unused -> new HashSet<>()).add(item.getId());
+        }
+    }
+
+    /**
+     * Removes an item from the index, if it is there.
+     */
+    public void remove(Item item) {
+        for (Tag tag : item.getTags()) {
+            Set<Long> ids = itemsByTag.get(tag.getId());
+            if (ids != null) {
+                ids.remove(item.getId());
+                if (ids.isEmpty()) {
+                    itemsByTag.remove(tag.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the index with a change made to the items.
+     * @param delta the change to be applied to the index
+     */
+    public void applyDelta(ItemDelta delta) {
+        if (delta.getOldItem() != null) {
+            remove(delta.getOldItem());
+        }
+        if (delta.getNewItem() != null) {
+            add(delta.getNewItem());
+        }
+    }
+
+    /**
+     * Forgets every item.
+     */
+    public void clear() {
+        itemsByTag.clear();
+    }
+
+    /**
+     * Returns the ids of the items that may pass the filter, which are the items with a tag of its smallest group,
+     * or nothing if the filter has no group of required tags and any item may pass it.
+     */
+    public Optional<Set<Long>> findCandidates(TagQuery query) {
+        // The group whose tags are on the fewest items is found from the sizes alone, and only its items are merged
+        BitSet smallestGroup = null;
+        long smallestSize = Long.MAX_VALUE;
+        for (BitSet group : query.getRequiredGroups()) {
+            long size = 0;
+            for (int tagId = group.nextSetBit(0); tagId >= 0; tagId = group.nextSetBit(tagId + 1)) {
+                size += itemsByTag.getOrDefault(tagId, Set.of()).size();
+            }
+            if (size < smallestSize) {
+                smallestGroup = group;
+                smallestSize = size;
+            }
+        }
+        if (smallestGroup == null) {
+            return Optional.empty();
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        for (int tagId = smallestGroup.nextSetBit(0); tagId >= 0; tagId = smallestGroup.nextSetBit(tagId + 1)) {
+            candidates.addAll(itemsByTag.getOrDefault(tagId, Set.of()));
+        }
+        return Optional.of(candidates);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.elisa.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.tag.TagDictionary;
+
+/**
+ * A filter on the tags of items: an item matches if, for every group of tags, it has at least one tag of the
+ * group, and it has none of the excluded tags. Each group and the excluded tags are kept as bitsets of tag ids,
+ * so an item is checked with one bitwise operation per group.
+ */
+public class TagQuery {
+    private final List<BitSet> requiredGroups;
+    private final BitSet excluded;
+    // The ids of the tags in the filter are held for as long as the filter is, so that they are not given to others
+    private final List<TagDictionary.TagId> heldIds = new ArrayList<>();
+    private final String text;
+
+    /**
+     * Creates a filter on tags.
+     * @param requiredGroups the groups of tag names, of which an item needs at least one from each
+     * @param excludedNames the tag names that an item must not have
+     */
+    public TagQuery(List<List<String>> requiredGroups, List<String> excludedNames) {
+        requireNonNull(requiredGroups);
+        requireNonNull(excludedNames);
+        List<BitSet> groups = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        for (List<String> group : requiredGroups) {
+            groups.add(toTagIds(group));
+            text.append(String.join(",", group)).append(' ');
+        }
+        this.requiredGroups = Collections.unmodifiableList(groups);
+        this.excluded = toTagIds(excludedNames);
+        for (String name : excludedNames) {
+            text.append('!').append(name).append(' ');
+        }
+        this.text = text.toString().trim();
+    }
+
+    private BitSet toTagIds(List<String> names) {
+        BitSet tagIds = new BitSet();
+        for (String name : names) {
+            // Tags that no item has yet still get an id, so the filter stays right when such items are added
+            TagDictionary.TagId id = TagDictionary.idOf(name);
+            heldIds.add(id);
+            tagIds.set(id.getValue());
+        }
+        return tagIds;
+    }
+
+    /**
+     * Returns true if the item passes the filter.
+     */
+    public boolean matches(Item item) {
+        for (BitSet group : requiredGroups) {
+            if (!item.hasAnyTag(group)) {
+                return false;
+            }
+        }
+        return !item.hasAnyTag(excluded);
+    }
+
+    /**
+     * Returns the groups of tags that an item needs at least one of.
+     */
+    List<BitSet> getRequiredGroups() {
+        return requiredGroups;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof TagQuery
+                && requiredGroups.equals(((TagQuery) other).requiredGroups)
+                && excluded.equals(((TagQuery) other).excluded));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(requiredGroups, excluded);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
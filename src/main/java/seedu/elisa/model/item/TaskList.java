@@ -2,6 +2,7 @@ package seedu.elisa.model.item;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 import seedu.elisa.commons.core.item.Item;
 import seedu.elisa.commons.core.item.Task;
@@ -46,8 +47,16 @@ public class TaskList extends VisualizeList {
      * @param searchString a string to be search for within the description of an item
      * @return a new TaskList containing only the items that have the search string in their description
      */
-    public VisualizeList find(String[] searchString) {
-        return find(searchString, new TaskList());
+    public VisualizeList find(String[] searchStrings, DescriptionIndex index) {
+        return find(searchStrings, index, new TaskList());
+    }
+
+    public VisualizeList findTagged(TagQuery query, TagIndex index) {
+        return findTagged(query, index, new TaskList());
+    }
+
+    public VisualizeList rank(ToDoubleFunction<Item> scorer, int skip, int limit) {
+        return rank(scorer, skip, limit, new TaskList());
     }
 
     @Override
@@ -55,6 +64,11 @@ public class TaskList extends VisualizeList {
         return super.deepCopy(new TaskList());
     }
 
+    @Override
+    public VisualizeList snapshot() {
+        return super.snapshot(new TaskList());
+    }
+
     public boolean belongToList(Item item) {
         return item.hasTask();
     }
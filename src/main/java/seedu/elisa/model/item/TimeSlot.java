@@ -0,0 +1,63 @@
+package seedu.elisa.model.item;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.elisa.commons.util.AppUtil.checkArgument;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * A span of time, from its start up to but not including its end.
+ * Guarantees: immutable; the end is not before the start
+ */
+public class TimeSlot {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Creates a span of time.
+     * @param start the start of the span
+     * @param end the end of the span, which must not be before its start
+     */
+    public TimeSlot(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        checkArgument(!end.isBefore(start), "The end of a time slot cannot be before its start");
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    public Duration getDuration() {
+        return Duration.between(start, end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof TimeSlot
+                && start.equals(((TimeSlot) other).start)
+                && end.equals(((TimeSlot) other).end));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return start.format(FORMATTER) + " to " + end.format(FORMATTER);
+    }
+}
@@ -1,16 +1,29 @@
 package seedu.elisa.model.item;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
 import javafx.collections.ModifiableObservableListBase;
 import seedu.elisa.commons.core.item.Item;
 
 /**
  * An object to hold items. Parent class for TaskList, EventList and ReminderList.
+ * Items in the list are identified by their id, so {@link #contains(Object)}, {@link #indexOf(Object)} and
+ * {@link #remove(Object)} find the current version of an item without comparing the fields of every item.
  */
 public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
     protected ArrayList<Item> list;
+    private ItemPositions positions = new ItemPositions();
+    // True if the backing list may be shared with a snapshot, in which case it is copied before the next change
+    private boolean shared = false;
 
     public VisualizeList() {
         this.list = new ArrayList<>();
@@ -19,6 +32,7 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
     public VisualizeList(List<Item> list) {
         this();
         this.list.addAll(list);
+        positions.rebuild(this.list);
     }
 
     /**
@@ -46,28 +60,80 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
         }
     }
 
+    /**
+     * Updates the list with a change made to the items of the program. Items that do not belong to the list
+     * are left out, and an item that no longer belongs to the list after being replaced is removed from it.
+     * The item is found through its id, so applying a change does not scan the list.
+     * @param delta the change to be applied to the list
+     */
+    public void applyDelta(ItemDelta delta) {
+        switch (delta.getKind()) {
+        case ADDED:
+            add(delta.getNewItem());
+            break;
+        case REMOVED:
+            remove(delta.getOldItem());
+            break;
+        case REPLACED:
+            int index = indexOf(delta.getOldItem());
+            if (index < 0) {
+                add(delta.getNewItem());
+            } else if (belongToList(delta.getNewItem())) {
+                setItem(index, delta.getNewItem());
+            } else {
+                remove(index);
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
     /**
      * Check if the list contains the item.
      * @param item the item to be checked for.
      * @return true if the item is in the list, else return false.
      */
     public boolean hasItem(Item item) {
-        return super.contains(item);
+        return positions.contains(list, item);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Item && hasItem((Item) o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
     }
 
     @Override
     public void doAdd(int index, Item item) {
+        ensureUnshared();
         list.add(index, item);
+        positions.added(list, index, item);
     }
 
     @Override
     public Item doSet(int index, Item item) {
-        return list.set(index, item);
+        ensureUnshared();
+        Item oldItem = list.set(index, item);
+        positions.replaced(index, oldItem, item);
+        return oldItem;
     }
 
     @Override
     public Item doRemove(int index) {
-        return list.remove(index);
+        ensureUnshared();
+        Item removed = list.remove(index);
+        positions.removed(index, removed);
+        return removed;
     }
 
     /**
@@ -78,23 +144,72 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
         return this.list;
     }
 
-    public abstract VisualizeList find(String[] searchString);
+    /**
+     * Finds the items whose description contains any of the search strings, ignoring case, by scanning the list.
+     * @param searchStrings an array of string to be search for within the description of an item
+     * @return a new list of the same kind with the items found
+     */
+    public VisualizeList find(String[] searchStrings) {
+        return find(searchStrings, null);
+    }
 
     /**
-     * Helper function to find an item based on their description.
+     * Finds the items whose description contains any of the search strings, ignoring case.
      * @param searchStrings an array of string to be search for within the description of an item
+     * @param index an index of the descriptions of every item in the list, or null to scan the list instead
+     * @return a new list of the same kind with the items found
+     */
+    public abstract VisualizeList find(String[] searchStrings, DescriptionIndex index);
+
+    /**
+     * Helper function to find an item based on their description. The items found for each search string are
+     * added in the order of this list, after the items found for the search strings before it.
+     * @param searchStrings an array of string to be search for within the description of an item
+     * @param index an index of the descriptions of every item in the list, or null to scan the list instead
      * @param il the item list that will hold the items that contain the string within its description
      * @return the item list that was given with the found items added
      */
-    protected VisualizeList find(String[] searchStrings, VisualizeList il) {
+    protected VisualizeList find(String[] searchStrings, DescriptionIndex index, VisualizeList il) {
         for (String searchString : searchStrings) {
-            for (Item i : list) {
-                if (il.contains(i)) {
-                    continue;
-                }
+            if (index == null) {
+                scan(searchString.toLowerCase(), il);
+            } else {
+                addFound(index.find(searchString), item -> true, il);
+            }
+        }
+        return il;
+    }
+
+    private void scan(String searchString, VisualizeList il) {
+        for (Item i : list) {
+            if (!il.hasItem(i) && i.getItemDescription().getDescription().toLowerCase().contains(searchString)) {
+                il.add(i);
+            }
+        }
+    }
+
+    /**
+     * Finds the items whose tags pass the filter.
+     * @param query the filter on tags
+     * @param index an index of the tags of every item in the list, or null to scan the list instead
+     * @return a new list of the same kind with the items found
+     */
+    public abstract VisualizeList findTagged(TagQuery query, TagIndex index);
 
-                if (i.getItemDescription().getDescription()
-                        .toLowerCase().contains(searchString.toLowerCase())) {
+    /**
+     * Helper function to find the items whose tags pass the filter, in the order of this list.
+     * @param query the filter on tags
+     * @param index an index of the tags of every item in the list, or null to scan the list instead
+     * @param il the item list that will hold the items found
+     * @return the item list that was given with the found items added
+     */
+    protected VisualizeList findTagged(TagQuery query, TagIndex index, VisualizeList il) {
+        Optional<Set<Long>> candidates = index == null ? Optional.empty() : index.findCandidates(query);
+        if (candidates.isPresent()) {
+            addFound(candidates.get(), query::matches, il);
+        } else {
+            for (Item i : list) {
+                if (query.matches(i)) {
                     il.add(i);
                 }
             }
@@ -102,6 +217,66 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
         return il;
     }
 
+    /**
+     * Adds the items of this list with the given ids that pass the check to the item list, in the order of this
+     * list. The ids are looked up by position, so only the items found are visited.
+     */
+    private void addFound(Set<Long> ids, Predicate<Item> isMatch, VisualizeList il) {
+        List<Integer> foundPositions = new ArrayList<>();
+        for (long id : ids) {
+            int position = positions.indexOf(list, id);
+            if (position >= 0) {
+                foundPositions.add(position);
+            }
+        }
+        Collections.sort(foundPositions);
+        for (int position : foundPositions) {
+            Item item = list.get(position);
+            if (!il.hasItem(item) && isMatch.test(item)) {
+                il.add(item);
+            }
+        }
+    }
+
+    /**
+     * Returns one page of the items ranked from the highest score to the lowest, with ties kept in list order.
+     * Only the items up to the end of the page are kept in a bounded heap while the list is scored, so the list is
+     * never sorted as a whole.
+     * @param scorer the score of each item
+     * @param skip the number of best items before the page
+     * @param limit the number of items on the page
+     * @return a new list of the same kind with the items on the page
+     */
+    public abstract VisualizeList rank(ToDoubleFunction<Item> scorer, int skip, int limit);
+
+    /**
+     * Helper function to rank the items of the list.
+     * @param page an empty list to be filled with the items on the page
+     * @return the list that was given with the items on the page added
+     */
+    protected VisualizeList rank(ToDoubleFunction<Item> scorer, int skip, int limit, VisualizeList page) {
+        int keep = (int) Math.min((long) skip + limit, list.size());
+        double[] scores = new double[list.size()];
+        Comparator<Integer> bestFirst = Comparator.<Integer>comparingDouble(i -> -scores[i])
+                .thenComparingInt(i -> i);
+        // The worst of the best items seen so far is on top, to be pushed out by a better item
+        PriorityQueue<Integer> best = new PriorityQueue<>(keep + 1, bestFirst.reversed());
+        for (int i = 0; i < list.size() && keep > 0; i++) {
+            scores[i] = scorer.applyAsDouble(list.get(i));
+            best.offer(i);
+            if (best.size() > keep) {
+                best.poll();
+            }
+        }
+
+        List<Integer> ranked = new ArrayList<>(best);
+        ranked.sort(bestFirst);
+        for (int i = Math.min(skip, ranked.size()); i < ranked.size(); i++) {
+            page.add(list.get(ranked.get(i)));
+        }
+        return page;
+    }
+
     /**
      * Deep copy a list.
      * @return a list with all the items within it a deep copy of their original item.
@@ -124,8 +299,59 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
         return vl;
     }
 
+    /**
+     * Takes a snapshot of the list. The snapshot shares the items of this list until either list is changed,
+     * so taking a snapshot takes constant time. Items are immutable, so they never have to be copied.
+     * @return a list of the same type with the same items as this list
+     */
+    public abstract VisualizeList snapshot();
+
+    /**
+     * Helper function to return a snapshot of the list.
+     * @param vl an empty list to be turned into the snapshot
+     * @return the snapshot
+     */
+    protected VisualizeList snapshot(VisualizeList vl) {
+        vl.list = list;
+        vl.positions = positions;
+        vl.shared = true;
+        shared = true;
+        return vl;
+    }
+
+    /**
+     * Takes a copy of the list that shares neither the backing list nor the positions of the items with this list.
+     * Looking an item up updates the positions, so only a copy can be searched by another thread while this list
+     * is in use. Unlike a snapshot, a copy takes time in proportion to the size of the list.
+     * @return a list of the same type with the same items as this list
+     */
+    public VisualizeList copy() {
+        boolean wasShared = shared;
+        VisualizeList copy = snapshot();
+        // This list does not share anything with the copy once the copy has its own backing list
+        shared = wasShared;
+        copy.ensureUnshared();
+        return copy;
+    }
+
+    /**
+     * Gives this list its own copy of the backing list if it may be shared with a snapshot.
+     */
+    private void ensureUnshared() {
+        if (shared) {
+            list = new ArrayList<>(list);
+            positions = positions.copy();
+            shared = false;
+        }
+    }
+
     public int indexOf(Item item) {
-        return super.indexOf(item);
+        return positions.indexOf(list, item);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Item ? indexOf((Item) o) : -1;
     }
 
     public Item setItem(int index, Item item) {
@@ -170,8 +396,84 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
      */
     public abstract VisualizeList sort();
 
+    /**
+     * Sorts the items in the list, in the same order as {@link #sort()}. Lists that are sorted by time read the
+     * order from the index instead of comparing their items.
+     * @param index an index of the events of every item in the list, or null to compare the items instead
+     * @return the item list in the sorted order
+     */
+    public VisualizeList sort(EventIndex index) {
+        return sort();
+    }
+
+    /**
+     * Returns the items of this list whose event overlaps the range from {@code from} up to but not including
+     * {@code to}, ordered by start time.
+     * @param index an index of the events of every item in the list, or null to scan the list instead
+     */
+    public List<Item> findEventsOverlapping(LocalDateTime from, LocalDateTime to, EventIndex index) {
+        List<Item> found = new ArrayList<>();
+        if (index != null) {
+            for (Item item : index.findOverlapping(from, to)) {
+                int position = indexOf(item);
+                if (position >= 0) {
+                    found.add(list.get(position));
+                }
+            }
+            return found;
+        }
+
+        for (Item item : list) {
+            if (item.hasEvent() && EventIndex.overlaps(item.getEvent().get().getStartDateTime(),
+                    item.getEvent().get().getEndDateTime(), from, to)) {
+                found.add(item);
+            }
+        }
+        found.sort(Comparator.comparing(item -> item.getEvent().get().getStartDateTime()));
+        return found;
+    }
+
+    /**
+     * Removes all the items in a single change. The backing list is replaced instead of emptied, so a snapshot
+     * that shares it keeps its items without them being copied.
+     */
+    @Override
     public void clear() {
-        super.clear();
+        if (list.isEmpty()) {
+            return;
+        }
+        List<Item> removed = list;
+        list = new ArrayList<>();
+        positions = new ItemPositions();
+        shared = false;
+        modCount++;
+
+        beginChange();
+        nextRemove(0, removed);
+        endChange();
+    }
+
+    /**
+     * Replaces the items of this list with the items of a snapshot of it in a single change. The list shares the
+     * items of the snapshot until either list is changed, so the items are neither copied nor added one by one.
+     * @param snapshot a snapshot taken of this list
+     */
+    public void restore(VisualizeList snapshot) {
+        List<Item> removed = list;
+        list = snapshot.list;
+        positions = snapshot.positions;
+        shared = true;
+        snapshot.shared = true;
+        modCount++;
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!list.isEmpty()) {
+            nextAdd(0, list.size());
+        }
+        endChange();
     }
 
     /**
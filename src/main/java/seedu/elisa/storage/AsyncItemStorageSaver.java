@@ -0,0 +1,197 @@
+package seedu.elisa.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.elisa.commons.core.LogsCenter;
+import seedu.elisa.model.ItemStorage;
+
+/**
+ * Saves the items on a background thread, so that a slow disk never blocks the user interface.
+ * Saves requested in quick succession are coalesced into a single write of the latest snapshot, but no change
+ * waits longer than the maximum save delay before it is written. A snapshot that fails to be written stays
+ * waiting, and is written in full with the next save, flush or shutdown.
+ * Writes that the fsync policy does not force onto the disk right away are forced once the batch interval has
+ * passed, and on every flush.
+ */
+public class AsyncItemStorageSaver {
+
+    // Time to wait for further saves before writing, so that a burst of changes is written once
+    public static final long COALESCING_DELAY = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncItemStorageSaver.class);
+
+    private final Storage storage;
+    private final long maxSaveDelay;
+    private final ScheduledExecutorService executor;
+    private volatile Consumer<IOException> failureHandler = e -> {};
+
+    // The snapshot waiting to be written, the time it started waiting and the write scheduled for it
+    private ItemStorage pendingItemStorage = null;
+    private long pendingSince;
+    private ScheduledFuture<?> scheduledWrite = null;
+    // The force of the writes that were not forced onto the disk, scheduled after the first of them
+    private ScheduledFuture<?> scheduledForce = null;
+
+    /**
+     * Creates a saver that writes to the given storage.
+     * @param storage the storage to write to.
+     * @param maxSaveDelay the longest time, in milliseconds, that a requested save may wait before it is written.
+     */
+    public AsyncItemStorageSaver(Storage storage, long maxSaveDelay) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.maxSaveDelay = maxSaveDelay;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ItemStorageSaver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is told about failed writes. The handler is called on the background thread.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Requests the given snapshot to be saved. If an earlier snapshot is still waiting to be written, it is
+     * replaced by this snapshot, which takes over its unsaved changes.
+     * @param itemStorage a snapshot taken with {@link ItemStorage#snapshotForSave()}, which is never changed.
+     */
+    public synchronized void requestSave(ItemStorage itemStorage) {
+        requireNonNull(itemStorage);
+
+        long now = System.currentTimeMillis();
+        if (pendingItemStorage == null) {
+            pendingSince = now;
+        } else {
+            itemStorage.addEarlierUnsavedChanges(pendingItemStorage);
+        }
+        pendingItemStorage = itemStorage;
+
+        if (executor.isShutdown()) {
+            return;
+        }
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+        }
+        long delay = Math.max(0, Math.min(COALESCING_DELAY, pendingSince + maxSaveDelay - now));
+        scheduledWrite = executor.schedule(this::writePending, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the snapshot waiting to be written, if any, forces every write onto the disk, and waits until that is
+     * done.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+                scheduledWrite = null;
+            }
+            if (scheduledForce != null) {
+                scheduledForce.cancel(false);
+                scheduledForce = null;
+            }
+        }
+
+        if (executor.isShutdown()) {
+            writePending();
+            forceWritten();
+            return;
+        }
+
+        try {
+            // Runs after any write in progress, so the snapshots are written in order
+            executor.submit(() -> {
+                writePending();
+                forceWritten();
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to flush the items: " + e.getCause());
+        }
+    }
+
+    /**
+     * Writes the snapshot waiting to be written, if any, and stops the background thread.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    /**
+     * Writes the snapshot waiting to be written, reporting any failure to the failure handler. A snapshot that
+     * fails is put back to be written again, unless a later snapshot is already waiting to take over its changes.
+     */
+    private void writePending() {
+        ItemStorage itemStorage;
+        synchronized (this) {
+            itemStorage = pendingItemStorage;
+            pendingItemStorage = null;
+            scheduledWrite = null;
+        }
+
+        if (itemStorage == null) {
+            return;
+        }
+
+        try {
+            storage.saveItemStorage(itemStorage);
+            scheduleForce();
+        } catch (IOException e) {
+            logger.warning("Failed to save the items: " + e);
+            itemStorage.forgetUnsavedChanges();
+            synchronized (this) {
+                if (pendingItemStorage == null) {
+                    pendingItemStorage = itemStorage;
+                    pendingSince = System.currentTimeMillis();
+                } else {
+                    pendingItemStorage.addEarlierUnsavedChanges(itemStorage);
+                }
+            }
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Schedules the writes that were not forced onto the disk to be forced once the batch interval has passed,
+     * unless that is already scheduled.
+     */
+    private synchronized void scheduleForce() {
+        if (scheduledForce == null && !executor.isShutdown()) {
+            scheduledForce = executor.schedule(this::forceWritten, FsyncSchedule.BATCH_INTERVAL,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Forces the writes that were not forced onto the disk, reporting any failure to the failure handler.
+     */
+    private void forceWritten() {
+        synchronized (this) {
+            scheduledForce = null;
+        }
+
+        try {
+            storage.forceItemStorage();
+        } catch (IOException e) {
+            logger.warning("Failed to force the items onto the disk: " + e);
+            failureHandler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package seedu.elisa.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.elisa.commons.core.FsyncPolicy;
+import seedu.elisa.commons.core.item.Event;
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.ItemDescription;
+import seedu.elisa.commons.core.item.Priority;
+import seedu.elisa.commons.core.item.Reminder;
+import seedu.elisa.commons.core.item.Task;
+import seedu.elisa.commons.core.item.tag.Tag;
+import seedu.elisa.commons.exceptions.DataConversionException;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.model.AutoReschedulePeriod;
+import seedu.elisa.model.ItemStorage;
+
+/**
+ * Stores the items in a compact binary format.
+ * The file starts with a magic number and a format version, followed by a dictionary of every tag name used, and
+ * then the items. Numbers are written as variable length integers, date times as seconds and nanoseconds from the
+ * epoch, tags as indices into the dictionary and strings with their length in front. Everything that the JSON
+ * format holds is kept, so the items can be converted between the two formats without losing anything.
+ */
+public class BinaryItemStorage implements ItemListStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC_NUMBER = 0x454c5342; // "ELSB"
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final int HAS_TASK = 1;
+    private static final int HAS_EVENT = 1 << 1;
+    private static final int HAS_REMINDER = 1 << 2;
+    // Older files wrote the task as a boolean, which reads as these flags without a completion time
+    private static final int IS_COMPLETE = 1;
+    private static final int HAS_COMPLETED_DATE_TIME = 1 << 1;
+    private static final int IS_AUTO_RESCHEDULE = 1;
+    private static final int HAS_PERIOD = 1 << 1;
+
+    private final Path itemListFilePath;
+    private final FsyncSchedule fsyncSchedule;
+
+    public BinaryItemStorage(Path path) {
+        this(path, FsyncPolicy.BATCHED);
+    }
+
+    public BinaryItemStorage(Path path, FsyncPolicy fsyncPolicy) {
+        this.itemListFilePath = path;
+        this.fsyncSchedule = new FsyncSchedule(fsyncPolicy);
+    }
+
+    /**
+     * Returns the path of the binary data file that goes with the given JSON data file.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the file path of the data file.
+     */
+    public Path getItemListFilePath() {
+        return itemListFilePath;
+    }
+
+    /**
+     * Saves the given {@link ItemStorage} to the storage.
+     * @param itemStorage cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void saveItemStorage(ItemStorage itemStorage) throws IOException {
+        saveItemStorage(itemStorage, itemListFilePath);
+        // Every change is in the save file now
+        itemStorage.takeUnsavedChanges();
+    }
+
+    /**
+     * Saves the given {@link ItemStorage} to the given file. The file is replaced in a single step, so a crash
+     * never leaves it partly written.
+     * @param itemStorage cannot be null.
+     * @param filePath the path of the save file. Cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void saveItemStorage(ItemStorage itemStorage, Path filePath) throws IOException {
+        requireNonNull(itemStorage);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try (DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFilePath)))) {
+            write(out, itemStorage);
+        }
+        boolean isForced = fsyncSchedule.isForceDue();
+        if (isForced) {
+            FileUtil.force(tempFilePath);
+        }
+        FileUtil.moveAtomically(tempFilePath, filePath);
+        if (!isForced) {
+            fsyncSchedule.recordUnforced(filePath);
+        }
+    }
+
+    /**
+     * Forces the saves of the data file that were not forced under the fsync policy onto the disk.
+     */
+    public void forceItemStorage() throws IOException {
+        fsyncSchedule.forceUnforcedFiles();
+    }
+
+    /**
+     * Reads the items in the data file.
+     * @return an ItemStorage with all the items
+     * @throws IOException if there are any problem with reading from the file, or the file is cut off.
+     * @throws DataConversionException if the file is not in this format, or an item has an incorrect value or a
+     *     length that is longer than the rest of the file.
+     */
+    public ItemStorage toModelType() throws IOException, DataConversionException {
+        try (DataFileInputStream in = new DataFileInputStream(
+                new BufferedInputStream(Files.newInputStream(itemListFilePath)), Files.size(itemListFilePath))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Writes the header, the tag dictionary and all the items.
+     */
+    private static void write(DataOutputStream out, ItemStorage itemStorage) throws IOException {
+        out.writeInt(MAGIC_NUMBER);
+        writeVarLong(out, FORMAT_VERSION);
+
+        Map<String, Integer> tagIndices = new HashMap<>();
+        List<String> tagNames = new ArrayList<>();
+        for (int i = 0; i < itemStorage.size(); i++) {
+            for (Tag tag : itemStorage.get(i).getTags()) {
+                if (!tagIndices.containsKey(tag.tagName)) {
+                    tagIndices.put(tag.tagName, tagNames.size());
+                    tagNames.add(tag.tagName);
+                }
+            }
+        }
+        writeVarLong(out, tagNames.size());
+        for (String tagName : tagNames) {
+            writeString(out, tagName);
+        }
+
+        writeVarLong(out, itemStorage.size());
+        for (int i = 0; i < itemStorage.size(); i++) {
+            writeItem(out, itemStorage.get(i), tagIndices);
+        }
+    }
+
+    /**
+     * Writes a single item, with its tags as indices into the tag dictionary.
+     */
+    private static void writeItem(DataOutputStream out, Item item, Map<String, Integer> tagIndices)
+            throws IOException {
+        writeVarLong(out, item.getId());
+        int flags = (item.hasTask() ? HAS_TASK : 0)
+                | (item.hasEvent() ? HAS_EVENT : 0)
+                | (item.hasReminder() ? HAS_REMINDER : 0);
+        out.writeByte(flags);
+        out.writeByte(item.getPriority().ordinal());
+        writeString(out, item.getItemDescription().getDescription());
+
+        writeVarLong(out, item.getTags().size());
+        for (Tag tag : item.getTags()) {
+            writeVarLong(out, tagIndices.get(tag.tagName));
+        }
+
+        if (item.hasTask()) {
+            Task task = item.getTask().get();
+            int taskFlags = (task.isComplete() ? IS_COMPLETE : 0)
+                    | (task.getCompletedDateTime().isPresent() ? HAS_COMPLETED_DATE_TIME : 0);
+            out.writeByte(taskFlags);
+            if (task.getCompletedDateTime().isPresent()) {
+                writeDateTime(out, task.getCompletedDateTime().get());
+            }
+        }
+        if (item.hasEvent()) {
+            Event event = item.getEvent().get();
+            writeDateTime(out, event.getStartDateTime());
+            writeZigZag(out, event.getDuration().getSeconds());
+            writeVarLong(out, event.getDuration().getNano());
+            int eventFlags = (event.hasAutoReschedule() ? IS_AUTO_RESCHEDULE : 0)
+                    | (event.getPeriod() != null ? HAS_PERIOD : 0);
+            out.writeByte(eventFlags);
+            if (event.getPeriod() != null) {
+                writeZigZag(out, event.getPeriod().getPeriod());
+            }
+        }
+        if (item.hasReminder()) {
+            Reminder reminder = item.getReminder().get();
+            writeDateTime(out, reminder.getDefaultDateTime());
+            writeDateTime(out, reminder.getOccurrenceDateTime());
+        }
+    }
+
+    /**
+     * Reads the header, the tag dictionary and all the items.
+     */
+    private static ItemStorage read(DataFileInputStream in) throws IOException, DataConversionException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new DataConversionException(new IOException("Not a binary data file"));
+        }
+        long version = readVarLong(in);
+        if (version != FORMAT_VERSION) {
+            throw new DataConversionException(new IOException("Unsupported binary format version " + version));
+        }
+
+        try {
+            List<Tag> tags = new ArrayList<>();
+            int tagCount = readLength(in);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(readString(in)));
+            }
+
+            List<Item> readItems = new ArrayList<>();
+            int itemCount = readLength(in);
+            for (int i = 0; i < itemCount; i++) {
+                readItems.add(readItem(in, tags));
+            }
+            return ItemStorage.fromReadItems(readItems);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException | ArithmeticException e) {
+            // Unlike JSON, a binary record cannot be skipped without knowing where the next one starts
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads a single item written by {@link #writeItem}.
+     */
+    private static Item readItem(DataFileInputStream in, List<Tag> tags) throws IOException, DataConversionException {
+        Item.ItemBuilder builder = new Item.ItemBuilder().setId(readVarLong(in));
+        int flags = in.readUnsignedByte();
+        builder.setItemPriority(Priority.values()[in.readUnsignedByte()]);
+        builder.setItemDescription(new ItemDescription(readString(in)));
+
+        Set<Tag> itemTags = new HashSet<>();
+        int tagCount = readLength(in);
+        for (int i = 0; i < tagCount; i++) {
+            long tagIndex = readVarLong(in);
+            if (tagIndex < 0 || tagIndex >= tags.size()) {
+                throw new DataConversionException(new IOException("Tag " + tagIndex + " is not in the dictionary"));
+            }
+            itemTags.add(tags.get((int) tagIndex));
+        }
+        builder.setTags(itemTags);
+
+        if ((flags & HAS_TASK) != 0) {
+            int taskFlags = in.readUnsignedByte();
+            LocalDateTime completedDateTime = (taskFlags & HAS_COMPLETED_DATE_TIME) != 0 ? readDateTime(in) : null;
+            builder.setTask(new Task((taskFlags & IS_COMPLETE) != 0, completedDateTime));
+        }
+        if ((flags & HAS_EVENT) != 0) {
+            LocalDateTime startDateTime = readDateTime(in);
+            Duration duration = Duration.ofSeconds(readZigZag(in), readVarLong(in));
+            int eventFlags = in.readUnsignedByte();
+            AutoReschedulePeriod period = (eventFlags & HAS_PERIOD) != 0
+                    ? new AutoReschedulePeriod(readZigZag(in))
+                    : null;
+            builder.setEvent(new Event(startDateTime, duration, (eventFlags & IS_AUTO_RESCHEDULE) != 0, period));
+        }
+        if ((flags & HAS_REMINDER) != 0) {
+            LocalDateTime defaultDateTime = readDateTime(in);
+            LocalDateTime occurrenceDateTime = readDateTime(in);
+            builder.setReminder(new Reminder(defaultDateTime).changeOccurrenceDateTime(occurrenceDateTime));
+        }
+        return builder.build();
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime dateTime) throws IOException {
+        writeZigZag(out, dateTime.toEpochSecond(ZoneOffset.UTC));
+        writeVarLong(out, dateTime.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        long epochSecond = readZigZag(in);
+        return LocalDateTime.ofEpochSecond(epochSecond, (int) readVarLong(in), ZoneOffset.UTC);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataFileInputStream in) throws IOException, DataConversionException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the length of a string or the number of entries in a list. Every byte or entry takes up at least a byte
+     * of the file, so a length that is longer than the rest of the file can only come from a corrupted file, and is
+     * rejected before anything is allocated for it.
+     */
+    private static int readLength(DataFileInputStream in) throws IOException, DataConversionException {
+        long length = readVarLong(in);
+        if (length < 0 || length > in.getRemaining() || length > Integer.MAX_VALUE) {
+            throw new DataConversionException(
+                    new IOException("Length " + length + " is longer than the rest of the file"));
+        }
+        return (int) length;
+    }
+
+    /**
+     * Writes a number that may be negative, so that numbers close to zero take few bytes either way.
+     */
+    private static void writeZigZag(DataOutputStream out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static long readZigZag(DataInputStream in) throws IOException {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Writes a number seven bits at a time, with the high bit of each byte set if more bytes follow.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length number");
+    }
+
+    /**
+     * Reads the data file while keeping count of the bytes that are left in it.
+     */
+    private static class DataFileInputStream extends DataInputStream {
+        private final CountingInputStream counter;
+
+        DataFileInputStream(InputStream in, long size) {
+            this(new CountingInputStream(in, size));
+        }
+
+        private DataFileInputStream(CountingInputStream counter) {
+            super(counter);
+            this.counter = counter;
+        }
+
+        long getRemaining() {
+            return counter.remaining;
+        }
+    }
+
+    /**
+     * Counts down the bytes that are left to be read from a stream of a known size.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long remaining;
+
+        CountingInputStream(InputStream in, long size) {
+            super(in);
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                remaining -= count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            remaining -= skipped;
+            return skipped;
+        }
+    }
+}
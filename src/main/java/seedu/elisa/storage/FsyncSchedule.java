@@ -0,0 +1,79 @@
+package seedu.elisa.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.elisa.commons.core.FsyncPolicy;
+import seedu.elisa.commons.util.FileUtil;
+
+/**
+ * Decides which saves have to be forced onto the disk under a {@link FsyncPolicy}.
+ * Under the batched policy, the files written by saves that were not forced are remembered, so that they can be
+ * forced later, once the batch interval has passed or when the program stops.
+ */
+class FsyncSchedule {
+
+    // Time in milliseconds that a save may go without being forced onto the disk under the batched policy
+    static final long BATCH_INTERVAL = 5000;
+
+    private final FsyncPolicy fsyncPolicy;
+    private long lastForcedTime = 0;
+    // The files written without being forced onto the disk since they were last forced
+    private final Set<Path> unforcedFiles = new LinkedHashSet<>();
+
+    FsyncSchedule(FsyncPolicy fsyncPolicy) {
+        requireNonNull(fsyncPolicy);
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    /**
+     * Returns true if the next save has to be forced onto the disk.
+     */
+    synchronized boolean isForceDue() {
+        switch (fsyncPolicy) {
+        case ALWAYS:
+            return true;
+        case BATCHED:
+            long now = System.currentTimeMillis();
+            if (now - lastForcedTime < BATCH_INTERVAL) {
+                return false;
+            }
+            lastForcedTime = now;
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Records that a file was written without being forced onto the disk. Only the batched policy forces such
+     * files later.
+     */
+    synchronized void recordUnforced(Path file) {
+        if (fsyncPolicy == FsyncPolicy.BATCHED) {
+            unforcedFiles.add(file);
+        }
+    }
+
+    /**
+     * Forces the files that were written without being forced onto the disk, together with the directories that
+     * hold them. Files that no longer exist are skipped.
+     */
+    synchronized void forceUnforcedFiles() throws IOException {
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Path file : unforcedFiles) {
+            if (FileUtil.isFileExists(file)) {
+                FileUtil.force(file);
+                directories.add(file.toAbsolutePath().getParent());
+            }
+        }
+        for (Path directory : directories) {
+            FileUtil.forceDirectory(directory);
+        }
+        unforcedFiles.clear();
+    }
+}
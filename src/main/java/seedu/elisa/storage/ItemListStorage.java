@@ -28,6 +28,12 @@ public interface ItemListStorage {
      */
     void saveItemStorage(ItemStorage itemStorage, Path filePath) throws IOException;
 
+    /**
+     * Forces the data that earlier saves left unforced under the fsync policy onto the disk.
+     * @throws IOException if there was any problem forcing the files.
+     */
+    void forceItemStorage() throws IOException;
+
     ItemStorage toModelType() throws IOException, DataConversionException;
 
 }
@@ -0,0 +1,109 @@
+package seedu.elisa.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.elisa.commons.core.LogsCenter;
+import seedu.elisa.commons.core.StorageFormat;
+import seedu.elisa.commons.exceptions.DataConversionException;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.model.ReadOnlyUserPrefs;
+
+/**
+ * Opens the storage of the items in the format chosen in the user prefs.
+ * The format that the items were last saved in is recorded in a file next to the JSON data file. Whenever the chosen
+ * format differs from it, the items are converted from that format, in whichever direction, so that the files of a
+ * format that was used earlier are never loaded once they are out of date.
+ */
+public class ItemStorageFormats {
+
+    private static final String FORMAT_FILE_SUFFIX = ".format";
+
+    private static final Logger logger = LogsCenter.getLogger(ItemStorageFormats.class);
+
+    private ItemStorageFormats() {}
+
+    /**
+     * Returns the storage of the items in the format chosen in {@code userPrefs}, converting the items into it first
+     * if they were last saved in another format. If they cannot be converted, the storage of the format they were
+     * last saved in is returned instead, so that no changes are made to out of date files.
+     */
+    public static ItemListStorage open(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        StorageFormat format = userPrefs.getStorageFormat();
+        ItemListStorage itemListStorage = create(format, userPrefs);
+        Path formatFilePath = toFormatFilePath(userPrefs.getItemStorageFilePath());
+        // Before the format was recorded, the items were only ever converted from JSON into a format without files
+        StorageFormat lastFormat = readFormat(formatFilePath).orElse(
+                FileUtil.isFileExists(itemListStorage.getItemListFilePath()) ? format : StorageFormat.JSON);
+
+        if (lastFormat != format) {
+            ItemListStorage lastStorage = create(lastFormat, userPrefs);
+            if (FileUtil.isFileExists(lastStorage.getItemListFilePath())) {
+                String formatName = format.toString().toLowerCase();
+                logger.info("Converting " + lastStorage.getItemListFilePath() + " into the " + formatName + " format");
+                try {
+                    itemListStorage.saveItemStorage(lastStorage.toModelType());
+                } catch (DataConversionException | IOException e) {
+                    logger.warning("Could not convert the data file into the " + formatName + " format, so the "
+                            + lastFormat.toString().toLowerCase() + " format is used instead: " + e);
+                    return lastStorage;
+                }
+            }
+        }
+
+        try {
+            FileUtil.createParentDirsOfFile(formatFilePath);
+            FileUtil.writeToFile(formatFilePath, format.toString());
+        } catch (IOException e) {
+            logger.warning("Could not record the format of the data file: " + e);
+        }
+        return itemListStorage;
+    }
+
+    /**
+     * Returns the storage of the items in the given format, at the paths that go with the data file in
+     * {@code userPrefs}.
+     */
+    public static ItemListStorage create(StorageFormat format, ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getItemStorageFilePath();
+        switch (format) {
+        case BINARY:
+            return new BinaryItemStorage(BinaryItemStorage.toBinaryFilePath(jsonFilePath), userPrefs.getFsyncPolicy());
+        case SEGMENTED:
+            return new SegmentedItemStorage(SegmentedItemStorage.toSegmentDirectory(jsonFilePath),
+                    userPrefs.getFsyncPolicy());
+        default:
+            JournaledItemStorage jsonStorage = new JournaledItemStorage(jsonFilePath, userPrefs.getFsyncPolicy(),
+                    userPrefs.getBackupCount());
+            jsonStorage.setParallelLoad(userPrefs.isParallelLoad());
+            return jsonStorage;
+        }
+    }
+
+    /**
+     * Returns the path of the file that records the format that goes with the given JSON data file.
+     */
+    public static Path toFormatFilePath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + FORMAT_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the format recorded in the given file, or nothing if the file is missing or cannot be read.
+     */
+    private static Optional<StorageFormat> readFormat(Path formatFilePath) {
+        if (!FileUtil.isFileExists(formatFilePath)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(StorageFormat.valueOf(FileUtil.readFromFile(formatFilePath).trim()));
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Could not read the format of the data file: " + e);
+            return Optional.empty();
+        }
+    }
+}
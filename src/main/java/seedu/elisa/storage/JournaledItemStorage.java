@@ -0,0 +1,363 @@
+package seedu.elisa.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.elisa.commons.core.FsyncPolicy;
+import seedu.elisa.commons.core.LogsCenter;
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.exceptions.DataConversionException;
+import seedu.elisa.commons.exceptions.DuplicateItemException;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.commons.util.JsonUtil;
+import seedu.elisa.model.ItemStorage;
+import seedu.elisa.model.item.ItemDelta;
+
+/**
+ * Stores the items as a snapshot in the format of {@link JsonItemStorage}, together with a journal of the changes
+ * made since the snapshot was written.
+ * Saving appends one compact line per change to the journal instead of rewriting the whole data file. Once the
+ * journal grows past a threshold, it is compacted by writing a new snapshot and starting an empty journal.
+ * The journal starts with a header that stamps the snapshot it applies to with the checksum and length of the
+ * snapshot file. A journal that was left behind by an older snapshot, such as when the program stopped before the
+ * journal was deleted after a compaction, or when an older backup is read in place of the data file, is ignored.
+ */
+public class JournaledItemStorage implements ItemListStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String HEADER_SNAPSHOT = "snapshot";
+    private static final String OPERATION_ADD = "add";
+    private static final String OPERATION_REMOVE = "remove";
+    private static final String OPERATION_REPLACE = "replace";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledItemStorage.class);
+
+    private final JsonItemStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    // The item storage that the snapshot and journal hold, and the number of changes in the journal
+    private ItemStorage journaledItemStorage = null;
+    private int journalSize = 0;
+    // The stamp of the snapshot that the journal applies to, or null if no snapshot has been read or written
+    private String snapshotStamp = null;
+
+    public JournaledItemStorage(Path path) {
+        this(path, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournaledItemStorage(Path path, int compactionThreshold) {
+        this(new JsonItemStorage(path), compactionThreshold);
+    }
+
+    public JournaledItemStorage(Path path, FsyncPolicy fsyncPolicy, int backupCount) {
+        this(new JsonItemStorage(path, fsyncPolicy, backupCount), DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    private JournaledItemStorage(JsonItemStorage snapshotStorage, int compactionThreshold) {
+        Path path = snapshotStorage.getItemListFilePath();
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = path.resolveSibling(path.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the file path of the snapshot, which is the data file.
+     */
+    public Path getItemListFilePath() {
+        return snapshotStorage.getItemListFilePath();
+    }
+
+    /**
+     * Sets whether the items in the snapshot are decoded on several cores when they are loaded.
+     */
+    public void setParallelLoad(boolean isParallelLoad) {
+        snapshotStorage.setParallelLoad(isParallelLoad);
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Saves the changes made to the given {@link ItemStorage} since it was last saved by appending them to the
+     * journal. The whole storage is written as a new snapshot instead if it is not the storage that was last
+     * saved or loaded (or a snapshot of it taken for saving), if its changes were not all kept, or if the journal
+     * has grown too long.
+     * @param itemStorage cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void saveItemStorage(ItemStorage itemStorage) throws IOException {
+        requireNonNull(itemStorage);
+
+        Optional<List<ItemDelta>> changes = itemStorage.takeUnsavedChanges();
+        if (!itemStorage.hasSameOrigin(journaledItemStorage) || changes.isEmpty()
+                || journalSize + changes.get().size() > compactionThreshold) {
+            compact(itemStorage);
+            return;
+        }
+
+        if (changes.get().isEmpty()) {
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (ItemDelta change : changes.get()) {
+            records.append(toRecord(change)).append(System.lineSeparator());
+        }
+
+        try {
+            FileUtil.createParentDirsOfFile(journalFilePath);
+            boolean isForced = snapshotStorage.isForceDue();
+            if (FileUtil.isFileExists(journalFilePath)) {
+                FileUtil.appendToFile(journalFilePath, records.toString(), isForced);
+            } else {
+                startJournal(records.toString(), isForced);
+            }
+            if (!isForced) {
+                snapshotStorage.recordUnforced(journalFilePath);
+            }
+        } catch (IOException e) {
+            // The changes are no longer tracked by the item storage, so the next save has to write everything
+            journaledItemStorage = null;
+            throw e;
+        }
+        journalSize += changes.get().size();
+        journaledItemStorage = itemStorage;
+    }
+
+    /**
+     * Exports the given {@link ItemStorage} as a plain JSON file. Saving to the data file itself is journaled.
+     * @param itemStorage cannot be null.
+     * @param filePath the path of the save file. Cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void saveItemStorage(ItemStorage itemStorage, Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(getItemListFilePath())) {
+            saveItemStorage(itemStorage);
+        } else {
+            snapshotStorage.saveItemStorage(itemStorage, filePath);
+        }
+    }
+
+    /**
+     * Forces the snapshot and the journal onto the disk if the fsync policy left a save of either unforced.
+     */
+    public void forceItemStorage() throws IOException {
+        snapshotStorage.forceItemStorage();
+    }
+
+    /**
+     * Reads the snapshot and replays the journal on top of it, unless the journal was written for another snapshot.
+     * If the snapshot had items without ids, or the journal could not be replayed in full, the next save writes a new
+     * snapshot instead of appending to the journal.
+     * @return an ItemStorage with all the items
+     * @throws IOException if there are any problem with reading from the files.
+     * @throws DataConversionException if the snapshot is corrupted.
+     */
+    public ItemStorage toModelType() throws IOException, DataConversionException {
+        ItemStorage itemStorage;
+        if (!snapshotStorage.hasSaveFile() && FileUtil.isFileExists(journalFilePath)) {
+            itemStorage = new ItemStorage();
+            snapshotStamp = null;
+        } else {
+            itemStorage = snapshotStorage.toModelType();
+            snapshotStamp = readSnapshotStamp(snapshotStorage.getReadFilePath());
+        }
+
+        boolean isJournalIntact = replayJournal(itemStorage);
+        boolean hasKeptChanges = itemStorage.takeUnsavedChanges().isPresent();
+
+        // A corrupted or outdated journal, a missing snapshot, or a snapshot that does not know the ids of its items,
+        // is rewritten as a new snapshot on the next save
+        journaledItemStorage = isJournalIntact && hasKeptChanges && snapshotStamp != null ? itemStorage : null;
+        return itemStorage;
+    }
+
+    /**
+     * Writes the whole item storage as a new snapshot and deletes the journal. The next save starts a new journal
+     * for the new snapshot. If the program stops before the old journal is deleted, the old journal no longer
+     * matches the snapshot and is ignored.
+     */
+    private void compact(ItemStorage itemStorage) throws IOException {
+        logger.fine("Compacting journal of " + journalSize + " changes into " + getItemListFilePath());
+        journaledItemStorage = null;
+        snapshotStorage.saveItemStorage(itemStorage);
+        snapshotStamp = readSnapshotStamp(getItemListFilePath());
+        Files.deleteIfExists(journalFilePath);
+        journaledItemStorage = itemStorage;
+        journalSize = 0;
+    }
+
+    /**
+     * Starts a new journal for the current snapshot with the given records. The journal is written next to its place
+     * and renamed into it, so a journal is never seen without its header.
+     */
+    private void startJournal(String records, boolean isForced) throws IOException {
+        ObjectNode header = JsonUtil.getObjectMapper().createObjectNode();
+        header.put(HEADER_SNAPSHOT, snapshotStamp);
+        Path tempFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName() + TEMP_FILE_SUFFIX);
+        FileUtil.writeToFile(tempFilePath, JsonUtil.getObjectMapper().writeValueAsString(header)
+                + System.lineSeparator() + records, isForced);
+        FileUtil.moveAtomically(tempFilePath, journalFilePath);
+        if (isForced) {
+            FileUtil.forceDirectory(journalFilePath.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Applies the changes in the journal to the item storage. Stops at the first record that cannot be read,
+     * which happens when the program stopped while a record was being written. Records that change an item that is
+     * not in the storage are skipped with a warning, as the journal no longer matches the snapshot. A journal whose
+     * header stamps another snapshot is not applied at all. Journals of older versions have no header, and are
+     * applied as they are.
+     * @return true if every record in the journal was applied.
+     */
+    private boolean replayJournal(ItemStorage itemStorage) throws IOException {
+        journalSize = 0;
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return true;
+        }
+
+        boolean isIntact = true;
+        List<String> records = Files.readAllLines(journalFilePath);
+        Optional<String> journalStamp = records.isEmpty() ? Optional.empty() : readHeader(records.get(0));
+        if (journalStamp.isPresent()) {
+            if (snapshotStamp != null && !journalStamp.get().equals(snapshotStamp)) {
+                logger.warning(String.format("Journal %s was written for another snapshot than %s. Ignoring it.",
+                        journalFilePath, snapshotStorage.getReadFilePath()));
+                return false;
+            }
+            records = records.subList(1, records.size());
+        }
+        for (String record : records) {
+            if (record.isBlank()) {
+                continue;
+            }
+            try {
+                if (!applyRecord(itemStorage, record)) {
+                    logger.warning(String.format("Journal record %d changes an item that is not in %s. Skipping it.",
+                            journalSize + 1, getItemListFilePath()));
+                    isIntact = false;
+                }
+                journalSize++;
+            } catch (IOException | NullPointerException | IllegalArgumentException e) {
+                logger.warning(String.format("Journal record %d is corrupted. Ignoring the rest of the journal.",
+                        journalSize + 1));
+                return false;
+            }
+        }
+        logger.info("Replayed " + journalSize + " changes from " + journalFilePath);
+        return isIntact;
+    }
+
+    /**
+     * Returns the snapshot stamped by the given line if it is the header of a journal.
+     */
+    private static Optional<String> readHeader(String line) {
+        try {
+            JsonNode node = JsonUtil.getObjectMapper().readTree(line);
+            return node != null && node.has(HEADER_SNAPSHOT)
+                    ? Optional.of(node.get(HEADER_SNAPSHOT).asText())
+                    : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the stamp of a snapshot file, made of the checksum and the length of the file. The data file stays a
+     * plain array of items that the other storage formats can read, so the stamp is read from the file instead of
+     * being written into it.
+     */
+    private static String readSnapshotStamp(Path snapshotFilePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        long length = 0;
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(snapshotFilePath)) {
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                checksum.update(buffer, 0, read);
+                length += read;
+            }
+        }
+        return Long.toHexString(checksum.getValue()) + ":" + length;
+    }
+
+    /**
+     * Converts a change into a single line record of the journal.
+     */
+    private static String toRecord(ItemDelta change) throws IOException {
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        ObjectNode record = objectMapper.createObjectNode();
+        switch (change.getKind()) {
+        case ADDED:
+            record.put("op", OPERATION_ADD);
+            record.put("index", change.getIndex());
+            record.set("item", objectMapper.valueToTree(change.getNewItem()));
+            break;
+        case REMOVED:
+            record.put("op", OPERATION_REMOVE);
+            record.put("id", change.getOldItem().getId());
+            break;
+        case REPLACED:
+            record.put("op", OPERATION_REPLACE);
+            record.put("id", change.getOldItem().getId());
+            record.set("item", objectMapper.valueToTree(change.getNewItem()));
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown change: " + change.getKind());
+        }
+        return objectMapper.writeValueAsString(record);
+    }
+
+    /**
+     * Applies a single record of the journal to the item storage.
+     * @return false if the record removes or replaces an item that is not in the storage.
+     */
+    private static boolean applyRecord(ItemStorage itemStorage, String record) throws IOException {
+        JsonNode node = JsonUtil.getObjectMapper().readTree(record);
+        String operation = node.get("op").asText();
+
+        if (operation.equals(OPERATION_ADD)) {
+            Item item = Item.fromJson(node.get("item").toString());
+            int index = Math.min(node.get("index").asInt(), itemStorage.size());
+            try {
+                itemStorage.add(index < 0 ? itemStorage.size() : index, item);
+            } catch (DuplicateItemException e) {
+                logger.info(String.format("%s already exists. Skipping.", item));
+            }
+            return true;
+        }
+
+        if (!operation.equals(OPERATION_REMOVE) && !operation.equals(OPERATION_REPLACE)) {
+            throw new IllegalArgumentException("Unknown journal operation: " + operation);
+        }
+        int index = itemStorage.indexOf(node.get("id").asLong());
+        if (index < 0) {
+            return false;
+        }
+        if (operation.equals(OPERATION_REMOVE)) {
+            itemStorage.remove(itemStorage.get(index));
+        } else {
+            itemStorage.setItem(index, Item.fromJson(node.get("item").toString()));
+        }
+        return true;
+    }
+}
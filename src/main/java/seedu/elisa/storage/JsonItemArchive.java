@@ -0,0 +1,184 @@
+package seedu.elisa.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.elisa.commons.core.LogsCenter;
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.exceptions.DataConversionException;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.commons.util.JsonUtil;
+import seedu.elisa.model.ItemArchive;
+
+/**
+ * Keeps the archived items in a file next to the data file, with one compact line for each item that is archived
+ * or taken out of the archive again.
+ * Archiving only appends to the file, so the archive is never read while items are moved into it. The file is
+ * read when the archived items are asked for, and rewritten without the items taken out once they make up most
+ * of it.
+ */
+public class JsonItemArchive implements ItemArchive {
+
+    private static final String ARCHIVE_FILE_SUFFIX = ".archive";
+    private static final String INDEX_FILE_SUFFIX = ".idx";
+    private static final String OPERATION_ADD = "add";
+    private static final String OPERATION_REMOVE = "remove";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonItemArchive.class);
+
+    private final Path filePath;
+    private final Path indexFilePath;
+    // Kept open between searches, so that the index is only mapped again when records are added to it
+    private MappedArchiveReader reader = null;
+
+    public JsonItemArchive(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.indexFilePath = filePath.resolveSibling(filePath.getFileName() + INDEX_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the archive that goes with the given data file.
+     */
+    public static Path toArchiveFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + ARCHIVE_FILE_SUFFIX);
+    }
+
+    public Path getArchiveFilePath() {
+        return filePath;
+    }
+
+    public Path getIndexFilePath() {
+        return indexFilePath;
+    }
+
+    @Override
+    public void archive(List<Item> items) throws IOException {
+        requireNonNull(items);
+        if (items.isEmpty()) {
+            return;
+        }
+
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        StringBuilder records = new StringBuilder();
+        for (Item item : items) {
+            ObjectNode record = objectMapper.createObjectNode();
+            record.put("op", OPERATION_ADD);
+            record.set("item", objectMapper.valueToTree(item));
+            records.append(objectMapper.writeValueAsString(record)).append(System.lineSeparator());
+        }
+
+        // The items are taken out of the data file once this returns, so they have to be on the disk by then
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.appendToFile(filePath, records.toString(), true);
+    }
+
+    @Override
+    public boolean unarchive(Item item) throws IOException, DataConversionException {
+        requireNonNull(item);
+        if (readRecords().remove(item.getId()) == null) {
+            return false;
+        }
+
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        ObjectNode record = objectMapper.createObjectNode();
+        record.put("op", OPERATION_REMOVE);
+        record.put("id", item.getId());
+        FileUtil.appendToFile(filePath, objectMapper.writeValueAsString(record) + System.lineSeparator(), true);
+        return true;
+    }
+
+    @Override
+    public List<Item> readArchivedItems() throws IOException, DataConversionException {
+        return new ArrayList<>(readRecords().values());
+    }
+
+    /**
+     * Searches the archive through a memory-mapped index of it, so that only the matching items are read from
+     * the archive. The records archived since the last search are added to the index first.
+     */
+    @Override
+    public List<Item> findArchivedItems(String[] searchStrings) throws IOException, DataConversionException {
+        requireNonNull(searchStrings);
+        if (!FileUtil.isFileExists(filePath)) {
+            return new ArrayList<>();
+        }
+
+        try {
+            if (reader == null) {
+                reader = MappedArchiveReader.open(filePath, indexFilePath);
+            } else {
+                reader.refresh();
+            }
+            return reader.find(searchStrings);
+        } catch (IOException e) {
+            // Such as when an index that is still mapped cannot be changed, so it is opened again the next time
+            reader = null;
+            logger.warning("Could not search the archive through its index, so it is read in full: " + e);
+            return ItemArchive.super.findArchivedItems(searchStrings);
+        }
+    }
+
+    /**
+     * Reads the archived items by their id, and compacts the file if most of its records are no longer needed.
+     * A record that cannot be read is skipped, which happens when the program stopped while it was written.
+     */
+    private Map<Long, Item> readRecords() throws IOException {
+        Map<Long, Item> items = new LinkedHashMap<>();
+        if (!FileUtil.isFileExists(filePath)) {
+            return items;
+        }
+
+        int recordCount = 0;
+        for (String record : Files.readAllLines(filePath)) {
+            if (record.isBlank()) {
+                continue;
+            }
+            recordCount++;
+            try {
+                JsonNode node = JsonUtil.getObjectMapper().readTree(record);
+                if (node.get("op").asText().equals(OPERATION_ADD)) {
+                    Item item = Item.fromJson(node.get("item").toString());
+                    items.put(item.getId(), item);
+                } else {
+                    items.remove(node.get("id").asLong());
+                }
+            } catch (IOException | NullPointerException | IllegalArgumentException e) {
+                logger.warning(String.format("Archive record %d is corrupted and will be skipped.", recordCount));
+            }
+        }
+
+        if (recordCount > 2 * items.size()) {
+            compact(items);
+        }
+        return items;
+    }
+
+    /**
+     * Rewrites the archive with a single record for each of the given items.
+     */
+    private void compact(Map<Long, Item> items) throws IOException {
+        logger.fine("Compacting " + filePath + " down to " + items.size() + " items");
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Files.deleteIfExists(tempFilePath);
+        JsonItemArchive compacted = new JsonItemArchive(tempFilePath);
+        compacted.archive(new ArrayList<>(items.values()));
+        if (items.isEmpty()) {
+            Files.deleteIfExists(filePath);
+        } else {
+            FileUtil.moveAtomically(tempFilePath, filePath);
+        }
+    }
+}
@@ -3,28 +3,52 @@ package seedu.elisa.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.elisa.commons.core.FsyncPolicy;
 import seedu.elisa.commons.core.LogsCenter;
 import seedu.elisa.commons.exceptions.DataConversionException;
 import seedu.elisa.commons.exceptions.IllegalValueException;
 import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.commons.util.JsonUtil;
 import seedu.elisa.model.ItemStorage;
+import seedu.elisa.model.UserPrefs;
 
 /**
- * A class that contains all the JSON representation of the string
+ * A class that contains all the JSON representation of the string.
+ * The data file is saved by writing a temporary file next to it and renaming it over the data file, so a crash
+ * never leaves a partly written data file behind, nor a moment without a data file. The previous data files are
+ * kept as backups, which are read instead if the data file cannot be read.
  */
 public class JsonItemStorage implements ItemListStorage {
 
     public static final String MESSAGE_DUPLICATE_ITEM = "Items list contains duplicate items";
 
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final Logger logger = LogsCenter.getLogger(JsonItemStorage.class);
 
     private Path itemListFilePath;
+    private final FsyncSchedule fsyncSchedule;
+    private final int backupCount;
+    private boolean isParallelLoad = false;
+    // The file the items were last read from, which is a backup if the data file could not be read
+    private Path readFilePath = null;
 
     public JsonItemStorage (Path path) {
+        this(path, FsyncPolicy.BATCHED, UserPrefs.DEFAULT_BACKUP_COUNT);
+    }
+
+    public JsonItemStorage(Path path, FsyncPolicy fsyncPolicy, int backupCount) {
         this.itemListFilePath = path;
+        this.fsyncSchedule = new FsyncSchedule(fsyncPolicy);
+        this.backupCount = backupCount;
     }
 
     /**
@@ -42,10 +66,13 @@ public class JsonItemStorage implements ItemListStorage {
      */
     public void saveItemStorage(ItemStorage itemStorage) throws IOException {
         saveItemStorage(itemStorage, itemListFilePath);
+        // Every change is in the save file now
+        itemStorage.takeUnsavedChanges();
     }
 
     /**
-     * Saves the given {@link ItemStorage} to the storage.
+     * Saves the given {@link ItemStorage} to the storage. The file is replaced in a single step, and if it is the
+     * data file, the data file it replaces is kept as a backup.
      * @param itemStorage cannot be null.
      * @param filePath the path of the save file. Cannot be null.
      * @throws IOException if there was any problem writing to the file.
@@ -54,23 +81,154 @@ public class JsonItemStorage implements ItemListStorage {
         requireNonNull(itemStorage);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        FileUtil.writeToFile(filePath, itemStorage.toJson());
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        boolean isForced = isForceDue();
+        FileUtil.writeToFile(tempFilePath, itemStorage.toJson(), isForced);
+        if (filePath.equals(itemListFilePath)) {
+            rotateBackups();
+        }
+        FileUtil.moveAtomically(tempFilePath, filePath);
+        if (isForced) {
+            // The rename is only on the disk once the directory that holds the file is
+            FileUtil.forceDirectory(filePath.toAbsolutePath().getParent());
+        } else {
+            recordUnforced(filePath);
+        }
+    }
+
+    /**
+     * Forces the saves of the data file that were not forced under the fsync policy onto the disk.
+     */
+    public void forceItemStorage() throws IOException {
+        fsyncSchedule.forceUnforcedFiles();
     }
 
     /**
-     * Converts this JSON item storage into the model's storage.
+     * Sets whether the items are decoded on several cores when they are loaded, which is faster for large files
+     * but holds the whole file in memory.
+     */
+    public void setParallelLoad(boolean isParallelLoad) {
+        this.isParallelLoad = isParallelLoad;
+    }
+
+    /**
+     * Returns the path of the backup of the given generation, where generation 1 is the newest backup.
+     */
+    public Path getBackupFilePath(int generation) {
+        return itemListFilePath.resolveSibling(itemListFilePath.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Returns true if the data file or any of its backups exists.
+     */
+    public boolean hasSaveFile() {
+        for (int generation = 0; generation <= backupCount; generation++) {
+            if (FileUtil.isFileExists(getGenerationFilePath(generation))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts this JSON item storage into the model's storage. If the data file cannot be read, the newest backup
+     * that can be read is used instead.
      * @return an ItemStorage with all the items
      * @throws IllegalValueException if there were any data constraints violated.
      * @throws IOException if there are any problem with reading from the string.
      */
     public ItemStorage toModelType() throws IOException, DataConversionException {
-        String jsonString = FileUtil.readFromFile(itemListFilePath);
         try {
-            return ItemStorage.fromJson(jsonString);
-        } catch (DataConversionException e) {
+            ItemStorage itemStorage = readItemStorage(itemListFilePath);
+            readFilePath = itemListFilePath;
+            return itemStorage;
+        } catch (IOException | DataConversionException e) {
             logger.info("Data from save file corrupted.");
+            for (int generation = 1; generation <= backupCount; generation++) {
+                Path backupFilePath = getBackupFilePath(generation);
+                if (!FileUtil.isFileExists(backupFilePath)) {
+                    continue;
+                }
+                try {
+                    ItemStorage itemStorage = readItemStorage(backupFilePath);
+                    readFilePath = backupFilePath;
+                    logger.warning("Using the backup " + backupFilePath + " instead of the data file.");
+                    return itemStorage;
+                } catch (IOException | DataConversionException backupException) {
+                    logger.info("Backup " + backupFilePath + " corrupted.");
+                }
+            }
             throw e;
         }
     }
+
+    /**
+     * Returns the file that {@link #toModelType()} last read the items from, which is a backup if the data file
+     * could not be read, or null if no items have been read.
+     */
+    Path getReadFilePath() {
+        return readFilePath;
+    }
+
+    /**
+     * Returns true if the next save has to be forced onto the disk under the fsync policy.
+     */
+    boolean isForceDue() {
+        return fsyncSchedule.isForceDue();
+    }
+
+    /**
+     * Records that a file was written without being forced, so that {@link #forceItemStorage()} forces it.
+     */
+    void recordUnforced(Path file) {
+        fsyncSchedule.recordUnforced(file);
+    }
+
+    /**
+     * Reads the items from the given file, one item at a time unless they are loaded in parallel.
+     */
+    private ItemStorage readItemStorage(Path filePath) throws IOException, DataConversionException {
+        if (isParallelLoad) {
+            return new ParallelItemLoader().load(filePath);
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.getCurrentToken() == null) {
+                // An empty storage is saved as an empty array, so a blank file was cut off while it was written
+                throw new DataConversionException(new IOException(filePath + " is empty"));
+            }
+            return ItemStorage.fromJson(parser);
+        }
+    }
+
+    /**
+     * Shifts every backup of the data file one generation older, dropping the oldest, and makes the data file
+     * the newest backup. The data file is linked or copied rather than moved, so it stays in place until the new
+     * data file replaces it.
+     */
+    private void rotateBackups() throws IOException {
+        if (backupCount <= 0) {
+            return;
+        }
+        Files.deleteIfExists(getBackupFilePath(backupCount));
+        for (int generation = backupCount - 1; generation >= 0; generation--) {
+            try {
+                if (generation == 0) {
+                    FileUtil.linkOrCopy(itemListFilePath, getBackupFilePath(1));
+                } else {
+                    FileUtil.moveAtomically(getBackupFilePath(generation), getBackupFilePath(generation + 1));
+                }
+            } catch (NoSuchFileException e) {
+                // This generation has not been saved yet
+            }
+        }
+    }
+
+    /**
+     * Returns the data file for generation 0, and the backup of that generation otherwise.
+     */
+    private Path getGenerationFilePath(int generation) {
+        return generation == 0 ? itemListFilePath : getBackupFilePath(generation);
+    }
 }
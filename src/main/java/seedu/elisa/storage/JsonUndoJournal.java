@@ -0,0 +1,166 @@
+package seedu.elisa.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.elisa.commons.core.LogsCenter;
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.commons.util.JsonUtil;
+import seedu.elisa.model.UndoJournal;
+import seedu.elisa.model.UndoRecord;
+
+/**
+ * Keeps the undo history in a file next to the data file, with one compact line for each operation on it.
+ * A push holds only the items that the command changed, and the other operations hold nothing but their name.
+ */
+public class JsonUndoJournal implements UndoJournal {
+
+    private static final String UNDO_FILE_SUFFIX = ".undo";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonUndoJournal.class);
+
+    private final Path filePath;
+    private long length;
+    // True if the file was cut off in the middle of a line, which has to be ended before the next line is appended
+    private boolean isLineOpen;
+
+    public JsonUndoJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        try {
+            this.length = FileUtil.isFileExists(filePath) ? Files.size(filePath) : 0;
+            this.isLineOpen = length > 0 && readLastByte() != '\n';
+        } catch (IOException e) {
+            logger.warning("Could not read the undo history, so it starts afresh: " + e);
+            this.length = 0;
+        }
+    }
+
+    /**
+     * Returns the path of the undo history that goes with the given data file.
+     */
+    public static Path toUndoFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + UNDO_FILE_SUFFIX);
+    }
+
+    public Path getUndoFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void append(Operation operation, UndoRecord record) throws IOException {
+        requireNonNull(operation);
+        String line = toLine(operation, record);
+        if (isLineOpen) {
+            line = System.lineSeparator() + line;
+            isLineOpen = false;
+        }
+
+        // Losing the last few operations in a crash only shortens the history, so the file is not forced
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.appendToFile(filePath, line);
+        length += line.getBytes(UTF_8).length;
+    }
+
+    @Override
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    public List<Entry> read(long length) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        if (length == 0 || !FileUtil.isFileExists(filePath)) {
+            return entries;
+        }
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        String[] lines = new String(bytes, 0, (int) Math.min(length, bytes.length), UTF_8).split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            try {
+                entries.add(toEntry(JsonUtil.getObjectMapper().readTree(lines[i])));
+            } catch (IOException | NullPointerException | IllegalArgumentException e) {
+                logger.warning(String.format("Undo history record %d is corrupted and will be skipped.", i + 1));
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public void rewrite(List<UndoRecord> undoRecords, List<UndoRecord> redoRecords) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (UndoRecord record : undoRecords) {
+            lines.append(toLine(Operation.PUSH, record));
+        }
+        for (UndoRecord record : redoRecords) {
+            lines.append(toLine(Operation.PUSH, record));
+        }
+        for (int i = 0; i < redoRecords.size(); i++) {
+            lines.append(toLine(Operation.UNDO, null));
+        }
+
+        logger.fine("Compacting " + filePath + " down to " + (undoRecords.size() + redoRecords.size()) + " commands");
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.writeToFile(tempFilePath, lines.toString());
+        FileUtil.moveAtomically(tempFilePath, filePath);
+        length = Files.size(filePath);
+    }
+
+    private byte readLastByte() throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(filePath)) {
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.position(length - 1).read(lastByte);
+            return lastByte.get(0);
+        }
+    }
+
+    private static String toLine(Operation operation, UndoRecord record) throws IOException {
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        ObjectNode line = objectMapper.createObjectNode();
+        line.put("op", operation.name());
+        if (record != null) {
+            line.put("command", record.getCommandWord());
+            line.put("kind", record.getKind().name());
+            if (record.getBefore() != null) {
+                line.set("before", objectMapper.valueToTree(record.getBefore()));
+            }
+            if (record.getAfter() != null) {
+                line.set("after", objectMapper.valueToTree(record.getAfter()));
+            }
+        }
+        return objectMapper.writeValueAsString(line) + System.lineSeparator();
+    }
+
+    private static Entry toEntry(JsonNode line) throws IOException {
+        Operation operation = Operation.valueOf(line.get("op").asText());
+        if (operation != Operation.PUSH) {
+            return new Entry(operation, null);
+        }
+
+        Item before = line.has("before") ? Item.fromJson(line.get("before").toString()) : null;
+        Item after = line.has("after") ? Item.fromJson(line.get("after").toString()) : null;
+        UndoRecord.Kind kind = UndoRecord.Kind.valueOf(line.get("kind").asText());
+        if ((kind != UndoRecord.Kind.ADDED && before == null) || (kind != UndoRecord.Kind.DELETED && after == null)) {
+            throw new IllegalArgumentException("The record is missing an item");
+        }
+        return new Entry(operation, new UndoRecord(line.get("command").asText(), kind, before, after));
+    }
+}
@@ -0,0 +1,415 @@
+package seedu.elisa.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.tag.Tag;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.commons.util.JsonUtil;
+
+/**
+ * Reads an index of the archive through a read-only memory map, so that the archive can be searched without
+ * reading it onto the heap.
+ * The index holds an entry for every record of the archive, in the same order. An entry records where the item is
+ * in the archive, what kind of item it is, when it starts and ends, its priority, its tags and its description in
+ * lower case, so a search scans the entries in the map without allocating, and only the items that match are read
+ * from the archive and decoded. Records that take an item out of the archive have an entry too.
+ * The archive is only ever appended to, except when it is compacted, so the index is brought up to date by adding
+ * the entries of the records after the part of the archive it was built from. It is only built again from the
+ * start when that part of the archive has changed, which is after a compaction.
+ */
+class MappedArchiveReader {
+
+    static final int MAGIC = 0x454c5341;
+    static final int VERSION = 2;
+
+    static final byte KIND_TASK = 1;
+    static final byte KIND_EVENT = 1 << 1;
+    static final byte KIND_REMINDER = 1 << 2;
+    static final byte KIND_COMPLETE = 1 << 3;
+    // The kind of the entry of a record that takes an item out of the archive
+    static final byte KIND_REMOVED = 1 << 4;
+
+    // Start and end of an item without a date
+    static final long NO_EPOCH = Long.MIN_VALUE;
+
+    // magic, version, length of the archive indexed, checksum of the end of that part, end of the entries
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8;
+    // id, offset and length in the archive, kind, priority, start and end, tag bitmap, length of description
+    private static final int ENTRY_FIXED_SIZE = 8 + 8 + 4 + 1 + 1 + 8 + 8 + 8 + 4;
+    // The number of bytes at the end of the indexed part of the archive that are checked for a compaction
+    private static final int CHECKED_TAIL_LENGTH = 64;
+
+    private final Path archiveFilePath;
+    private final Path indexFilePath;
+
+    private MappedByteBuffer index;
+    private long indexedLength;
+    private long entriesEnd;
+    // The position in the index of the entry of every archived item, in the order they were archived
+    private final List<Integer> entries = new ArrayList<>();
+    private final Map<Long, Integer> entriesById = new HashMap<>();
+
+    private MappedArchiveReader(Path archiveFilePath, Path indexFilePath) {
+        this.archiveFilePath = archiveFilePath;
+        this.indexFilePath = indexFilePath;
+    }
+
+    /**
+     * Maps the index of the archive, building it first if it is missing or was built from an archive that has
+     * since been compacted, and adding the records archived since it was last brought up to date.
+     */
+    static MappedArchiveReader open(Path archiveFilePath, Path indexFilePath) throws IOException {
+        MappedArchiveReader reader = new MappedArchiveReader(archiveFilePath, indexFilePath);
+        reader.refresh();
+        return reader;
+    }
+
+    /**
+     * Brings the index up to date with the archive, only reading the records archived since it was last brought
+     * up to date, unless the archive has been compacted since.
+     */
+    void refresh() throws IOException {
+        long archiveLength = archiveLength(archiveFilePath);
+        if (index == null || !isIndexOf(archiveLength)) {
+            load(archiveLength);
+        }
+        if (archiveLength > indexedLength) {
+            addEntries(archiveLength);
+        }
+    }
+
+    /**
+     * Returns true if the mapped index was built from the archive as it is, apart from the records added since.
+     */
+    private boolean isIndexOf(long archiveLength) throws IOException {
+        return archiveLength >= indexedLength
+                && index.getLong(16) == tailChecksum(archiveFilePath, indexedLength);
+    }
+
+    /**
+     * Maps the index and reads where its entries are, or starts the index again if it cannot be used.
+     */
+    private void load(long archiveLength) throws IOException {
+        entries.clear();
+        entriesById.clear();
+        try (FileChannel channel = FileChannel.open(indexFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (!hasUsableHeader(channel, archiveLength)) {
+                channel.truncate(0);
+                channel.write(toHeader(0, 0, HEADER_SIZE), 0);
+            }
+            index = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        indexedLength = index.getLong(8);
+        entriesEnd = index.getLong(24);
+
+        trackEntries(HEADER_SIZE, (int) entriesEnd);
+    }
+
+    /**
+     * Returns true if the index file holds entries of this version for a part of the archive as it is now.
+     */
+    private boolean hasUsableHeader(FileChannel channel, long archiveLength) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (!readFully(channel, header, 0) || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            return false;
+        }
+        long length = header.getLong(8);
+        // Entries written after the header was last updated are partly written at worst, so they are dropped
+        return length <= archiveLength && header.getLong(16) == tailChecksum(archiveFilePath, length)
+                && header.getLong(24) <= channel.size();
+    }
+
+    /**
+     * Goes through the entries between the given positions in the index, in order.
+     */
+    private void trackEntries(int start, int end) {
+        for (int entry = start; entry < end; entry += ENTRY_FIXED_SIZE + index.getInt(entry + 46)) {
+            trackEntry(entry);
+        }
+    }
+
+    /**
+     * Adds the entry at the given position in the index to the archived items, or takes its item out of them.
+     */
+    private void trackEntry(int entry) {
+        long id = index.getLong(entry);
+        Integer archived = entriesById.remove(id);
+        if (archived != null) {
+            entries.remove(Collections.binarySearch(entries, archived));
+        }
+        if ((index.get(entry + 20) & KIND_REMOVED) == 0) {
+            entries.add(entry);
+            entriesById.put(id, entry);
+        }
+    }
+
+    /**
+     * Appends the entries of the records of the archive after the indexed part, and maps the index again.
+     * A record that is still being written, with no line break after it yet, is left for the next time.
+     */
+    private void addEntries(long archiveLength) throws IOException {
+        ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(entryBytes);
+        long lineStart = indexedLength;
+        try (FileChannel archive = FileChannel.open(archiveFilePath, StandardOpenOption.READ)) {
+            InputStream in = new BufferedInputStream(Channels.newInputStream(archive.position(indexedLength)));
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            for (long position = indexedLength; position < archiveLength; position++) {
+                int next = in.read();
+                if (next < 0) {
+                    break;
+                }
+                if (next != '\n') {
+                    line.write(next);
+                    continue;
+                }
+                writeEntry(out, line.toString(UTF_8), lineStart, position - lineStart);
+                line.reset();
+                lineStart = position + 1;
+            }
+        }
+        out.flush();
+
+        long newEntriesEnd = entriesEnd + entryBytes.size();
+        try (FileChannel channel = FileChannel.open(indexFilePath, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(entryBytes.toByteArray()), entriesEnd);
+            channel.write(toHeader(lineStart, tailChecksum(archiveFilePath, lineStart), newEntriesEnd), 0);
+            index = channel.map(FileChannel.MapMode.READ_ONLY, 0, newEntriesEnd);
+        }
+        trackEntries((int) entriesEnd, (int) newEntriesEnd);
+        indexedLength = lineStart;
+        entriesEnd = newEntriesEnd;
+    }
+
+    /**
+     * Writes the entry of a record of the archive. Records that cannot be read are left out, as they are when the
+     * archive is read in full.
+     */
+    private static void writeEntry(DataOutputStream out, String line, long offset, long length) throws IOException {
+        if (line.isBlank()) {
+            return;
+        }
+        Item item = null;
+        long removedId = 0;
+        try {
+            JsonNode node = JsonUtil.getObjectMapper().readTree(line);
+            if (node.get("op").asText().equals("add")) {
+                item = Item.fromJson(node.get("item").toString());
+            } else {
+                removedId = node.get("id").asLong();
+            }
+        } catch (IOException | NullPointerException | IllegalArgumentException e) {
+            // skipped, as in JsonItemArchive
+            return;
+        }
+
+        byte[] description = item == null
+                ? new byte[0]
+                : item.getItemDescription().getDescription().toLowerCase().getBytes(UTF_8);
+        out.writeLong(item == null ? removedId : item.getId());
+        out.writeLong(offset);
+        out.writeInt((int) length);
+        out.writeByte(item == null ? KIND_REMOVED : toKind(item));
+        out.writeByte(item == null ? 0 : item.getPriority().ordinal());
+        out.writeLong(item == null ? NO_EPOCH : toStartEpoch(item));
+        out.writeLong(item == null ? NO_EPOCH : toEndEpoch(item));
+        out.writeLong(item == null ? 0 : toTagBitmap(item));
+        out.writeInt(description.length);
+        out.write(description);
+    }
+
+    private static ByteBuffer toHeader(long indexedLength, long tailChecksum, long entriesEnd) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putLong(indexedLength).putLong(tailChecksum).putLong(entriesEnd);
+        return header.flip();
+    }
+
+    int getRecordCount() {
+        return entries.size();
+    }
+
+    byte getKind(int record) {
+        return index.get(entries.get(record) + 20);
+    }
+
+    long getStartEpoch(int record) {
+        return index.getLong(entries.get(record) + 22);
+    }
+
+    long getEndEpoch(int record) {
+        return index.getLong(entries.get(record) + 30);
+    }
+
+    /**
+     * Returns the archived items whose description contains any of the search strings, ignoring case, in the
+     * order they were archived.
+     */
+    List<Item> find(String[] searchStrings) throws IOException {
+        byte[][] keywords = new byte[searchStrings.length][];
+        for (int i = 0; i < searchStrings.length; i++) {
+            keywords[i] = searchStrings[i].toLowerCase().getBytes(UTF_8);
+        }
+
+        List<Integer> matches = new ArrayList<>();
+        for (int entry : entries) {
+            int descriptionOffset = entry + ENTRY_FIXED_SIZE;
+            int descriptionLength = index.getInt(entry + 46);
+            for (byte[] keyword : keywords) {
+                if (contains(descriptionOffset, descriptionLength, keyword)) {
+                    matches.add(entry);
+                    break;
+                }
+            }
+        }
+        return readItems(matches);
+    }
+
+    /**
+     * Returns true if the bytes of the index in the given range contain the keyword.
+     */
+    private boolean contains(int offset, int length, byte[] keyword) {
+        for (int start = offset; start <= offset + length - keyword.length; start++) {
+            int matched = 0;
+            while (matched < keyword.length && index.get(start + matched) == keyword[matched]) {
+                matched++;
+            }
+            if (matched == keyword.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads and decodes the items of the given entries from the archive.
+     */
+    private List<Item> readItems(List<Integer> matches) throws IOException {
+        List<Item> items = new ArrayList<>();
+        if (matches.isEmpty()) {
+            return items;
+        }
+
+        try (FileChannel archive = FileChannel.open(archiveFilePath, StandardOpenOption.READ)) {
+            for (int entry : matches) {
+                ByteBuffer line = ByteBuffer.allocate(index.getInt(entry + 16));
+                if (!readFully(archive, line, index.getLong(entry + 8))) {
+                    throw new IOException("The archive ends in the middle of a record");
+                }
+                JsonNode node = JsonUtil.getObjectMapper().readTree(new String(line.array(), UTF_8));
+                items.add(Item.fromJson(node.get("item").toString()));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Returns a checksum of the end of the first {@code length} bytes of the archive, which a compaction changes.
+     */
+    private static long tailChecksum(Path archiveFilePath, long length) throws IOException {
+        CRC32 checksum = new CRC32();
+        if (length == 0) {
+            return checksum.getValue();
+        }
+        long start = Math.max(0, length - CHECKED_TAIL_LENGTH);
+        ByteBuffer tail = ByteBuffer.allocate((int) (length - start));
+        try (FileChannel archive = FileChannel.open(archiveFilePath, StandardOpenOption.READ)) {
+            if (!readFully(archive, tail, start)) {
+                return -1;
+            }
+        }
+        checksum.update(tail.array());
+        return checksum.getValue();
+    }
+
+    /**
+     * Fills the buffer from the given position of the file.
+     * @return false if the file ends before the buffer is full.
+     */
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte toKind(Item item) {
+        byte kind = 0;
+        if (item.hasTask()) {
+            kind |= KIND_TASK;
+            if (item.getTask().get().isComplete()) {
+                kind |= KIND_COMPLETE;
+            }
+        }
+        if (item.hasEvent()) {
+            kind |= KIND_EVENT;
+        }
+        if (item.hasReminder()) {
+            kind |= KIND_REMINDER;
+        }
+        return kind;
+    }
+
+    private static long toStartEpoch(Item item) {
+        if (item.hasEvent()) {
+            return toEpoch(item.getEvent().get().getStartDateTime());
+        } else if (item.hasReminder()) {
+            return toEpoch(item.getReminder().get().getDefaultDateTime());
+        }
+        return NO_EPOCH;
+    }
+
+    private static long toEndEpoch(Item item) {
+        return item.hasEvent() ? toEpoch(item.getEvent().get().getEndDateTime()) : toStartEpoch(item);
+    }
+
+    /**
+     * Returns the local date and time in seconds, counted as if it were in UTC.
+     */
+    private static long toEpoch(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns a bitmap with a bit set for each tag of the item, chosen by the hash of the tag name. The index has
+     * no dictionary of tags to keep in step with the archive, so an item whose bit is set may still not have the tag.
+     */
+    static long toTagBitmap(Item item) {
+        long bitmap = 0;
+        for (Tag tag : item.getTags()) {
+            bitmap |= 1L << (tag.tagName.hashCode() & 63);
+        }
+        return bitmap;
+    }
+
+    private static long archiveLength(Path archiveFilePath) throws IOException {
+        return FileUtil.isFileExists(archiveFilePath) ? Files.size(archiveFilePath) : 0;
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.elisa.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.exceptions.DataConversionException;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.commons.util.JsonUtil;
+import seedu.elisa.model.ItemStorage;
+
+/**
+ * Loads the items of a JSON data file on several cores.
+ * The file is first scanned for the boundaries of its records without decoding them. The records are then split
+ * into chunks that are decoded on a {@link ForkJoinPool}, and the decoded items are put together in the order
+ * they were saved before duplicates are removed. Unlike the serial loader, the whole file is held in memory.
+ */
+public class ParallelItemLoader {
+
+    // Number of records that are decoded together, so that each task does enough work to be worth forking
+    public static final int RECORDS_PER_CHUNK = 256;
+
+    private final ForkJoinPool pool;
+
+    public ParallelItemLoader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelItemLoader(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Loads the items in the given file.
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws DataConversionException if the file is not an array of items, or an item is missing a field.
+     */
+    public ItemStorage load(Path filePath) throws IOException, DataConversionException {
+        String json = FileUtil.readFromFile(filePath);
+        List<String> chunks = splitIntoChunks(json, filePath);
+
+        List<Item> readItems;
+        try {
+            readItems = pool.invoke(new DecodeTask(chunks, 0, chunks.size()));
+        } catch (RuntimeException e) {
+            // The checked exceptions of the tasks are wrapped, possibly more than once by the pool
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof DataConversionException) {
+                    throw (DataConversionException) cause;
+                } else if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+            }
+            throw e;
+        }
+        return ItemStorage.fromReadItems(readItems);
+    }
+
+    /**
+     * Splits the JSON array of items into chunks of records, each of which is a JSON array on its own.
+     * Only the boundaries of the records are found, by skipping over their tokens.
+     */
+    private static List<String> splitIntoChunks(String json, Path filePath)
+            throws IOException, DataConversionException {
+        List<String> chunks = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(json)) {
+            if (parser.getCurrentToken() == null) {
+                // An empty storage is saved as an empty array, so a blank file was cut off while it was written
+                throw new DataConversionException(new IOException(filePath + " is empty"));
+            } else if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+                throw new DataConversionException(new IOException("Expected an array of items"));
+            }
+
+            int recordCount = 0;
+            int chunkStart = -1;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                int recordStart = (int) parser.getTokenLocation().getCharOffset();
+                if (recordCount % RECORDS_PER_CHUNK == 0) {
+                    if (chunkStart >= 0) {
+                        chunks.add(toArray(json, chunkStart, recordStart));
+                    }
+                    chunkStart = recordStart;
+                }
+                recordCount++;
+                parser.skipChildren();
+            }
+            if (chunkStart >= 0) {
+                chunks.add(toArray(json, chunkStart, (int) parser.getTokenLocation().getCharOffset()));
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the records between the given offsets of the JSON array as a JSON array of their own.
+     */
+    private static String toArray(String json, int start, int end) {
+        String records = json.substring(start, end).strip();
+        if (records.endsWith(",")) {
+            records = records.substring(0, records.length() - 1);
+        }
+        return "[" + records + "]";
+    }
+
+    /**
+     * Decodes a range of chunks, splitting it in half until a single chunk is left.
+     */
+    private static class DecodeTask extends RecursiveTask<List<Item>> {
+        private final List<String> chunks;
+        private final int from;
+        private final int to;
+
+        private DecodeTask(List<String> chunks, int from, int to) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Item> compute() {
+            if (to - from <= 1) {
+                return from < to ? decode(chunks.get(from)) : new ArrayList<>();
+            }
+
+            int middle = (from + to) / 2;
+            DecodeTask secondHalf = new DecodeTask(chunks, middle, to);
+            secondHalf.fork();
+            List<Item> readItems = new DecodeTask(chunks, from, middle).compute();
+            readItems.addAll(secondHalf.join());
+            return readItems;
+        }
+
+        private static List<Item> decode(String chunk) {
+            try (JsonParser parser = JsonUtil.createParser(chunk)) {
+                return ItemStorage.readItems(parser);
+            } catch (IOException | DataConversionException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
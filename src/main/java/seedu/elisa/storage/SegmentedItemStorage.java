@@ -0,0 +1,605 @@
+package seedu.elisa.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.elisa.commons.core.FsyncPolicy;
+import seedu.elisa.commons.core.LogsCenter;
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.exceptions.DataConversionException;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.commons.util.JsonUtil;
+import seedu.elisa.model.ItemStorage;
+import seedu.elisa.model.item.ItemDelta;
+
+/**
+ * Stores the items in a directory of segment files, one for each kind of item and month, together with a
+ * manifest that lists the segments.
+ * Events are put in the segment of the month they start in, reminders in the month they are set for and tasks in
+ * the month they were created in. Only the segments whose items changed since the last save are rewritten, so an
+ * edit does not rewrite the whole history. Each segment is a JSON data file of its own and can be loaded by itself.
+ * <p>
+ * Every item is saved with an order key, which gives its place in the whole list, so that the list is loaded in the
+ * order it was saved in. Segments are written to new files named after the generation of the save, and the manifest,
+ * which names the generation of every segment, is written last. A save therefore takes effect all at once when the
+ * manifest is replaced, and segment files that the manifest does not list are ignored.
+ */
+public class SegmentedItemStorage implements ItemListStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final int MANIFEST_VERSION = 2;
+
+    private static final String SEGMENT_FILE_EXTENSION = ".json";
+    private static final Pattern SEGMENT_FILE_PATTERN =
+            Pattern.compile("(event|reminder|task)-\\d{4}-\\d{2}(\\.\\d+)?\\" + SEGMENT_FILE_EXTENSION);
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM");
+    // Distance between the order keys of neighbouring items when the keys are given out afresh
+    private static final long ORDER_KEY_GAP = 1L << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedItemStorage.class);
+
+    private final Path directory;
+    private final FsyncSchedule fsyncSchedule;
+
+    // The items of every segment as last saved or loaded, by segment name and then by id
+    private final Map<String, Map<Long, Item>> segments = new TreeMap<>();
+    // The generation of the file that holds each segment listed in the manifest
+    private Map<String, Long> segmentGenerations = new HashMap<>();
+    // The order key of every item, by id
+    private final Map<Long, Long> orderKeys = new HashMap<>();
+    // The generation of the last save, where generation 0 is a manifest that does not name generations
+    private long generation = 0;
+    // The files of segments that the manifest no longer lists, kept until the manifest is forced onto the disk
+    private final Set<Path> supersededFiles = new LinkedHashSet<>();
+    // Whether segment files left behind by saves that did not finish have been deleted
+    private boolean isDirectoryTidy = false;
+    // The item storage that the segments hold
+    private ItemStorage savedItemStorage = null;
+
+    public SegmentedItemStorage(Path directory) {
+        this(directory, FsyncPolicy.BATCHED);
+    }
+
+    public SegmentedItemStorage(Path directory, FsyncPolicy fsyncPolicy) {
+        requireNonNull(directory);
+        this.directory = directory;
+        this.fsyncSchedule = new FsyncSchedule(fsyncPolicy);
+    }
+
+    /**
+     * Returns the directory of the segments that goes with the given JSON data file.
+     */
+    public static Path toSegmentDirectory(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return jsonFilePath.resolveSibling(extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName);
+    }
+
+    /**
+     * Returns the name of the segment that the item belongs to.
+     */
+    public static String getSegmentName(Item item) {
+        if (item.hasEvent()) {
+            return "event-" + toMonth(item.getEvent().get().getStartDateTime());
+        } else if (item.hasReminder()) {
+            return "reminder-" + toMonth(item.getReminder().get().getDefaultDateTime());
+        } else {
+            return "task-" + toMonth(item.getCreationDateTime());
+        }
+    }
+
+    /**
+     * Returns the file path of the manifest, which lists the segments.
+     */
+    public Path getItemListFilePath() {
+        return directory.resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the file path of the segment with the given name as last saved or loaded, or an empty optional if
+     * there is no such segment.
+     */
+    public Optional<Path> getSegmentFilePath(String segmentName) {
+        Long segmentGeneration = segmentGenerations.get(segmentName);
+        return segmentGeneration == null
+                ? Optional.empty()
+                : Optional.of(getSegmentFilePath(segmentName, segmentGeneration));
+    }
+
+    /**
+     * Saves the segments that changed since the given {@link ItemStorage} was last saved, and then the manifest.
+     * Every segment is rewritten instead if it is not the storage that was last saved or loaded (or a snapshot of
+     * it taken for saving), or if its changes were not all kept.
+     * @param itemStorage cannot be null.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public void saveItemStorage(ItemStorage itemStorage) throws IOException {
+        requireNonNull(itemStorage);
+
+        Set<String> dirtySegments = new HashSet<>();
+        Optional<List<ItemDelta>> changes = itemStorage.takeUnsavedChanges();
+        if (itemStorage.hasSameOrigin(savedItemStorage) && changes.isPresent()) {
+            Set<Long> addedIds = new LinkedHashSet<>();
+            for (ItemDelta change : changes.get()) {
+                applyChange(change, dirtySegments, addedIds);
+            }
+            if (!giveOrderKeys(itemStorage, addedIds)) {
+                giveOrderKeysAfresh(itemStorage);
+                dirtySegments.addAll(segments.keySet());
+            }
+        } else {
+            dirtySegments.addAll(segmentGenerations.keySet());
+            segments.clear();
+            for (int i = 0; i < itemStorage.size(); i++) {
+                putItem(itemStorage.get(i), dirtySegments);
+            }
+            giveOrderKeysAfresh(itemStorage);
+        }
+
+        // The changes are no longer tracked by the item storage, so the next save has to write everything
+        savedItemStorage = null;
+        writeSegments(dirtySegments);
+        savedItemStorage = itemStorage;
+    }
+
+    /**
+     * Exports the given {@link ItemStorage} as a plain JSON file.
+     * @param itemStorage cannot be null.
+     * @param filePath the path of the save file. Cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void saveItemStorage(ItemStorage itemStorage, Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(getItemListFilePath())) {
+            saveItemStorage(itemStorage);
+        } else {
+            new JsonItemStorage(filePath, FsyncPolicy.NEVER, 0).saveItemStorage(itemStorage, filePath);
+        }
+    }
+
+    /**
+     * Forces the segments and the manifest that were not forced under the fsync policy onto the disk, and then
+     * deletes the segment files that the manifest no longer lists.
+     */
+    public void forceItemStorage() throws IOException {
+        fsyncSchedule.forceUnforcedFiles();
+        deleteSupersededFiles();
+    }
+
+    /**
+     * Reads the manifest and every segment listed in it, in the order they were saved in. Items in the segments of
+     * a manifest written before order keys were saved are ordered by their id, which is the order they were created
+     * in.
+     * @return an ItemStorage with all the items
+     * @throws IOException if there are any problem with reading from the files.
+     * @throws DataConversionException if the manifest or a segment is corrupted.
+     */
+    public ItemStorage toModelType() throws IOException, DataConversionException {
+        JsonNode manifest = readManifest();
+        boolean hasOrderKeys = manifest.path("version").asInt(1) >= MANIFEST_VERSION;
+
+        List<Long> readOrderKeys = new ArrayList<>();
+        List<Item> readItems = new ArrayList<>();
+        segments.clear();
+        segmentGenerations.clear();
+        orderKeys.clear();
+        for (JsonNode segmentEntry : manifest.get("segments")) {
+            String segmentName = segmentEntry.path("name").asText();
+            long segmentGeneration = segmentEntry.path("generation").asLong(0);
+            SegmentContent segment = readSegment(getSegmentFilePath(segmentName, segmentGeneration), hasOrderKeys);
+            Map<Long, Item> segmentItems = new TreeMap<>();
+            for (int i = 0; i < segment.items.size(); i++) {
+                Item item = segment.items.get(i);
+                long orderKey = hasOrderKeys ? segment.orderKeys.get(i) : item == null ? Long.MAX_VALUE : item.getId();
+                readOrderKeys.add(orderKey);
+                readItems.add(item);
+                if (item != null) {
+                    segmentItems.put(item.getId(), item);
+                    orderKeys.put(item.getId(), orderKey);
+                }
+            }
+            segments.put(segmentName, segmentItems);
+            segmentGenerations.put(segmentName, segmentGeneration);
+        }
+        generation = manifest.path("generation").asLong(0);
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < readItems.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingLong(readOrderKeys::get));
+        List<Item> orderedItems = new ArrayList<>();
+        for (int i : order) {
+            orderedItems.add(readItems.get(i));
+        }
+
+        ItemStorage itemStorage = ItemStorage.fromReadItems(orderedItems);
+        if (hasOrderKeys && hasOrderKeyForEveryItem(itemStorage)) {
+            savedItemStorage = itemStorage;
+        } else {
+            // The segments are rewritten with order keys by the next save
+            giveOrderKeysAfresh(itemStorage);
+            savedItemStorage = null;
+        }
+        return itemStorage;
+    }
+
+    /**
+     * Returns the names of the segments listed in the manifest.
+     * @throws IOException if there are any problem with reading from the manifest.
+     * @throws DataConversionException if the manifest is corrupted.
+     */
+    public List<String> readSegmentNames() throws IOException, DataConversionException {
+        List<String> segmentNames = new ArrayList<>();
+        for (JsonNode segmentEntry : readManifest().get("segments")) {
+            segmentNames.add(segmentEntry.path("name").asText());
+        }
+        return segmentNames;
+    }
+
+    /**
+     * Loads the items of a single segment listed in the manifest, in the order they were saved in.
+     * @throws IOException if there are any problem with reading from the segment.
+     * @throws DataConversionException if the manifest does not list the segment, or the segment is corrupted.
+     */
+    public ItemStorage loadSegment(String segmentName) throws IOException, DataConversionException {
+        JsonNode manifest = readManifest();
+        boolean hasOrderKeys = manifest.path("version").asInt(1) >= MANIFEST_VERSION;
+        for (JsonNode segmentEntry : manifest.get("segments")) {
+            if (segmentEntry.path("name").asText().equals(segmentName)) {
+                Path segmentFilePath = getSegmentFilePath(segmentName, segmentEntry.path("generation").asLong(0));
+                return ItemStorage.fromReadItems(readSegment(segmentFilePath, hasOrderKeys).items);
+            }
+        }
+        throw new DataConversionException(new IOException("Manifest does not list the segment " + segmentName));
+    }
+
+    /**
+     * Moves the item of a change to the segment it belongs to after the change, marking every segment whose items
+     * changed as dirty. Items that are added by the change are collected so that they can be given order keys.
+     */
+    private void applyChange(ItemDelta change, Set<String> dirtySegments, Set<Long> addedIds) {
+        Item oldItem = change.getOldItem();
+        Item newItem = change.getNewItem();
+        if (oldItem != null) {
+            String segmentName = getSegmentName(oldItem);
+            Map<Long, Item> segmentItems = segments.get(segmentName);
+            if (segmentItems != null) {
+                segmentItems.remove(oldItem.getId());
+            }
+            dirtySegments.add(segmentName);
+            if (newItem == null || newItem.getId() != oldItem.getId()) {
+                orderKeys.remove(oldItem.getId());
+            }
+        }
+        if (newItem != null) {
+            putItem(newItem, dirtySegments);
+            if (!orderKeys.containsKey(newItem.getId())) {
+                addedIds.add(newItem.getId());
+            }
+        }
+    }
+
+    /**
+     * Puts the item into the segment it belongs to, marking the segment as dirty.
+     */
+    private void putItem(Item item, Set<String> dirtySegments) {
+        String segmentName = getSegmentName(item);
+        segments.computeIfAbsent(segmentName, name -> new TreeMap<>()).put(item.getId(), item);
+        dirtySegments.add(segmentName);
+    }
+
+    /**
+     * Gives each added item that is still in the item storage an order key between those of the items around it,
+     * so that no other item has to be given a new one.
+     * @return false if there is no room for a key between the keys of the items around an added item.
+     */
+    private boolean giveOrderKeys(ItemStorage itemStorage, Set<Long> addedIds) {
+        List<Integer> positions = new ArrayList<>();
+        for (long id : addedIds) {
+            int position = itemStorage.indexOf(id);
+            if (position >= 0) {
+                positions.add(position);
+            }
+        }
+        positions.sort(null);
+
+        // The first item after the current one that has a key, which is found once for each run of added items
+        int nextKeyedPosition = 0;
+        Long nextKey = null;
+        for (int position : positions) {
+            Long previousKey = position == 0 ? null : orderKeys.get(itemStorage.get(position - 1).getId());
+            if (position > 0 && previousKey == null) {
+                return false;
+            }
+            if (nextKeyedPosition <= position) {
+                nextKeyedPosition = position + 1;
+                while (nextKeyedPosition < itemStorage.size()
+                        && !orderKeys.containsKey(itemStorage.get(nextKeyedPosition).getId())) {
+                    nextKeyedPosition++;
+                }
+                nextKey = nextKeyedPosition < itemStorage.size()
+                        ? orderKeys.get(itemStorage.get(nextKeyedPosition).getId())
+                        : null;
+            }
+
+            Optional<Long> orderKey = findOrderKeyBetween(previousKey, nextKey);
+            if (orderKey.isEmpty()) {
+                return false;
+            }
+            orderKeys.put(itemStorage.get(position).getId(), orderKey.get());
+        }
+        return true;
+    }
+
+    /**
+     * Gives every item of the item storage a new order key, evenly spread in the order of the storage.
+     */
+    private void giveOrderKeysAfresh(ItemStorage itemStorage) {
+        orderKeys.clear();
+        for (int i = 0; i < itemStorage.size(); i++) {
+            orderKeys.put(itemStorage.get(i).getId(), (i + 1) * ORDER_KEY_GAP);
+        }
+    }
+
+    /**
+     * Returns an order key between the given keys, either of which may be null for the start or end of the list.
+     */
+    private static Optional<Long> findOrderKeyBetween(Long previousKey, Long nextKey) {
+        if (previousKey == null && nextKey == null) {
+            return Optional.of(ORDER_KEY_GAP);
+        } else if (previousKey == null) {
+            return nextKey > Long.MIN_VALUE + ORDER_KEY_GAP
+                    ? Optional.of(nextKey - ORDER_KEY_GAP)
+                    : Optional.empty();
+        } else if (nextKey == null) {
+            return previousKey < Long.MAX_VALUE - ORDER_KEY_GAP
+                    ? Optional.of(previousKey + ORDER_KEY_GAP)
+                    : Optional.empty();
+        } else if (nextKey - previousKey > 1) {
+            return Optional.of(previousKey + (nextKey - previousKey) / 2);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns true if every item of the item storage has an order key, and no other item has one.
+     */
+    private boolean hasOrderKeyForEveryItem(ItemStorage itemStorage) {
+        if (orderKeys.size() != itemStorage.size()) {
+            return false;
+        }
+        for (int i = 0; i < itemStorage.size(); i++) {
+            if (!orderKeys.containsKey(itemStorage.get(i).getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the dirty segments to the files of a new generation, and then the manifest that lists them.
+     * The manifest is replaced in a single step after every segment is written, so a save that does not finish
+     * leaves the last manifest and the segments it lists as they were. The files that the manifest no longer lists
+     * are only deleted once the new manifest is on the disk.
+     */
+    private void writeSegments(Set<String> dirtySegments) throws IOException {
+        // Either every file of this save is forced onto the disk or none is
+        boolean force = fsyncSchedule.isForceDue();
+        long newGeneration = generation + 1;
+        Map<String, Long> newSegmentGenerations = new HashMap<>(segmentGenerations);
+        for (String segmentName : dirtySegments) {
+            newSegmentGenerations.remove(segmentName);
+            Map<Long, Item> segmentItems = segments.get(segmentName);
+            if (segmentItems == null || segmentItems.isEmpty()) {
+                segments.remove(segmentName);
+                continue;
+            }
+
+            Path segmentFilePath = getSegmentFilePath(segmentName, newGeneration);
+            writeSegment(segmentFilePath, segmentItems, force);
+            newSegmentGenerations.put(segmentName, newGeneration);
+        }
+        logger.fine("Rewrote " + dirtySegments.size() + " of " + segments.size() + " segments in " + directory);
+
+        if (force) {
+            FileUtil.forceDirectory(directory);
+        }
+        writeManifest(newGeneration, newSegmentGenerations, force);
+
+        for (String segmentName : dirtySegments) {
+            Long oldGeneration = segmentGenerations.get(segmentName);
+            if (oldGeneration != null && oldGeneration != newGeneration) {
+                supersededFiles.add(getSegmentFilePath(segmentName, oldGeneration));
+            }
+        }
+        generation = newGeneration;
+        segmentGenerations = newSegmentGenerations;
+        if (force) {
+            deleteSupersededFiles();
+            if (!isDirectoryTidy) {
+                deleteUnlistedSegmentFiles();
+            }
+        }
+    }
+
+    /**
+     * Writes a segment as its items in the order of their keys, together with the keys.
+     */
+    private void writeSegment(Path segmentFilePath, Map<Long, Item> segmentItems, boolean force) throws IOException {
+        List<Item> items = new ArrayList<>(segmentItems.values());
+        items.sort(Comparator.comparingLong(item -> orderKeys.get(item.getId())));
+
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        ObjectNode segment = objectMapper.createObjectNode();
+        ArrayNode orderKeyList = segment.putArray("order");
+        for (Item item : items) {
+            orderKeyList.add(orderKeys.get(item.getId()));
+        }
+        segment.set("items", objectMapper.valueToTree(items));
+
+        FileUtil.createParentDirsOfFile(segmentFilePath);
+        FileUtil.writeToFile(segmentFilePath, objectMapper.writeValueAsString(segment), force);
+        if (!force) {
+            fsyncSchedule.recordUnforced(segmentFilePath);
+        }
+    }
+
+    /**
+     * Writes the manifest, which lists every segment with the generation of its file and the number of items in it.
+     */
+    private void writeManifest(long newGeneration, Map<String, Long> newSegmentGenerations, boolean force)
+            throws IOException {
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        ObjectNode manifest = objectMapper.createObjectNode();
+        manifest.put("version", MANIFEST_VERSION);
+        manifest.put("generation", newGeneration);
+        ArrayNode segmentList = manifest.putArray("segments");
+        for (Map.Entry<String, Map<Long, Item>> segment : segments.entrySet()) {
+            segmentList.addObject()
+                    .put("name", segment.getKey())
+                    .put("generation", newSegmentGenerations.get(segment.getKey()))
+                    .put("count", segment.getValue().size());
+        }
+
+        Path manifestFilePath = getItemListFilePath();
+        Path tempFilePath = manifestFilePath.resolveSibling(MANIFEST_FILE_NAME + ".tmp");
+        FileUtil.createParentDirsOfFile(manifestFilePath);
+        FileUtil.writeToFile(tempFilePath, objectMapper.writeValueAsString(manifest), force);
+        FileUtil.moveAtomically(tempFilePath, manifestFilePath);
+        if (force) {
+            FileUtil.forceDirectory(directory);
+        } else {
+            fsyncSchedule.recordUnforced(manifestFilePath);
+        }
+    }
+
+    /**
+     * Deletes the segment files that the manifest no longer lists.
+     */
+    private void deleteSupersededFiles() throws IOException {
+        for (Path file : supersededFiles) {
+            Files.deleteIfExists(file);
+        }
+        supersededFiles.clear();
+    }
+
+    /**
+     * Deletes every segment file that the manifest does not list, such as those written by a save that did not
+     * finish.
+     */
+    private void deleteUnlistedSegmentFiles() throws IOException {
+        Set<Path> listedFiles = new HashSet<>();
+        for (Map.Entry<String, Long> segmentGeneration : segmentGenerations.entrySet()) {
+            listedFiles.add(getSegmentFilePath(segmentGeneration.getKey(), segmentGeneration.getValue()));
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (SEGMENT_FILE_PATTERN.matcher(file.getFileName().toString()).matches()
+                        && !listedFiles.contains(file)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        isDirectoryTidy = true;
+    }
+
+    /**
+     * Reads the manifest, checking that it lists the segments.
+     */
+    private JsonNode readManifest() throws IOException, DataConversionException {
+        JsonNode manifest = JsonUtil.getObjectMapper().readTree(FileUtil.readFromFile(getItemListFilePath()));
+        JsonNode segmentList = manifest == null ? null : manifest.get("segments");
+        if (segmentList == null || !segmentList.isArray()) {
+            throw new DataConversionException(new IOException("Manifest does not list the segments"));
+        }
+        if (manifest.path("version").asInt(1) > MANIFEST_VERSION) {
+            throw new DataConversionException(new IOException("Manifest was written by a newer version"));
+        }
+        return manifest;
+    }
+
+    /**
+     * Reads the items of a segment file, with null in place of every record that is corrupted, together with their
+     * order keys if the file has them. A file without order keys is a plain JSON array of items.
+     */
+    private static SegmentContent readSegment(Path segmentFilePath, boolean hasOrderKeys)
+            throws IOException, DataConversionException {
+        SegmentContent segment = new SegmentContent();
+        try (JsonParser parser = JsonUtil.createParser(segmentFilePath)) {
+            if (!hasOrderKeys) {
+                segment.items.addAll(ItemStorage.readItems(parser));
+                return segment;
+            }
+
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                throw new DataConversionException(new IOException("Expected a segment object"));
+            }
+            for (String field = JsonUtil.nextField(parser); field != null; field = JsonUtil.nextField(parser)) {
+                if (field.equals("order") && parser.getCurrentToken() == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                        segment.orderKeys.add(parser.getLongValue());
+                    }
+                } else if (field.equals("items")) {
+                    segment.items.addAll(ItemStorage.readItems(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (hasOrderKeys && segment.orderKeys.size() != segment.items.size()) {
+            throw new DataConversionException(new IOException("Segment " + segmentFilePath
+                    + " does not have an order key for every item"));
+        }
+        return segment;
+    }
+
+    /**
+     * Returns the file path of the given generation of a segment. Generation 0 is the file of a segment saved
+     * before generations were named.
+     */
+    private Path getSegmentFilePath(String segmentName, long segmentGeneration) {
+        return directory.resolve(segmentGeneration == 0
+                ? segmentName + SEGMENT_FILE_EXTENSION
+                : segmentName + "." + segmentGeneration + SEGMENT_FILE_EXTENSION);
+    }
+
+    private static String toMonth(LocalDateTime dateTime) {
+        return MONTH_FORMATTER.format(dateTime);
+    }
+
+    /**
+     * The items of a segment file as read, together with their order keys.
+     */
+    private static class SegmentContent {
+        private final List<Long> orderKeys = new ArrayList<>();
+        private final List<Item> items = new ArrayList<>();
+    }
+}
@@ -55,7 +55,8 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveItemStorage(ItemStorage itemStorage) throws IOException {
-        saveItemStorage(itemStorage, itemListStorage.getItemListFilePath());
+        logger.fine("Attempting to write to data file: " + itemListStorage.getItemListFilePath());
+        itemListStorage.saveItemStorage(itemStorage);
     }
 
     @Override
@@ -64,6 +65,11 @@ public class StorageManager implements Storage {
         itemListStorage.saveItemStorage(itemStorage, filePath);
     }
 
+    @Override
+    public void forceItemStorage() throws IOException {
+        itemListStorage.forceItemStorage();
+    }
+
     public ItemStorage toModelType() throws IOException, DataConversionException {
         return itemListStorage.toModelType();
     }
@@ -6,6 +6,7 @@ import java.time.Month;
 import java.time.format.TextStyle;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.logging.Logger;
 
@@ -30,6 +31,7 @@ import seedu.elisa.commons.core.item.Item;
 public class CalendarPanel extends UiPart<Region> {
     private static final String FXML = "CalendarPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(CalendarPanel.class);
+    private final EventFinder eventFinder;
     private int year;
     private int month;
 
@@ -42,22 +44,24 @@ public class CalendarPanel extends UiPart<Region> {
     /**
      * Creates a calendar panel base on the current date.
      * @param visualList
+     * @param eventFinder finds the events of the visual list in a range of time
      */
-    public CalendarPanel(ObservableList<Item> visualList) {
+    public CalendarPanel(ObservableList<Item> visualList, EventFinder eventFinder) {
         super(FXML);
+        this.eventFinder = eventFinder;
         LocalDateTime currentTime = LocalDateTime.now();
         this.month = currentTime.getMonthValue();
         this.year = currentTime.getYear();
         monthAndYear.setText(String.format("%s, %s", Month.of(month), String.valueOf(year)));
         initializeCalendarGrid();
-        loadData(visualList);
+        loadData();
         visualList.addListener(new ListChangeListener<Item>() {
             @Override
             public void onChanged(Change<? extends Item> c) {
                 System.out.println("Change");
                 clearCells();
                 generateDate();
-                loadData(visualList);
+                loadData();
             }
         });
     }
@@ -69,12 +73,14 @@ public class CalendarPanel extends UiPart<Region> {
 
     /**
      * Load the events from the visualization list to the calendar.
-     * @param visualList the list containing all the data to be loaded from.
+     * Only the events of the month are looked up, through the index of events, instead of going through every item.
      */
-    private void loadData(ObservableList<Item> visualList) {
+    private void loadData() {
+        LocalDateTime startOfMonth = LocalDateTime.of(year, month, 1, 0, 0);
         HashMap<Integer, ArrayList<Item>> monthEvents = new HashMap<>();
-        for (Item item : visualList) {
+        for (Item item : eventFinder.findEventsOverlapping(startOfMonth, startOfMonth.plusMonths(1))) {
             if (!isMonth(item)) {
+                // The event started in an earlier month and is still going on
                 continue;
             } else {
                 int day = getDate(item);
@@ -172,7 +178,8 @@ public class CalendarPanel extends UiPart<Region> {
         if (!item.hasEvent()) {
             return false;
         } else {
-            return item.getEvent().get().getStartDateTime().getMonthValue() == month;
+            LocalDateTime start = item.getEvent().get().getStartDateTime();
+            return start.getMonthValue() == month && start.getYear() == year;
         }
     }
 
@@ -262,4 +269,18 @@ public class CalendarPanel extends UiPart<Region> {
             }
         }
     }
+
+    /**
+     * Represents a function that finds the events of the visual list in a range of time.
+     */
+    @FunctionalInterface
+    public interface EventFinder {
+        /**
+         * Returns the items whose event overlaps the range from {@code from} up to but not including {@code to},
+         * ordered by start time.
+         *
+         * @see seedu.elisa.logic.Logic#getEventsOverlapping(LocalDateTime, LocalDateTime)
+         */
+        List<Item> findEventsOverlapping(LocalDateTime from, LocalDateTime to);
+    }
 }
@@ -21,11 +21,13 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private TextField commandTextField;
 
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandTextListener commandTextListener) {
         super(FXML);
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) ->
+                commandTextListener.textChanged(newText));
     }
 
     /**
@@ -76,4 +78,12 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws Exception;
     }
 
+    /**
+     * Represents a function that is told about every change to the text of the command box, as it is typed.
+     */
+    @FunctionalInterface
+    public interface CommandTextListener {
+        void textChanged(String commandText);
+    }
+
 }
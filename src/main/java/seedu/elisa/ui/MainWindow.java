@@ -2,6 +2,7 @@ package seedu.elisa.ui;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 import java.util.TreeSet;
 import java.util.logging.Logger;
 
@@ -33,7 +34,9 @@ import seedu.elisa.game.GameLoop;
 import seedu.elisa.game.Grid;
 import seedu.elisa.game.Painter;
 import seedu.elisa.game.Snake;
+import seedu.elisa.logic.LiveSearch;
 import seedu.elisa.logic.Logic;
+import seedu.elisa.logic.LogicManager;
 import seedu.elisa.logic.commands.ClearScreenCommandResult;
 import seedu.elisa.logic.commands.CloseCommand;
 import seedu.elisa.logic.commands.CloseCommandResult;
@@ -48,7 +51,10 @@ import seedu.elisa.logic.commands.UpCommandResult;
 import seedu.elisa.logic.commands.exceptions.CommandException;
 import seedu.elisa.logic.parser.exceptions.FocusModeException;
 import seedu.elisa.logic.parser.exceptions.ParseException;
+import seedu.elisa.model.ItemModel;
+import seedu.elisa.model.ViewDescriptor;
 import seedu.elisa.model.item.CalendarList;
+import seedu.elisa.model.item.DescriptionIndex;
 import seedu.elisa.model.item.EventList;
 import seedu.elisa.model.item.ReminderList;
 import seedu.elisa.model.item.TaskList;
@@ -91,6 +97,15 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private Popup popup;
 
+    private final LiveSearch liveSearch = new LiveSearch();
+    // The view searched by the find being typed, or null if no find is being typed
+    private VisualizeList liveSearchBase = null;
+    private DescriptionIndex liveSearchIndex = null;
+    private ViewDescriptor liveSearchView;
+    private long liveSearchDataVersion;
+    // Counts the searches started, so that the result of a search that has been overtaken is dropped
+    private long liveSearchCount = 0;
+
     private String reminderAlarmUrl = getClass().getClassLoader().getResource("sounds/alertChime.mp3").toString();
     private AudioClip reminderAlarm = new AudioClip(reminderAlarmUrl);
 
@@ -257,6 +272,8 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(e -> Platform.runLater(() ->
+                resultDisplay.setFeedbackToUser(LogicManager.FILE_OPS_ERROR_MESSAGE + e)));
 
         //Create a ListChangeListener for activeReminders
         ListChangeListener<Item> activeRemindersListener = new ListChangeListener<Item>() {
@@ -285,7 +302,7 @@ public class MainWindow extends UiPart<Stage> {
         //Binds a ListChangeListener to activeRemindersList
         logic.getActiveRemindersListProperty().addListener(activeRemindersListener);
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::handleCommandTextChanged);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
     }
@@ -314,9 +331,61 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
+        liveSearch.shutdown();
         primaryStage.hide();
     }
 
+    /**
+     * Shows the results of a find while it is being typed, and shows the view as it was once the text in the
+     * command box is no longer a find. The view is searched on a background thread once typing pauses.
+     */
+    private void handleCommandTextChanged(String commandText) {
+        Optional<String[]> searchStrings = LiveSearch.toSearchStrings(commandText);
+        if (searchStrings.isEmpty() || logic.isFocusMode()) {
+            if (stopLiveSearch()) {
+                updatePanels(logic.getVisualList());
+            }
+            return;
+        }
+
+        ItemModel model = logic.getModel();
+        if (liveSearchBase == null || !model.getView().equals(liveSearchView)
+                || model.getDataVersion() != liveSearchDataVersion) {
+            // The background thread gets its own copy of the view, since looking items up in a list updates it
+            liveSearchBase = model.getVisualList().copy();
+            liveSearchIndex = model.snapshotDescriptionIndex();
+            liveSearchView = model.getView();
+            liveSearchDataVersion = model.getDataVersion();
+        }
+
+        long searchCount = ++liveSearchCount;
+        liveSearch.request(searchStrings.get(), liveSearchBase, liveSearchIndex, liveSearchView, liveSearchDataVersion,
+                result -> Platform.runLater(() -> showLiveSearchResult(result, searchCount)));
+    }
+
+    private void showLiveSearchResult(VisualizeList result, long searchCount) {
+        // A result that arrives after the text has changed again, or after the command was entered, is dropped
+        // The result is only shown, and the model keeps the view until the find is entered
+        if (searchCount == liveSearchCount) {
+            showPanels(result, result);
+        }
+    }
+
+    /**
+     * Stops showing the results of the find being typed, and shows the view as it was before instead.
+     * @return true if a find was being typed.
+     */
+    private boolean stopLiveSearch() {
+        if (liveSearchBase == null) {
+            return false;
+        }
+        liveSearch.cancel();
+        liveSearchCount++;
+        liveSearchBase = null;
+        liveSearchIndex = null;
+        return true;
+    }
+
     /**
      * Switches the view.
      *
@@ -437,17 +506,24 @@ public class MainWindow extends UiPart<Stage> {
      * Updates the panels to display the correct list of item.
      */
     public void updatePanels(VisualizeList targetList) {
+        showPanels(targetList, logic.getVisualList());
+    }
+
+    /**
+     * Shows the items in the panel for the kind of the target list, and in the calendar.
+     */
+    private void showPanels(VisualizeList targetList, VisualizeList items) {
         if (targetList instanceof TaskList) {
-            taskListPanel = new TaskListPanel(logic.getVisualList());
+            taskListPanel = new TaskListPanel(items);
             taskListPanelPlaceholder.getChildren().add(taskListPanel.getRoot());
         } else if (targetList instanceof EventList) {
-            eventListPanel = new EventListPanel(logic.getVisualList());
+            eventListPanel = new EventListPanel(items);
             eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
         } else if (targetList instanceof ReminderList) {
-            reminderListPanel = new ReminderListPanel(logic.getVisualList());
+            reminderListPanel = new ReminderListPanel(items);
             reminderListPanelPlaceholder.getChildren().add(reminderListPanel.getRoot());
         } else { }
-        calendarPanel = new CalendarPanel(logic.getVisualList());
+        calendarPanel = new CalendarPanel(items, logic::getEventsOverlapping);
         calendarPanelPlaceholder.getChildren().add(calendarPanel.getRoot());
     }
 
@@ -491,6 +567,8 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private CommandResult executeCommand(String commandText) throws Exception {
+        // The command runs on the view as it was, and not on the results shown while it was typed
+        stopLiveSearch();
         try {
             resultDisplay.setMessageFromUser(commandText);
             CommandResult commandResult = logic.execute(commandText);
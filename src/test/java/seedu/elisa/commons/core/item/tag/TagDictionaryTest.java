@@ -0,0 +1,34 @@
+package seedu.elisa.commons.core.item.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    @Test
+    public void idOf_nameHeld_sameId() {
+        Tag tag = new Tag("dictionaryHeld");
+        assertEquals(tag.getId(), new Tag("dictionaryHeld").getId());
+        assertNotEquals(tag.getId(), new Tag("dictionaryOther").getId());
+    }
+
+    @Test
+    public void idOf_manyNamesNoLongerUsed_idsHandedOutAgain() {
+        int unusedCount = 1000;
+        int firstId = new Tag("dictionaryUnused0").getId();
+        for (int i = 1; i < unusedCount; i++) {
+            new Tag("dictionaryUnused" + i);
+        }
+
+        // The ids are given back once the garbage collector has found that the tags are gone
+        boolean isIdHandedOutAgain = false;
+        for (int attempt = 0; attempt < 20 && !isIdHandedOutAgain; attempt++) {
+            System.gc();
+            isIdHandedOutAgain = new Tag("dictionaryNew" + attempt).getId() < firstId + unusedCount;
+        }
+        assertTrue(isIdHandedOutAgain);
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.elisa.logic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.elisa.testutil.TypicalItems.generateTask;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.model.ViewDescriptor;
+import seedu.elisa.model.item.DescriptionIndex;
+import seedu.elisa.model.item.TaskList;
+import seedu.elisa.model.item.VisualizeList;
+
+public class LiveSearchTest {
+    private static final ViewDescriptor TASK_VIEW = ViewDescriptor.of("T");
+
+    private final LiveSearch liveSearch = new LiveSearch();
+    private final Item report = generateTask("report");
+    private final Item reply = generateTask("reply to email");
+    private final Item draft = generateTask("draft report");
+    private final TaskList tasks = new TaskList();
+
+    public LiveSearchTest() {
+        tasks.add(report);
+        tasks.add(reply);
+        tasks.add(draft);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        liveSearch.shutdown();
+    }
+
+    @Test
+    public void toSearchStrings_findBeingTyped_searchStrings() {
+        assertArrayEquals(new String[] {"rep", "dr"}, LiveSearch.toSearchStrings(" FIND rep  dr").get());
+        assertFalse(LiveSearch.toSearchStrings("find ").isPresent());
+        assertFalse(LiveSearch.toSearchStrings("finder rep").isPresent());
+        assertFalse(LiveSearch.toSearchStrings("find rep --archive").isPresent());
+    }
+
+    @Test
+    public void search_lastSearchStringLengthened_sameAsFind() {
+        liveSearch.search(new String[] {"rep"}, tasks, null, TASK_VIEW, 1);
+        VisualizeList narrowed = liveSearch.search(new String[] {"repo"}, tasks, null, TASK_VIEW, 1);
+        assertEquals(tasks.find(new String[] {"repo"}), narrowed);
+        assertEquals(List.of(report, draft), narrowed);
+
+        liveSearch.search(new String[] {"draft", "re"}, tasks, null, TASK_VIEW, 1);
+        assertEquals(tasks.find(new String[] {"draft", "rep"}),
+                liveSearch.search(new String[] {"draft", "rep"}, tasks, null, TASK_VIEW, 1));
+    }
+
+    @Test
+    public void search_sameSearchStrings_cachedUntilItemsChange() {
+        VisualizeList first = liveSearch.search(new String[] {"rep"}, tasks, null, TASK_VIEW, 1);
+        assertSame(first, liveSearch.search(new String[] {"rep"}, tasks, null, TASK_VIEW, 1));
+
+        TaskList changedTasks = new TaskList();
+        changedTasks.add(reply);
+        VisualizeList afterChange = liveSearch.search(new String[] {"rep"}, changedTasks, null, TASK_VIEW, 2);
+        assertNotSame(first, afterChange);
+        assertEquals(List.of(reply), afterChange);
+    }
+
+    @Test
+    public void request_typingPauses_resultHandedOver() throws Exception {
+        CompletableFuture<VisualizeList> result = new CompletableFuture<>();
+        liveSearch.request(new String[] {"email"}, tasks, null, TASK_VIEW, 1, result::complete);
+        assertEquals(List.of(reply), result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void request_overtakenByNextKeystroke_onlyLastSearched() throws Exception {
+        CompletableFuture<VisualizeList> overtaken = new CompletableFuture<>();
+        CompletableFuture<VisualizeList> last = new CompletableFuture<>();
+        liveSearch.request(new String[] {"r"}, tasks, null, TASK_VIEW, 1, overtaken::complete);
+        liveSearch.request(new String[] {"dr"}, tasks, null, TASK_VIEW, 1, last::complete);
+        assertEquals(List.of(draft), last.get(5, TimeUnit.SECONDS));
+        assertFalse(overtaken.isDone());
+    }
+
+    @Test
+    public void search_indexGiven_sameAsFind() {
+        DescriptionIndex index = new DescriptionIndex();
+        tasks.forEach(index::add);
+        index.add(generateTask("report not in view"));
+        assertEquals(tasks.find(new String[] {"report", "email"}),
+                liveSearch.search(new String[] {"report", "email"}, tasks, index.snapshot(), TASK_VIEW, 1));
+    }
+
+    @Test
+    public void request_whileSearching_notHeldUp() throws Exception {
+        CountDownLatch searching = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        TaskList slowTasks = new TaskList() {
+            @Override
+            public VisualizeList find(String[] searchStrings, DescriptionIndex index) {
+                searching.countDown();
+                try {
+                    finish.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.find(searchStrings, index);
+            }
+        };
+        liveSearch.request(new String[] {"slow"}, slowTasks, null, TASK_VIEW, 1, result -> {});
+        assertTrue(searching.await(5, TimeUnit.SECONDS));
+
+        // Requests come from another thread, which must not wait for the search to finish
+        CompletableFuture<VisualizeList> next = new CompletableFuture<>();
+        CompletableFuture.runAsync(() -> {
+            liveSearch.request(new String[] {"email"}, tasks, null, TASK_VIEW, 1, next::complete);
+            liveSearch.cancel();
+            liveSearch.request(new String[] {"email"}, tasks, null, TASK_VIEW, 1, next::complete);
+        }).get(5, TimeUnit.SECONDS);
+        finish.countDown();
+        assertEquals(List.of(reply), next.get(5, TimeUnit.SECONDS));
+    }
+}
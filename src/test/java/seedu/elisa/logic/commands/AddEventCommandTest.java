@@ -0,0 +1,55 @@
+package seedu.elisa.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.elisa.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.elisa.commons.core.Messages;
+import seedu.elisa.commons.core.item.Event;
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.ItemDescription;
+import seedu.elisa.logic.commands.exceptions.CommandException;
+import seedu.elisa.model.ElisaCommandHistoryManager;
+import seedu.elisa.model.ItemModelManager;
+import seedu.elisa.model.ItemStorage;
+import seedu.elisa.model.UserPrefs;
+
+public class AddEventCommandTest {
+    private static final LocalDateTime NOON = LocalDateTime.of(2020, 3, 2, 12, 0);
+
+    private ItemModelManager model = new ItemModelManager(new ItemStorage(), new UserPrefs(),
+            new ElisaCommandHistoryManager());
+    private Item meeting = generateEvent("meeting", NOON);
+    private Item lunch = generateEvent("lunch", NOON.plusMinutes(30));
+
+    @Test
+    public void execute_clashingEvent_addedWithWarning() throws Exception {
+        new AddEventCommand(meeting).execute(model);
+        CommandResult result = new AddEventCommand(lunch).execute(model);
+        assertEquals(String.format(AddEventCommand.MESSAGE_SUCCESS, lunch)
+                + String.format(Messages.MESSAGE_EVENT_CONFLICT, "meeting"), result.getFeedbackToUser());
+        assertEquals(2, model.getItemStorage().size());
+    }
+
+    @Test
+    public void execute_clashingEventStrict_notAdded() throws Exception {
+        new AddEventCommand(meeting).execute(model);
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_EVENT_CONFLICT_REJECTED, "meeting"), ()
+            -> new AddEventCommand(lunch, true).execute(model));
+        assertFalse(model.hasItem(lunch));
+
+        new AddEventCommand(generateEvent("dinner", NOON.plusHours(6)), true).execute(model);
+        assertEquals(2, model.getItemStorage().size());
+    }
+
+    private Item generateEvent(String description, LocalDateTime start) {
+        return new Item.ItemBuilder().setEvent(new Event(start, Duration.ofHours(1)))
+                .setItemDescription(new ItemDescription(description))
+                .build();
+    }
+}
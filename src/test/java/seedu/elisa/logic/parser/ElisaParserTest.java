@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.elisa.testutil.Assert.assertThrows;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import seedu.elisa.logic.commands.AddEventCommand;
 import seedu.elisa.logic.commands.AddReminderCommand;
 import seedu.elisa.logic.commands.AddTaskCommand;
+import seedu.elisa.logic.commands.ArchiveCommand;
 import seedu.elisa.logic.commands.ClearCommand;
 import seedu.elisa.logic.commands.CloseCommand;
 import seedu.elisa.logic.commands.ContinueCommand;
@@ -20,6 +24,7 @@ import seedu.elisa.logic.commands.DownCommand;
 import seedu.elisa.logic.commands.EditCommand;
 import seedu.elisa.logic.commands.ExitCommand;
 import seedu.elisa.logic.commands.FindCommand;
+import seedu.elisa.logic.commands.FreeCommand;
 import seedu.elisa.logic.commands.GameCommand;
 import seedu.elisa.logic.commands.JokeCommand;
 import seedu.elisa.logic.commands.OpenCommand;
@@ -34,6 +39,7 @@ import seedu.elisa.logic.commands.UndoCommand;
 import seedu.elisa.logic.commands.UpCommand;
 import seedu.elisa.logic.parser.exceptions.ParseException;
 import seedu.elisa.model.ElisaCommandHistoryManager;
+import seedu.elisa.model.item.TagQuery;
 
 public class ElisaParserTest {
     private ElisaParser testParser = new ElisaParser(new ElisaCommandHistoryManager());
@@ -46,6 +52,7 @@ public class ElisaParserTest {
     @Test
     public void parse_event_newEventommand() throws ParseException {
         assertTrue(testParser.parseCommand("event test -d 1.min.later") instanceof AddEventCommand);
+        assertTrue(testParser.parseCommand("event test -d 1.min.later --strict") instanceof AddEventCommand);
     }
 
     @Test
@@ -73,6 +80,55 @@ public class ElisaParserTest {
         assertTrue(testParser.parseCommand("find test") instanceof FindCommand);
     }
 
+    @Test
+    public void parse_findArchive_newArchiveFindCommand() throws ParseException {
+        assertEquals(testParser.parseCommand("find test report --archive"),
+                new FindCommand(new String[] {"test", "report"}, true));
+        assertEquals(testParser.parseCommand("find --archive test"), new FindCommand(new String[] {"test"}, true));
+    }
+
+    @Test
+    public void parse_findRanked_newRankedFindCommand() throws ParseException {
+        assertEquals(testParser.parseCommand("find test --rank"), new FindCommand(new String[] {"test"}, false, 1));
+        assertEquals(testParser.parseCommand("find --rank test report"),
+                new FindCommand(new String[] {"test", "report"}, false, 1));
+        assertEquals(testParser.parseCommand("find test --rank -page 3"),
+                new FindCommand(new String[] {"test"}, false, 3));
+        assertThrows(ParseException.class, () -> testParser.parseCommand("find test -page 0"));
+        assertThrows(ParseException.class, () -> testParser.parseCommand("find test -page next"));
+    }
+
+    @Test
+    public void parse_findTagged_newTaggedFindCommand() throws ParseException {
+        TagQuery query = new TagQuery(List.of(List.of("work", "home"), List.of("urgent")), List.of("school"));
+        assertEquals(testParser.parseCommand("find -t work,home urgent !school"),
+                new FindCommand(new String[0], false, 0, query));
+        assertEquals(testParser.parseCommand("find report -t work,home urgent !school"),
+                new FindCommand(new String[] {"report"}, false, 0, query));
+        assertThrows(ParseException.class, () -> testParser.parseCommand("find -t work,"));
+        assertThrows(ParseException.class, () -> testParser.parseCommand("find --rank -t work"));
+    }
+
+    @Test
+    public void parse_free_newFreeCommand() throws ParseException {
+        LocalDateTime from = LocalDateTime.of(2019, 9, 25, 8, 0);
+        LocalDateTime to = LocalDateTime.of(2019, 9, 25, 18, 0);
+        assertEquals(testParser.parseCommand("free -from 25/09/2019 0800 -to 25/09/2019 1800 -min 60"),
+                new FreeCommand(from, to, Duration.ofMinutes(60)));
+        assertEquals(testParser.parseCommand("free -to 25/09/2019 1800 -from 25/09/2019 0800"),
+                new FreeCommand(from, to, FreeCommand.DEFAULT_MIN_DURATION));
+        assertThrows(ParseException.class, () -> testParser.parseCommand("free -from 25/09/2019 0800"));
+        assertThrows(ParseException.class, () ->
+                testParser.parseCommand("free -from 25/09/2019 1800 -to 25/09/2019 0800"));
+        assertThrows(ParseException.class, () ->
+                testParser.parseCommand("free -from 25/09/2019 0800 -to 25/09/2019 1800 -min 0"));
+    }
+
+    @Test
+    public void parse_archive_newArchiveCommand() throws ParseException {
+        assertEquals(testParser.parseCommand("archive"), new ArchiveCommand());
+    }
+
     @Test
     public void parse_undo_newUndoCommand() throws ParseException {
         assertTrue(testParser.parseCommand("undo") instanceof UndoCommand);
@@ -0,0 +1,179 @@
+package seedu.elisa.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.elisa.commons.core.index.Index;
+import seedu.elisa.commons.core.item.ItemDescription;
+import seedu.elisa.logic.commands.ClearCommand;
+import seedu.elisa.logic.commands.DeleteCommand;
+import seedu.elisa.logic.commands.RedoCommand;
+import seedu.elisa.logic.commands.RestoredCommand;
+import seedu.elisa.logic.commands.ShowCommand;
+import seedu.elisa.logic.commands.UndoCommand;
+import seedu.elisa.logic.commands.UndoableCommand;
+import seedu.elisa.storage.JsonUndoJournal;
+import seedu.elisa.testutil.TypicalItems;
+
+public class ElisaCommandHistoryManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private UndoableCommand delete(int index) {
+        return new DeleteCommand(Index.fromOneBased(index));
+    }
+
+    private UndoableCommand edit(String description) {
+        return new RestoredCommand(UndoRecord.replaced("edit", TypicalItems.ITEM_WITH_TASK,
+                TypicalItems.ITEM_WITH_TASK.changeItemDescription(new ItemDescription(description))));
+    }
+
+    private ElisaCommandHistoryManager restart() {
+        ElisaCommandHistoryManager history = new ElisaCommandHistoryManager();
+        history.setUndoJournal(new JsonUndoJournal(testFolder.resolve("data.json.undo")));
+        return history;
+    }
+
+    @Test
+    public void getRetainedBytes_clearUndoneAndRedone_clearedItemsOnlyCountedWhileCleared() throws Exception {
+        ElisaCommandHistoryManager history = new ElisaCommandHistoryManager();
+        ItemModel model = new ItemModelManager(TypicalItems.getTypicalItemList(), new UserPrefs(), history);
+        ClearCommand clear = new ClearCommand();
+        clear.execute(model);
+        history.pushUndo(clear);
+        long whileCleared = history.getRetainedBytes();
+
+        new UndoCommand(history).execute(model);
+        assertEquals(new ClearCommand().estimateRetainedBytes(), history.getRetainedBytes());
+        new RedoCommand(history).execute(model);
+        assertEquals(whileCleared, history.getRetainedBytes());
+    }
+
+    @Test
+    public void popRedo_redoneClearHoldsMoreThanBudget_oldestEvicted() throws Exception {
+        ClearCommand sizedClear = new ClearCommand();
+        sizedClear.execute(new ItemModelManager(TypicalItems.getTypicalItemList(), new UserPrefs(),
+                new ElisaCommandHistoryManager()));
+        long bytesPerCommand = delete(1).estimateRetainedBytes();
+        ElisaCommandHistoryManager history =
+                new ElisaCommandHistoryManager(100, sizedClear.estimateRetainedBytes() + bytesPerCommand);
+        ItemModel model = new ItemModelManager(TypicalItems.getTypicalItemList(), new UserPrefs(), history);
+        history.pushUndo(delete(1));
+        ClearCommand clear = new ClearCommand();
+        clear.execute(model);
+        history.pushUndo(clear);
+
+        // Pushed without clearing the redo stack, so that the clear can be redone after it
+        new UndoCommand(history).execute(model);
+        history.pushUndo(delete(2));
+        new RedoCommand(history).execute(model);
+
+        assertEquals(2, history.sizeUndo());
+        assertEquals(clear, history.popUndo());
+        assertEquals(delete(2), history.popUndo());
+    }
+
+    @Test
+    public void pushUndo_moreCommandsThanDepth_oldestEvicted() {
+        ElisaCommandHistoryManager history = new ElisaCommandHistoryManager(3, Long.MAX_VALUE);
+        for (int i = 1; i <= 5; i++) {
+            history.pushUndo(delete(i));
+        }
+
+        assertEquals(3, history.sizeUndo());
+        assertEquals(delete(5), history.popUndo());
+        assertEquals(delete(4), history.popUndo());
+        assertEquals(delete(3), history.popUndo());
+    }
+
+    @Test
+    public void pushUndo_moreBytesThanBudget_oldestEvicted() {
+        long bytesPerCommand = delete(1).estimateRetainedBytes();
+        ElisaCommandHistoryManager history = new ElisaCommandHistoryManager(100, 2 * bytesPerCommand);
+        for (int i = 1; i <= 4; i++) {
+            history.pushUndo(delete(i));
+        }
+
+        assertEquals(2, history.sizeUndo());
+        assertEquals(2 * bytesPerCommand, history.getRetainedBytes());
+        assertEquals(delete(4), history.peekUndo());
+    }
+
+    @Test
+    public void pushUndo_commandLargerThanBudget_latestCommandKept() {
+        ElisaCommandHistoryManager history = new ElisaCommandHistoryManager(100, 0);
+        history.pushUndo(delete(1));
+        history.pushUndo(delete(2));
+
+        assertEquals(1, history.sizeUndo());
+        assertEquals(delete(2), history.peekUndo());
+    }
+
+    @Test
+    public void popRedo_historyFull_redoneCommandsNotEvicted() {
+        ElisaCommandHistoryManager history = new ElisaCommandHistoryManager(2, Long.MAX_VALUE);
+        history.pushUndo(delete(1));
+        history.pushUndo(delete(2));
+        history.popUndo();
+        history.popUndo();
+
+        assertEquals(2, history.sizeRedo());
+        history.popRedo();
+        history.popRedo();
+        assertEquals(2, history.sizeUndo());
+        assertEquals(0, history.sizeRedo());
+    }
+
+    @Test
+    public void restart_commandsUndoneAndRedone_sameStacksReadBack() {
+        ElisaCommandHistoryManager history = restart();
+        history.pushUndo(edit("first"));
+        history.pushUndo(new ShowCommand("E"));
+        history.pushUndo(edit("second"));
+        history.pushUndo(edit("third"));
+        history.popUndo();
+
+        ElisaCommandHistoryManager restarted = restart();
+        assertEquals(2, restarted.sizeUndo());
+        assertEquals(edit("second"), restarted.popUndo());
+        assertEquals(edit("first"), restarted.peekUndo());
+        assertEquals(edit("second"), restarted.peekRedo());
+        assertEquals(2, restarted.sizeRedo());
+    }
+
+    @Test
+    public void restart_commandsPushedBeforeHistoryRead_pushedAboveHistory() {
+        ElisaCommandHistoryManager history = restart();
+        history.pushUndo(edit("first"));
+        history.popUndo();
+
+        ElisaCommandHistoryManager restarted = restart();
+        restarted.clearRedo();
+        restarted.pushUndo(edit("second"));
+        assertEquals(0, restarted.sizeRedo());
+        assertEquals(1, restarted.sizeUndo());
+
+        ElisaCommandHistoryManager restartedAgain = restart();
+        restartedAgain.pushUndo(edit("third"));
+        assertEquals(2, restartedAgain.sizeUndo());
+        assertEquals(edit("third"), restartedAgain.popUndo());
+        assertEquals(edit("second"), restartedAgain.peekUndo());
+    }
+
+    @Test
+    public void restart_clearAfterEdits_historyDropped() {
+        ElisaCommandHistoryManager history = restart();
+        history.pushUndo(edit("first"));
+        history.pushUndo(new ClearCommand());
+        history.pushUndo(edit("second"));
+
+        ElisaCommandHistoryManager restarted = restart();
+        assertEquals(1, restarted.sizeUndo());
+        assertEquals(edit("second"), restarted.peekUndo());
+    }
+}
@@ -2,25 +2,35 @@ package seedu.elisa.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.elisa.testutil.Assert.assertThrows;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.elisa.commons.core.GuiSettings;
+import seedu.elisa.commons.core.item.Event;
 import seedu.elisa.commons.core.item.Item;
 import seedu.elisa.commons.core.item.ItemDescription;
 import seedu.elisa.commons.core.item.Priority;
 import seedu.elisa.commons.core.item.Task;
+import seedu.elisa.commons.core.item.tag.Tag;
 import seedu.elisa.commons.exceptions.IllegalValueException;
 import seedu.elisa.model.exceptions.IllegalListException;
 import seedu.elisa.model.item.EventList;
 import seedu.elisa.model.item.ReminderList;
+import seedu.elisa.model.item.TagQuery;
 import seedu.elisa.model.item.TaskList;
 import seedu.elisa.model.item.VisualizeList;
 import seedu.elisa.testutil.TypicalItems;
@@ -188,6 +198,44 @@ public class ItemModelManagerTest {
         assertTrue(testModel.hasItem(newItem));
     }
 
+    @Test
+    public void undo_replacedItemMissing_nothingChanged() {
+        testModel.addItem(task);
+        Item missing = template.setTask(new Task(true)).build();
+        Item before = missing.changeItemDescription(new ItemDescription("before the edit"));
+        UndoRecord edit = UndoRecord.replaced("edit", before, missing);
+
+        edit.undo(testModel);
+        assertFalse(testModel.hasItem(before));
+        assertEquals(List.of(task), testModel.getVisualList());
+        edit.redo(testModel);
+        assertFalse(testModel.hasItem(missing));
+        assertEquals(List.of(task), testModel.getVisualList());
+    }
+
+    @Test
+    public void editItem_eventAddedToTask_addedToEventList() throws IllegalValueException {
+        testModel.addItem(task);
+        Item editedTask = task.changeEvent(event.getEvent().get());
+        testModel.editItem(task, editedTask);
+        testModel.setVisualList("E");
+        assertEquals(1, testModel.getVisualList().size());
+        assertEquals(editedTask, testModel.getVisualList().get(0));
+        testModel.setVisualList("T");
+        assertEquals(editedTask, testModel.getVisualList().get(0));
+    }
+
+    @Test
+    public void replaceItem_taskRemoved_removedFromTaskList() throws IllegalValueException {
+        testModel.addItem(validItem);
+        Item newItem = validItem.changeTask(null);
+        testModel.replaceItem(validItem, newItem);
+        testModel.setVisualList("T");
+        assertEquals(0, testModel.getVisualList().size());
+        testModel.setVisualList("E");
+        assertEquals(newItem, testModel.getVisualList().get(0));
+    }
+
     @Test
     public void togglePriorityMode_priorityModeCurrentlyOff_priorityModeOn() {
         testModel.addItem(task);
@@ -350,6 +398,153 @@ public class ItemModelManagerTest {
         checkAllList(0);
     }
 
+    @Test
+    public void restoreCleared_afterClear_allItemsAndListsBack() {
+        testModel.addItem(validItem);
+        testModel.addItem(task);
+        ItemStorage before = testModel.getItemStorage();
+        ClearedItems cleared = testModel.clear();
+        assertEquals(2, cleared.size());
+
+        testModel.restoreCleared(cleared);
+        assertTrue(before == testModel.getItemStorage());
+        try {
+            testModel.setVisualList("T");
+            assertEquals(2, testModel.getVisualList().size());
+            testModel.setVisualList("E");
+            assertEquals(List.of(validItem), testModel.getVisualList());
+        } catch (IllegalValueException e) {
+            fail(e);
+        }
+    }
+
+    @Test
+    public void restoreCleared_afterFindWithOccurredReminder_viewAndRemindersBack() throws IllegalValueException {
+        testModel.addItem(task);
+        testModel.addItem(reminder);
+        testModel.getActiveReminderListProperty().addReminders(List.of(reminder));
+        testModel.setVisualList("R");
+        VisualizeList found = testModel.findItem(new String[] {"test"});
+        ViewDescriptor view = testModel.getView();
+        List<Item> futureReminders = new ArrayList<>(testModel.getFutureRemindersList());
+
+        ClearedItems cleared = testModel.clear();
+        assertTrue(testModel.getActiveReminderListProperty().isEmpty());
+        assertEquals(ViewDescriptor.of("T"), testModel.getView());
+
+        testModel.restoreCleared(cleared);
+        assertEquals(List.of(reminder), testModel.getActiveReminderListProperty());
+        assertEquals(futureReminders, testModel.getFutureRemindersList());
+        assertEquals(view, testModel.getView());
+        assertTrue(found == testModel.getVisualList());
+    }
+
+    @Test
+    public void restoreCleared_listChangedAfterRestore_clearedItemsUnchanged() {
+        testModel.addItem(task);
+        ClearedItems cleared = testModel.clear();
+        testModel.restoreCleared(cleared);
+        testModel.deleteItem(task);
+
+        testModel.restoreCleared(cleared);
+        assertEquals(List.of(task), cleared.getTaskList());
+        assertEquals(List.of(task), testModel.getVisualList());
+    }
+
+    @Test
+    public void getView_findAfterShow_describesBoth() throws IllegalValueException {
+        testModel.setVisualList("E");
+        testModel.findItem(new String[] {"test"});
+        assertEquals(ViewDescriptor.of("E").filter(new String[] {"test"}), testModel.getView());
+    }
+
+    @Test
+    public void setView_itemEditedSinceView_showsEditedItem() throws IllegalValueException {
+        testModel.addItem(task);
+        testModel.findItem(new String[] {"test"});
+        ViewDescriptor found = testModel.getView();
+        testModel.setVisualList("E");
+
+        Item edited = task.changeItemDescription(new ItemDescription("test again"));
+        testModel.editItem(task, edited);
+        testModel.setView(found);
+        assertEquals(List.of(edited), testModel.getVisualList());
+        assertEquals(found, testModel.getView());
+    }
+
+    @Test
+    public void setView_itemsUnchangedSinceView_foundListShownAgain() throws IllegalValueException {
+        testModel.addItem(task);
+        VisualizeList foundList = testModel.findItem(new String[] {"test"});
+        ViewDescriptor found = testModel.getView();
+        testModel.setVisualList("E");
+
+        testModel.setView(found);
+        assertSame(foundList, testModel.getVisualList());
+        assertEquals(found, testModel.getView());
+    }
+
+    @Test
+    public void findItem_deleteUndone_foundAgain() {
+        testModel.addItem(task);
+        ItemIndexWrapper deleted = testModel.getIndices(0);
+        testModel.deleteItem(0);
+        testModel.addItem(deleted);
+        assertEquals(List.of(task), testModel.findItem(new String[] {"test"}));
+    }
+
+    @Test
+    public void findTaggedItem_deleteUndone_foundAgain() {
+        Item tagged = task.changeTags(new HashSet<>(Set.of(new Tag("work"))));
+        testModel.addItem(tagged);
+        ItemIndexWrapper deleted = testModel.getIndices(0);
+        testModel.deleteItem(0);
+        testModel.addItem(deleted);
+        TagQuery query = new TagQuery(List.of(List.of("work")), List.of());
+        assertEquals(List.of(tagged), testModel.findTaggedItem(query));
+    }
+
+    @Test
+    public void rankItems_scoredByMatchesAndPriority_bestFirst() {
+        Item once = generateTask("report draft", Priority.MEDIUM);
+        Item twice = generateTask("report on the report", Priority.MEDIUM);
+        Item urgent = generateTask("report draft", Priority.HIGH);
+        testModel.addItem(once);
+        testModel.addItem(twice);
+        testModel.addItem(urgent);
+        testModel.addItem(generateTask("unrelated", Priority.HIGH));
+
+        testModel.findItem(new String[] {"report"});
+        assertEquals(3, testModel.rankItems(new String[] {"report"}, 1, 2));
+        assertEquals(List.of(urgent, twice), testModel.getVisualList());
+
+        ViewDescriptor secondPage = ViewDescriptor.of("T").filter(new String[] {"report"})
+                .rank(new String[] {"report"}, 2, 2);
+        testModel.setView(secondPage);
+        assertEquals(List.of(once), testModel.getVisualList());
+    }
+
+    @Test
+    public void getEventsOverlapping_deleteUndone_eventFoundAgain() throws IllegalValueException {
+        LocalDateTime noon = LocalDateTime.of(2020, 3, 2, 12, 0);
+        Item lunch = new Item.ItemBuilder().setEvent(new Event(noon, Duration.ofHours(1)))
+                .setItemDescription(new ItemDescription("lunch")).build();
+        testModel.addItem(lunch);
+        testModel.setVisualList("E");
+        assertEquals(List.of(lunch), testModel.getEventsOverlapping(noon.minusHours(1), noon.plusMinutes(1)));
+
+        ItemIndexWrapper deleted = testModel.getIndices(0);
+        testModel.deleteItem(0);
+        assertEquals(List.of(), testModel.getEventsOverlapping(noon, noon.plusHours(1)));
+        testModel.addItem(deleted);
+        assertEquals(List.of(lunch), testModel.getEventsOverlapping(noon, noon.plusHours(1)));
+        assertEquals(List.of(), testModel.getEventsOverlapping(noon.plusHours(1), noon.plusHours(2)));
+    }
+
+    private Item generateTask(String description, Priority priority) {
+        return TypicalItems.generateTask(description).changePriority(priority);
+    }
+
     @Test
     public void sort_ensureListsAreDifferent() {
         testModel.addItem(validItem);
@@ -372,4 +567,144 @@ public class ItemModelManagerTest {
         assertFalse(testModel.getPriorityMode().getValue());
         assertEquals(2, testModel.getVisualList().size());
     }
+
+    @Test
+    public void archiveOldItems_completedTaskAndPastEvent_movedToArchive() throws Exception {
+        InMemoryItemArchive archive = new InMemoryItemArchive();
+        testModel.setItemArchive(archive);
+        Item completedTask = template.setTask(new Task(true)).build();
+        Item pastEvent = new Item.ItemBuilder().setItemDescription(new ItemDescription("past"))
+                .setEvent(new Event(LocalDateTime.now().minusDays(60), Duration.ofHours(1))).build();
+        testModel.addItem(completedTask);
+        testModel.addItem(pastEvent);
+        testModel.addItem(task);
+
+        // The completed task was only just created, so only the event is old enough
+        assertEquals(1, testModel.archiveOldItems(LocalDateTime.now()));
+        assertEquals(1, testModel.archiveOldItems(
+                LocalDateTime.now().plusDays(UserPrefs.DEFAULT_ARCHIVE_AFTER_DAYS + 1)));
+        assertEquals(List.of(pastEvent, completedTask), archive.items);
+        assertEquals(1, testModel.getItemStorage().size());
+        assertFalse(testModel.hasItem(completedTask));
+
+        testModel.setVisualList("T");
+        assertEquals(1, testModel.showArchive().size());
+        assertEquals(completedTask, testModel.getVisualList().get(0));
+    }
+
+    @Test
+    public void archiveOldItems_taskCompletedAfterCreation_agedFromCompletion() throws Exception {
+        InMemoryItemArchive archive = new InMemoryItemArchive();
+        testModel.setItemArchive(archive);
+        LocalDateTime completedDateTime = LocalDateTime.now().plusDays(20);
+        Item completedTask = template.setTask(new Task(true, completedDateTime)).build();
+        testModel.addItem(completedTask);
+
+        // The task was created long enough ago, but was only completed later
+        assertEquals(0, testModel.archiveOldItems(
+                LocalDateTime.now().plusDays(UserPrefs.DEFAULT_ARCHIVE_AFTER_DAYS + 1)));
+        assertEquals(1, testModel.archiveOldItems(
+                completedDateTime.plusDays(UserPrefs.DEFAULT_ARCHIVE_AFTER_DAYS + 1)));
+        assertEquals(List.of(completedTask), archive.items);
+    }
+
+    @Test
+    public void markComplete_task_completionTimeRecorded() throws Exception {
+        testModel.addItem(task);
+        testModel.setVisualList("T");
+        LocalDateTime before = LocalDateTime.now();
+        Item completedTask = testModel.markComplete(0, true);
+        assertFalse(completedTask.getTask().get().getCompletedDateTime().get().isBefore(before));
+        assertFalse(testModel.markComplete(0, false).getTask().get().getCompletedDateTime().isPresent());
+    }
+
+    @Test
+    public void replaceItem_archivedItem_broughtBackFromArchive() throws Exception {
+        InMemoryItemArchive archive = new InMemoryItemArchive();
+        testModel.setItemArchive(archive);
+        Item completedTask = template.setTask(new Task(true)).build();
+        testModel.addItem(completedTask);
+        testModel.archiveOldItems(LocalDateTime.now().plusDays(UserPrefs.DEFAULT_ARCHIVE_AFTER_DAYS + 1));
+
+        // As when a command that completed the task is undone after the task was archived
+        Item incompleteTask = completedTask.changeTask(new Task(false));
+        testModel.replaceItem(completedTask, incompleteTask);
+        assertTrue(archive.items.isEmpty());
+        assertTrue(testModel.hasItem(incompleteTask));
+    }
+
+    @Test
+    public void addItem_deletionFromArchiveUndoneInOtherView_onlyPutBackIntoArchive() throws Exception {
+        InMemoryItemArchive archive = new InMemoryItemArchive();
+        testModel.setItemArchive(archive);
+        Item completedTask = template.setTask(new Task(true)).build();
+        testModel.addItem(completedTask);
+        testModel.archiveOldItems(LocalDateTime.now().plusDays(UserPrefs.DEFAULT_ARCHIVE_AFTER_DAYS + 1));
+        testModel.setVisualList("T");
+        testModel.showArchive();
+        ItemIndexWrapper wrapper = testModel.getIndices(0);
+        testModel.deleteItem(0);
+        assertTrue(archive.items.isEmpty());
+
+        testModel.setVisualList("T");
+        testModel.addItem(wrapper);
+        assertEquals(List.of(completedTask), archive.items);
+        assertTrue(testModel.getVisualList().isEmpty());
+        assertFalse(testModel.hasItem(completedTask));
+    }
+
+    @Test
+    public void addItem_archiveFailsToTakeItemBack_addedToListsOnce() throws Exception {
+        InMemoryItemArchive archive = new InMemoryItemArchive();
+        testModel.setItemArchive(archive);
+        Item completedTask = template.setTask(new Task(true)).build();
+        testModel.addItem(completedTask);
+        testModel.archiveOldItems(LocalDateTime.now().plusDays(UserPrefs.DEFAULT_ARCHIVE_AFTER_DAYS + 1));
+        testModel.setVisualList("T");
+        testModel.showArchive();
+        ItemIndexWrapper wrapper = testModel.getIndices(0);
+        testModel.deleteItem(0);
+
+        archive.isBroken = true;
+        testModel.addItem(wrapper);
+        assertTrue(testModel.hasItem(completedTask));
+        assertEquals(1, testModel.getItemStorage().size());
+        testModel.setVisualList("T");
+        assertEquals(List.of(completedTask), testModel.getVisualList());
+    }
+
+    @Test
+    public void equals_tasksCompletedAtDifferentTimes_sameItem() {
+        Item completedTask = template.setTask(new Task(true, LocalDateTime.now())).build();
+        testModel.addItem(completedTask);
+        Item completedLater = completedTask.changeTask(new Task(true, LocalDateTime.now().plusDays(1)));
+        assertEquals(completedTask, completedLater);
+        assertTrue(testModel.hasItem(completedLater));
+    }
+
+    /**
+     * An archive that keeps the archived items in memory.
+     */
+    private static class InMemoryItemArchive implements ItemArchive {
+        private final List<Item> items = new ArrayList<>();
+        private boolean isBroken = false;
+
+        @Override
+        public void archive(List<Item> archivedItems) throws IOException {
+            if (isBroken) {
+                throw new IOException("archive is broken");
+            }
+            items.addAll(archivedItems);
+        }
+
+        @Override
+        public boolean unarchive(Item item) {
+            return items.removeIf(archived -> archived.getId() == item.getId());
+        }
+
+        @Override
+        public List<Item> readArchivedItems() {
+            return new ArrayList<>(items);
+        }
+    }
 }
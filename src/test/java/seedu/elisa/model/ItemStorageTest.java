@@ -1,12 +1,22 @@
 package seedu.elisa.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.elisa.testutil.Assert.assertThrows;
+import static seedu.elisa.testutil.TypicalItems.generateTask;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.ItemDescription;
+import seedu.elisa.commons.core.item.Task;
 import seedu.elisa.commons.exceptions.DuplicateItemException;
+import seedu.elisa.model.item.ItemPositions;
 import seedu.elisa.testutil.TypicalItems;
 
 public class ItemStorageTest {
@@ -24,4 +34,148 @@ public class ItemStorageTest {
         assertTrue(storageTest.equals(storageTest.deepCopy()));
         assertFalse(storageTest == storageTest.deepCopy());
     }
+
+    @Test
+    public void snapshot_originalChanged_snapshotUnchanged() {
+        Item first = generateTask("first");
+        Item second = generateTask("second");
+        storageTest.add(first);
+        ItemStorage snapshot = storageTest.snapshot();
+        storageTest.add(second);
+        storageTest.remove(first);
+        assertEquals(1, snapshot.size());
+        assertTrue(snapshot.contains(first));
+        assertFalse(snapshot.contains(second));
+        assertEquals(0, storageTest.indexOf(second));
+    }
+
+    @Test
+    public void getVersion_itemsChanged_versionChanged() {
+        Item task = generateTask("first");
+        long version = storageTest.getVersion();
+        storageTest.add(task);
+        assertNotEquals(version, storageTest.getVersion());
+
+        version = storageTest.getVersion();
+        storageTest.indexOf(task);
+        storageTest.contains(task);
+        assertEquals(version, storageTest.getVersion());
+
+        storageTest.setItem(0, task.changeTask(new Task(true)));
+        assertNotEquals(version, storageTest.getVersion());
+        assertNotEquals(storageTest.getVersion(), new ItemStorage().getVersion());
+    }
+
+    @Test
+    public void indexOf_editedVersionOfItem_foundById() {
+        Item task = generateTask("first");
+        storageTest.add(task);
+        Item editedTask = task.changeItemDescription(new ItemDescription("edited"));
+        assertEquals(0, storageTest.indexOf(editedTask));
+        assertFalse(storageTest.contains(editedTask));
+    }
+
+    @Test
+    public void fromJson_itemsSaved_idsKept() throws Exception {
+        Item task = generateTask("first");
+        storageTest.add(task);
+        ItemStorage loaded = ItemStorage.fromJson(storageTest.toJson());
+        assertEquals(task.getId(), loaded.get(0).getId());
+    }
+
+    @Test
+    public void fromJson_allKindsOfItems_sameItemsLoaded() throws Exception {
+        storageTest.add(TypicalItems.ITEM_WITH_TASK);
+        storageTest.add(TypicalItems.ITEM_WITH_EVENT);
+        storageTest.add(TypicalItems.ITEM_WITH_REMINDER);
+        storageTest.add(TypicalItems.ITEM_WITH_ALL);
+        assertEquals(storageTest, ItemStorage.fromJson(storageTest.toJson()));
+    }
+
+    @Test
+    public void fromJson_corruptedAndDuplicateRecords_skipped() throws Exception {
+        Item first = generateTask("first");
+        Item second = generateTask("second");
+        String firstJson = first.toJson();
+        String corruptedJson = "{\"itemDescription\": {\"description\": \"bad\"}, \"priority\": \"URGENT\","
+                + " \"tags\": [{\"tagName\": \"x\"}], \"task\": {\"complete\": true}}";
+        String json = "[" + firstJson + ", " + corruptedJson + ", 42, " + firstJson + ", " + second.toJson() + "]";
+
+        ItemStorage loaded = ItemStorage.fromJson(json);
+        assertEquals(2, loaded.size());
+        assertEquals(first, loaded.get(0));
+        assertEquals(second, loaded.get(1));
+    }
+
+    @Test
+    public void remove_itemInMiddle_indicesOfLaterItemsShifted() {
+        Item first = generateTask("first");
+        Item second = generateTask("second");
+        Item third = generateTask("third");
+        storageTest.add(first);
+        storageTest.add(second);
+        storageTest.add(third);
+
+        storageTest.remove(second);
+        assertFalse(storageTest.contains(second));
+        assertEquals(-1, storageTest.indexOf(second));
+        assertEquals(0, storageTest.indexOf(first));
+        assertEquals(1, storageTest.indexOf(third));
+        assertEquals(third, storageTest.get(1));
+    }
+
+    @Test
+    public void remove_manyItemsInMiddle_lookupsAfterEachRemoveFound() {
+        List<Item> expected = new ArrayList<>();
+        for (int i = 0; i < ItemPositions.MAX_SHIFTS * 3; i++) {
+            Item item = generateTask("task " + i);
+            storageTest.add(item);
+            expected.add(item);
+        }
+
+        // Lookups are made between removals and insertions, so that each has to see the shifts before it
+        for (int i = 0; i < ItemPositions.MAX_SHIFTS * 2; i++) {
+            Item removed = expected.remove(expected.size() / 2);
+            storageTest.remove(removed);
+            assertEquals(-1, storageTest.indexOf(removed));
+            if (i % 3 == 0) {
+                Item inserted = generateTask("inserted " + i);
+                storageTest.add(i % expected.size(), inserted);
+                expected.add(i % expected.size(), inserted);
+            }
+            for (int j = 0; j < expected.size(); j += 7) {
+                assertEquals(j, storageTest.indexOf(expected.get(j)));
+            }
+        }
+        for (int j = 0; j < expected.size(); j++) {
+            assertEquals(j, storageTest.indexOf(expected.get(j).getId()));
+        }
+    }
+
+    @Test
+    public void add_atIndex_indicesOfLaterItemsShifted() {
+        Item first = generateTask("first");
+        Item second = generateTask("second");
+        Item third = generateTask("third");
+        storageTest.add(first);
+        storageTest.add(third);
+
+        storageTest.add(1, second);
+        assertEquals(0, storageTest.indexOf(first));
+        assertEquals(1, storageTest.indexOf(second));
+        assertEquals(2, storageTest.indexOf(third));
+        assertThrows(DuplicateItemException.class, () -> storageTest.add(0, generateTask("third")));
+    }
+
+    @Test
+    public void setItem_replacesItemAtIndex() {
+        Item first = generateTask("first");
+        Item replacement = generateTask("replacement");
+        storageTest.add(first);
+
+        storageTest.setItem(0, replacement);
+        assertFalse(storageTest.contains(first));
+        assertTrue(storageTest.contains(replacement));
+        assertEquals(0, storageTest.indexOf(replacement));
+    }
 }
@@ -0,0 +1,69 @@
+package seedu.elisa.model.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.elisa.testutil.TypicalItems.generateTask;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.ItemDescription;
+
+public class DescriptionIndexTest {
+    private DescriptionIndex index = new DescriptionIndex();
+
+    @Test
+    public void find_substringOfDescription_ignoresCase() {
+        Item report = generateTask("Write REPORT");
+        index.add(report);
+        index.add(generateTask("Read paper"));
+        assertEquals(Set.of(report.getId()), index.find("te rep"));
+        assertEquals(Set.of(report.getId()), index.find("Report"));
+    }
+
+    @Test
+    public void find_allTrigramsButNotSubstring_notFound() {
+        // "abcd" and "bcde" are both in the description, but "abcde" is not
+        index.add(generateTask("abcd bcde"));
+        assertTrue(index.find("abcde").isEmpty());
+    }
+
+    @Test
+    public void find_shortSearchString_checksEveryDescription() {
+        Item demo = generateTask("demo");
+        index.add(demo);
+        index.add(generateTask("pitch"));
+        assertEquals(Set.of(demo.getId()), index.find("mo"));
+        assertEquals(2, index.find("").size());
+    }
+
+    @Test
+    public void applyDelta_replacedAndRemoved_followsItems() {
+        Item draft = generateTask("draft");
+        index.applyDelta(ItemDelta.added(draft));
+        Item edited = draft.changeItemDescription(new ItemDescription("final copy"));
+        index.applyDelta(ItemDelta.replaced(draft, edited));
+        assertTrue(index.find("draft").isEmpty());
+        assertEquals(Set.of(edited.getId()), index.find("copy"));
+
+        index.applyDelta(ItemDelta.removed(edited));
+        assertTrue(index.find("copy").isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void snapshot_indexChangedAfterwards_snapshotUnchanged() {
+        Item draft = generateTask("draft report");
+        index.add(draft);
+        DescriptionIndex snapshot = index.snapshot();
+        Item report = generateTask("final report");
+        index.add(report);
+        index.remove(draft.getId());
+
+        assertEquals(Set.of(draft.getId()), snapshot.find("report"));
+        assertEquals(Set.of(report.getId()), index.find("report"));
+        assertEquals(1, snapshot.size());
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.elisa.model.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.elisa.commons.core.item.Event;
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.ItemDescription;
+import seedu.elisa.model.AutoReschedulePeriod;
+
+public class EventIndexTest {
+    private static final LocalDateTime NOON = LocalDateTime.of(2020, 3, 2, 12, 0);
+
+    private EventIndex index = new EventIndex();
+
+    @Test
+    public void findOverlapping_rangeEnds_startInclusiveEndExclusive() {
+        Item morning = generateEvent("morning", NOON.minusHours(3), Duration.ofHours(3));
+        Item lunch = generateEvent("lunch", NOON, Duration.ofHours(1));
+        Item deadline = generateEvent("deadline", NOON.plusHours(1), Duration.ZERO);
+        for (Item event : new Item[] {deadline, lunch, morning}) {
+            index.add(event);
+        }
+        assertEquals(List.of(lunch), index.findOverlapping(NOON, NOON.plusHours(1)));
+        assertEquals(List.of(morning, lunch, deadline), index.findOverlapping(NOON.minusHours(1), NOON.plusHours(2)));
+        assertEquals(List.of(deadline), index.findOverlapping(NOON.plusHours(1), NOON.plusHours(2)));
+    }
+
+    @Test
+    public void findOverlapping_randomEvents_sameAsScan() {
+        Random random = new Random(2103);
+        List<Item> events = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Item event = generateEvent("event " + i, NOON.plusMinutes(random.nextInt(10000)),
+                    Duration.ofMinutes(random.nextInt(3) == 0 ? 0 : random.nextInt(600)));
+            events.add(event);
+            index.add(event);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            index.remove(events.get(i));
+        }
+        for (int i = 0; i < 50; i++) {
+            LocalDateTime from = NOON.plusMinutes(random.nextInt(10000));
+            LocalDateTime to = from.plusMinutes(random.nextInt(900));
+            List<Item> expected = new ArrayList<>();
+            for (int j = 0; j < events.size(); j++) {
+                Event event = events.get(j).getEvent().get();
+                if ((j >= 100 || j % 2 == 1)
+                        && EventIndex.overlaps(event.getStartDateTime(), event.getEndDateTime(), from, to)) {
+                    expected.add(events.get(j));
+                }
+            }
+            expected.sort(Comparator.comparing((Item item) -> item.getEvent().get().getStartDateTime())
+                    .thenComparingLong(Item::getId));
+            assertEquals(expected, index.findOverlapping(from, to));
+        }
+        assertEquals(250, index.size());
+    }
+
+    @Test
+    public void applyDelta_eventMoved_foundAtNewTime() {
+        Item meeting = generateEvent("meeting", NOON, Duration.ofHours(1));
+        index.applyDelta(ItemDelta.added(meeting));
+        Item moved = meeting.changeEvent(meeting.getEvent().get().changeStartDateTime(NOON.plusDays(1)));
+        index.applyDelta(ItemDelta.replaced(meeting, moved));
+        assertEquals(List.of(), index.findOverlapping(NOON, NOON.plusHours(1)));
+        assertEquals(List.of(moved), index.getItems());
+
+        index.applyDelta(ItemDelta.removed(moved));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void findConflicts_overlappingAndTouchingEvents_onlyOverlappingFound() {
+        Item meeting = generateEvent("meeting", NOON, Duration.ofHours(1));
+        Item lunch = generateEvent("lunch", NOON.plusMinutes(30), Duration.ofHours(1));
+        Item call = generateEvent("call", NOON.plusHours(1), Duration.ZERO);
+        index.add(meeting);
+        index.add(lunch);
+        index.add(call);
+        assertEquals(List.of(lunch), index.findConflicts(meeting, NOON.plusDays(28)));
+        // An event without a duration clashes with the events going on when it starts, and those starting with it
+        Item alarm = generateEvent("alarm", NOON.plusHours(1), Duration.ZERO);
+        assertEquals(List.of(lunch, call), index.findConflicts(alarm, NOON.plusDays(28)));
+    }
+
+    @Test
+    public void findConflicts_recurringEvents_laterOccurrencesChecked() {
+        Item weekly = generateEvent("weekly", NOON, Duration.ofHours(1), AutoReschedulePeriod.byWeek());
+        index.add(weekly);
+        Item inThreeWeeks = generateEvent("review", NOON.plusWeeks(3).plusMinutes(30), Duration.ofHours(1));
+        assertEquals(List.of(weekly), index.findConflicts(inThreeWeeks, NOON.plusWeeks(7)));
+        Item offHours = generateEvent("gym", NOON.plusWeeks(3).plusHours(2), Duration.ofHours(1));
+        assertEquals(List.of(), index.findConflicts(offHours, NOON.plusWeeks(7)));
+
+        // An event that recurs is checked at its own later occurrences, up to the given time
+        Item later = generateEvent("launch", NOON.plusDays(10), Duration.ofHours(1));
+        index.add(later);
+        Item daily = generateEvent("standup", NOON.minusDays(1), Duration.ofMinutes(15), AutoReschedulePeriod.byDay());
+        assertEquals(List.of(weekly, later), index.findConflicts(daily, NOON.plusDays(27)));
+        assertEquals(List.of(weekly), index.findConflicts(daily, NOON.plusDays(5)));
+    }
+
+    @Test
+    public void findFreeSlots_onceAndRecurringEvents_gapsBetweenThem() {
+        LocalDateTime day = NOON.plusWeeks(2);
+        index.add(generateEvent("weekly", NOON, Duration.ofHours(1), AutoReschedulePeriod.byWeek()));
+        index.add(generateEvent("early", day.minusHours(5), Duration.ofMinutes(90)));
+        index.add(generateEvent("meeting", day.minusHours(3), Duration.ofMinutes(90)));
+        index.add(generateEvent("lunch", day.plusMinutes(30), Duration.ofMinutes(90)));
+        index.add(generateEvent("call", day.plusHours(3), Duration.ZERO));
+
+        // The call has no duration but still splits the afternoon in two
+        assertEquals(List.of(new TimeSlot(day.minusMinutes(90), day),
+                new TimeSlot(day.plusHours(2), day.plusHours(3)),
+                new TimeSlot(day.plusHours(3), day.plusHours(6))),
+                index.findFreeSlots(day.minusHours(4), day.plusHours(6), Duration.ofHours(1)));
+        assertEquals(new TimeSlot(day.minusMinutes(210), day.minusHours(3)),
+                index.findFreeSlots(day.minusHours(4), day.plusHours(6), Duration.ofMinutes(30)).get(0));
+        assertEquals(List.of(), index.findFreeSlots(day, day.plusHours(2), Duration.ofMinutes(30)));
+    }
+
+    @Test
+    public void sort_withEventIndex_sameAsSort() {
+        List<Item> created = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            // The events come in pairs that start at the same time, which stay in list order when sorted
+            Item event = generateEvent("event " + i, NOON.minusHours(i / 2), Duration.ofHours(1));
+            created.add(event);
+            index.add(event);
+        }
+        EventList events = new EventList();
+        for (int i = created.size() - 1; i >= 0; i--) {
+            events.add(created.get(i));
+        }
+        events.remove(created.get(3));
+        assertEquals(events.sort(), events.sort(index));
+        assertEquals(created.get(5), events.sort(index).get(0));
+    }
+
+    private Item generateEvent(String description, LocalDateTime start, Duration duration) {
+        return new Item.ItemBuilder().setEvent(new Event(start, duration))
+                .setItemDescription(new ItemDescription(description))
+                .build();
+    }
+
+    private Item generateEvent(String description, LocalDateTime start, Duration duration,
+                               AutoReschedulePeriod period) {
+        return new Item.ItemBuilder().setEvent(new Event(start, duration, true, period))
+                .setItemDescription(new ItemDescription(description))
+                .build();
+    }
+}
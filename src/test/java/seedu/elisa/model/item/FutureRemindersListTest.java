@@ -0,0 +1,69 @@
+package seedu.elisa.model.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.ItemDescription;
+import seedu.elisa.commons.core.item.Reminder;
+
+public class FutureRemindersListTest {
+    private FutureRemindersList testList = new FutureRemindersList();
+
+    /**
+     * Helper function to easily create an item with a reminder
+     * @param value the description of the item
+     * @param hoursFromNow the number of hours from now that the reminder occurs
+     * @return an item with a reminder and the description.
+     */
+    private Item generateReminder(String value, int hoursFromNow) {
+        return new Item.ItemBuilder().setReminder(new Reminder(LocalDateTime.now().plusHours(hoursFromNow)))
+                .setItemDescription(new ItemDescription(value))
+                .build();
+    }
+
+    @Test
+    public void add_unsortedItems_keptInReminderOrder() {
+        Item later = generateReminder("later", 3);
+        Item earliest = generateReminder("earliest", 1);
+        Item middle = generateReminder("middle", 2);
+        testList.add(later);
+        testList.add(earliest);
+        testList.add(middle);
+        assertEquals(earliest, testList.get(0));
+        assertEquals(middle, testList.get(1));
+        assertEquals(later, testList.get(2));
+    }
+
+    @Test
+    public void applyDelta_reminderPostponed_itemMoved() {
+        Item first = generateReminder("first", 1);
+        Item second = generateReminder("second", 2);
+        testList.add(first);
+        testList.add(second);
+        Item postponed = first.changeReminder(new Reminder(LocalDateTime.now().plusHours(3)));
+        testList.applyDelta(ItemDelta.replaced(first, postponed));
+        assertEquals(2, testList.size());
+        assertEquals(second, testList.get(0));
+        assertEquals(postponed, testList.get(1));
+    }
+
+    @Test
+    public void applyDelta_pastReminder_notAdded() {
+        testList.applyDelta(ItemDelta.added(generateReminder("past", -1)));
+        assertTrue(testList.isEmpty());
+    }
+
+    @Test
+    public void applyDelta_itemRemoved_removedById() {
+        Item item = generateReminder("reminder", 1);
+        testList.add(item);
+        testList.applyDelta(ItemDelta.removed(item));
+        assertFalse(testList.contains(item));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.elisa.model.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.tag.Tag;
+import seedu.elisa.testutil.TypicalItems;
+
+public class TagIndexTest {
+    private TagIndex index = new TagIndex();
+    private Item work = generateTask("report", "work", "urgent");
+    private Item home = generateTask("laundry", "home");
+    private Item school = generateTask("essay", "school", "urgent");
+
+    @Test
+    public void matches_groupsAndExcludedTags_allChecked() {
+        TagQuery query = new TagQuery(List.of(List.of("work", "home", "school"), List.of("urgent")),
+                List.of("school"));
+        assertTrue(query.matches(work));
+        assertFalse(query.matches(home));
+        assertFalse(query.matches(school));
+    }
+
+    @Test
+    public void matches_tagNotOnAnyItemYet_stillFiltered() {
+        TagQuery query = new TagQuery(List.of(), List.of("holiday"));
+        assertFalse(query.matches(generateTask("trip", "holiday")));
+    }
+
+    @Test
+    public void findCandidates_smallestGroup_onlyItsItems() {
+        index.add(work);
+        index.add(home);
+        index.add(school);
+        TagQuery query = new TagQuery(List.of(List.of("urgent"), List.of("work")), List.of());
+        assertEquals(Set.of(work.getId()), index.findCandidates(query).get());
+        assertFalse(index.findCandidates(new TagQuery(List.of(), List.of("work"))).isPresent());
+    }
+
+    @Test
+    public void applyDelta_replacedAndRemoved_followsItems() {
+        index.applyDelta(ItemDelta.added(work));
+        Item retagged = work.changeTags(new HashSet<>(Set.of(new Tag("home"))));
+        index.applyDelta(ItemDelta.replaced(work, retagged));
+        TagQuery homeQuery = new TagQuery(List.of(List.of("home")), List.of());
+        assertEquals(Set.of(retagged.getId()), index.findCandidates(homeQuery).get());
+        assertTrue(index.findCandidates(new TagQuery(List.of(List.of("work")), List.of())).get().isEmpty());
+
+        index.applyDelta(ItemDelta.removed(retagged));
+        assertTrue(index.findCandidates(homeQuery).get().isEmpty());
+    }
+
+    private Item generateTask(String description, String... tagNames) {
+        HashSet<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName));
+        }
+        return TypicalItems.generateTask(description).changeTags(tags);
+    }
+}
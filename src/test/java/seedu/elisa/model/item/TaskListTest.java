@@ -2,13 +2,20 @@ package seedu.elisa.model.item;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.elisa.commons.core.item.Item;
 import seedu.elisa.commons.core.item.ItemDescription;
 import seedu.elisa.commons.core.item.Task;
+import seedu.elisa.commons.core.item.tag.Tag;
 import seedu.elisa.testutil.TypicalItems;
 
 public class TaskListTest {
@@ -42,6 +49,43 @@ public class TaskListTest {
         assertFalse(validTask == tempList.get(0));
     }
 
+    @Test
+    public void snapshot_originalChanged_snapshotUnchanged() {
+        Item task = generateTask("CS2101");
+        testList.add(validTask);
+        VisualizeList snapshot = testList.snapshot();
+        testList.add(task);
+        testList.remove(validTask);
+        assertEquals(1, snapshot.size());
+        assertEquals(validTask, snapshot.get(0));
+        assertFalse(snapshot.hasItem(task));
+        assertEquals(0, testList.indexOf(task));
+    }
+
+    @Test
+    public void snapshot_snapshotChanged_originalUnchanged() {
+        testList.add(validTask);
+        VisualizeList snapshot = testList.snapshot();
+        snapshot.add(generateTask("CS2101"));
+        assertEquals(1, testList.size());
+        assertEquals(2, snapshot.size());
+    }
+
+    @Test
+    public void copy_originalChanged_nothingShared() {
+        Item task = generateTask("CS2101");
+        testList.add(validTask);
+        VisualizeList copy = testList.copy();
+        assertNotSame(testList.getList(), copy.getList());
+
+        List<Item> backingList = testList.getList();
+        testList.add(0, task);
+        assertSame(backingList, testList.getList());
+        assertEquals(1, copy.size());
+        assertEquals(0, copy.indexOf(validTask));
+        assertEquals(1, testList.indexOf(validTask));
+    }
+
     @Test
     public void sort_returnNewList () {
         testList.add(validTask);
@@ -61,6 +105,28 @@ public class TaskListTest {
         return template;
     }
 
+    @Test
+    public void indexOf_editedVersionOfItem_foundById() {
+        Item task = generateTask("CS2101");
+        testList.add(generateTask("CS2103"));
+        testList.add(task);
+        Item editedTask = task.changeItemDescription(new ItemDescription("CS2101 PPP"));
+        assertEquals(1, testList.indexOf(editedTask));
+        assertTrue(testList.remove(editedTask));
+        assertFalse(testList.hasItem(task));
+    }
+
+    @Test
+    public void sort_itemsReordered_indicesUpdated() {
+        Item doneTask = generateTask("CS2101").changeTask(new Task(true));
+        Item task = generateTask("CS2103");
+        testList.add(doneTask);
+        testList.add(task);
+        VisualizeList sortedList = testList.sort();
+        assertEquals(0, sortedList.indexOf(task));
+        assertEquals(1, sortedList.indexOf(doneTask));
+    }
+
     @Test
     public void find_randomTaskList_findRelevantTasks() {
         String valueString = Double.toString(Math.random());
@@ -72,4 +138,56 @@ public class TaskListTest {
         testList.add(generateTask("CS2101 pitch"));
         assertEquals(3, testList.find(new String[] {"CS2101"}).size());
     }
+
+    @Test
+    public void find_withDescriptionIndex_sameAsScan() {
+        DescriptionIndex index = new DescriptionIndex();
+        for (String description : new String[] {"CS2101", "cs2103 PPP", "PPP prep", "demo", "CS2101 pitch"}) {
+            Item task = generateTask(description);
+            testList.add(task);
+            index.add(task);
+        }
+        for (String[] searchStrings : new String[][] {{"ppp", "CS2101"}, {"cs"}, {"2103 p"}, {"mo"}, {"none"}}) {
+            assertEquals(testList.find(searchStrings), testList.find(searchStrings, index));
+        }
+    }
+
+    @Test
+    public void findTagged_withTagIndex_sameAsScan() {
+        TagIndex index = new TagIndex();
+        String[][] tagNames = {{"work"}, {"work", "urgent"}, {}, {"home", "urgent"}, {"home"}};
+        for (int i = 0; i < tagNames.length; i++) {
+            HashSet<Tag> tags = new HashSet<>();
+            for (String tagName : tagNames[i]) {
+                tags.add(new Tag(tagName));
+            }
+            Item task = generateTask("task " + i).changeTags(tags);
+            testList.add(task);
+            index.add(task);
+        }
+        List<TagQuery> queries = List.of(new TagQuery(List.of(List.of("work", "home")), List.of("urgent")),
+                new TagQuery(List.of(List.of("urgent"), List.of("home")), List.of()),
+                new TagQuery(List.of(), List.of("work")));
+        for (TagQuery query : queries) {
+            assertEquals(testList.findTagged(query, null), testList.findTagged(query, index));
+        }
+        assertEquals(2, testList.findTagged(queries.get(0), index).size());
+    }
+
+    @Test
+    public void rank_pages_bestFirstWithTiesInListOrder() {
+        Item first = generateTask("first");
+        Item second = generateTask("second");
+        Item third = generateTask("third");
+        Item fourth = generateTask("fourth");
+        for (Item task : new Item[] {first, second, third, fourth}) {
+            testList.add(task);
+        }
+        ToDoubleFunction<Item> scorer = item -> item == third ? 2 : item == first ? 0 : 1;
+
+        assertEquals(List.of(third, second), testList.rank(scorer, 0, 2));
+        assertEquals(List.of(fourth, first), testList.rank(scorer, 2, 2));
+        assertEquals(List.of(), testList.rank(scorer, 4, 2));
+        assertEquals(4, testList.size());
+    }
 }
@@ -0,0 +1,156 @@
+package seedu.elisa.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.elisa.testutil.TypicalItems.generateTask;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.elisa.commons.core.FsyncPolicy;
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.model.ItemStorage;
+
+public class AsyncItemStorageSaverTest {
+
+    private static final long LONG_DELAY = 60000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void requestSave_burstOfSaves_writtenOnce() throws Exception {
+        CountingItemStorage itemListStorage = new CountingItemStorage(testFolder.resolve("data.json"));
+        AsyncItemStorageSaver saver = new AsyncItemStorageSaver(
+                new StorageManager(itemListStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))),
+                LONG_DELAY);
+        ItemStorage itemStorage = new ItemStorage();
+
+        for (int i = 0; i < 5; i++) {
+            itemStorage.add(generateTask("task " + i));
+            saver.requestSave(itemStorage.snapshotForSave());
+        }
+        saver.shutdown();
+
+        assertEquals(1, itemListStorage.saveCount.get());
+        assertEquals(itemStorage, new JournaledItemStorage(testFolder.resolve("data.json")).toModelType());
+    }
+
+    @Test
+    public void requestSave_journaledChangesCoalesced_allChangesSaved() throws Exception {
+        JournaledItemStorage itemListStorage = new JournaledItemStorage(testFolder.resolve("data.json"));
+        AsyncItemStorageSaver saver = new AsyncItemStorageSaver(
+                new StorageManager(itemListStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))),
+                LONG_DELAY);
+        ItemStorage itemStorage = new ItemStorage();
+        saver.requestSave(itemStorage.snapshotForSave());
+        saver.flush();
+
+        Item first = generateTask("first");
+        itemStorage.add(first);
+        saver.requestSave(itemStorage.snapshotForSave());
+        itemStorage.add(generateTask("second"));
+        itemStorage.remove(first);
+        saver.requestSave(itemStorage.snapshotForSave());
+        saver.shutdown();
+
+        assertEquals(itemStorage, new JournaledItemStorage(testFolder.resolve("data.json")).toModelType());
+    }
+
+    @Test
+    public void flush_storageFails_failureReported() {
+        IOException failure = new IOException("disk full");
+        JsonItemStorage itemListStorage = new JsonItemStorage(testFolder.resolve("data.json")) {
+            @Override
+            public void saveItemStorage(ItemStorage itemStorage) throws IOException {
+                throw failure;
+            }
+        };
+        AsyncItemStorageSaver saver = new AsyncItemStorageSaver(
+                new StorageManager(itemListStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))),
+                LONG_DELAY);
+        AtomicReference<IOException> reported = new AtomicReference<>();
+        saver.setFailureHandler(reported::set);
+
+        saver.requestSave(new ItemStorage().snapshotForSave());
+        saver.shutdown();
+
+        assertSame(failure, reported.get());
+    }
+
+    @Test
+    public void flush_earlierWriteFailed_writtenAgain() throws Exception {
+        AtomicInteger failuresLeft = new AtomicInteger(1);
+        JournaledItemStorage itemListStorage = new JournaledItemStorage(testFolder.resolve("data.json")) {
+            @Override
+            public void saveItemStorage(ItemStorage itemStorage) throws IOException {
+                if (failuresLeft.getAndDecrement() > 0) {
+                    itemStorage.takeUnsavedChanges();
+                    throw new IOException("disk full");
+                }
+                super.saveItemStorage(itemStorage);
+            }
+        };
+        AsyncItemStorageSaver saver = new AsyncItemStorageSaver(
+                new StorageManager(itemListStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))),
+                LONG_DELAY);
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(generateTask("first"));
+        saver.requestSave(itemStorage.snapshotForSave());
+        saver.flush();
+        assertFalse(FileUtil.isFileExists(testFolder.resolve("data.json")));
+
+        saver.shutdown();
+        assertEquals(itemStorage, new JournaledItemStorage(testFolder.resolve("data.json")).toModelType());
+    }
+
+    @Test
+    public void flush_batchedWriteNotForced_forcedOnFlush() throws Exception {
+        AtomicInteger forceCount = new AtomicInteger();
+        JsonItemStorage itemListStorage = new JsonItemStorage(testFolder.resolve("data.json"),
+                FsyncPolicy.BATCHED, 0) {
+            @Override
+            public void forceItemStorage() throws IOException {
+                forceCount.incrementAndGet();
+                super.forceItemStorage();
+            }
+        };
+        AsyncItemStorageSaver saver = new AsyncItemStorageSaver(
+                new StorageManager(itemListStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))),
+                LONG_DELAY);
+        ItemStorage itemStorage = new ItemStorage();
+        saver.requestSave(itemStorage.snapshotForSave());
+        saver.flush();
+        assertEquals(1, forceCount.get());
+
+        itemStorage.add(generateTask("first"));
+        saver.requestSave(itemStorage.snapshotForSave());
+        saver.shutdown();
+        assertEquals(2, forceCount.get());
+        assertEquals(itemStorage, itemListStorage.toModelType());
+    }
+
+    /**
+     * A journaled storage that counts the number of times it is saved.
+     */
+    private static class CountingItemStorage extends JournaledItemStorage {
+        private final AtomicInteger saveCount = new AtomicInteger();
+
+        private CountingItemStorage(Path path) {
+            super(path);
+        }
+
+        @Override
+        public void saveItemStorage(ItemStorage itemStorage) throws IOException {
+            saveCount.incrementAndGet();
+            super.saveItemStorage(itemStorage);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.elisa.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.elisa.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.elisa.commons.core.item.Event;
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.ItemDescription;
+import seedu.elisa.commons.core.item.Priority;
+import seedu.elisa.commons.core.item.Reminder;
+import seedu.elisa.commons.core.item.Task;
+import seedu.elisa.commons.core.item.tag.Tag;
+import seedu.elisa.commons.exceptions.DataConversionException;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.model.AutoReschedulePeriod;
+import seedu.elisa.model.ItemStorage;
+import seedu.elisa.testutil.TypicalItems;
+
+public class BinaryItemStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private ItemStorage getItemStorage() {
+        ItemStorage itemStorage = TypicalItems.getTypicalItemList();
+        LocalDateTime dateTime = LocalDateTime.of(2019, 11, 2, 9, 30, 15, 123456789);
+        itemStorage.add(new Item.ItemBuilder()
+                .setItemDescription(new ItemDescription("Weekly meeting"))
+                .setEvent(new Event(dateTime, Duration.ofMinutes(90), true, AutoReschedulePeriod.byWeek()))
+                .setTags(Set.of(new Tag("work"), new Tag("school")))
+                .setItemPriority(Priority.HIGH)
+                .build());
+        itemStorage.add(new Item.ItemBuilder()
+                .setItemDescription(new ItemDescription("Old reminder"))
+                .setReminder(new Reminder(dateTime.minusYears(60)).changeOccurrenceDateTime(dateTime))
+                .setTags(Set.of(new Tag("work")))
+                .build());
+        itemStorage.add(new Item.ItemBuilder()
+                .setItemDescription(new ItemDescription("Done report"))
+                .setTask(new Task(true, dateTime))
+                .build());
+        return itemStorage;
+    }
+
+    @Test
+    public void saveItemStorage_allKindsOfItems_sameItemsLoaded() throws Exception {
+        BinaryItemStorage storage = new BinaryItemStorage(testFolder.resolve("data.bin"));
+        ItemStorage itemStorage = getItemStorage();
+        storage.saveItemStorage(itemStorage);
+        assertEquals(itemStorage, storage.toModelType());
+    }
+
+    @Test
+    public void saveItemStorage_convertedFromAndToJson_jsonUnchanged() throws Exception {
+        JsonItemStorage jsonStorage = new JsonItemStorage(testFolder.resolve("data.json"));
+        jsonStorage.saveItemStorage(getItemStorage());
+        BinaryItemStorage binaryStorage = new BinaryItemStorage(testFolder.resolve("data.bin"));
+
+        binaryStorage.saveItemStorage(jsonStorage.toModelType());
+        JsonItemStorage convertedStorage = new JsonItemStorage(testFolder.resolve("converted.json"));
+        convertedStorage.saveItemStorage(binaryStorage.toModelType());
+
+        assertEquals(FileUtil.readFromFile(jsonStorage.getItemListFilePath()),
+                FileUtil.readFromFile(convertedStorage.getItemListFilePath()));
+        assertTrue(Files.size(binaryStorage.getItemListFilePath()) * 4
+                < Files.size(jsonStorage.getItemListFilePath()));
+    }
+
+    @Test
+    public void toModelType_notBinaryFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        FileUtil.writeToFile(filePath, "[ ]   ");
+        assertThrows(DataConversionException.class, () -> new BinaryItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void toModelType_stringLongerThanFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        // Header, one tag, and a tag name length of 2^32 - 1 bytes
+        Files.write(filePath, new byte[] {0x45, 0x4c, 0x53, 0x42, 1, 1, -1, -1, -1, -1, 0x0f, 'a'});
+        assertThrows(DataConversionException.class, () -> new BinaryItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void toModelType_moreItemsThanFileHolds_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        // Header, no tags, and an item count of 2^32 - 1
+        Files.write(filePath, new byte[] {0x45, 0x4c, 0x53, 0x42, 1, 0, -1, -1, -1, -1, 0x0f, 1});
+        assertThrows(DataConversionException.class, () -> new BinaryItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void toBinaryFilePath_jsonFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "itemstorage.bin"),
+                BinaryItemStorage.toBinaryFilePath(Paths.get("data", "itemstorage.json")));
+    }
+}
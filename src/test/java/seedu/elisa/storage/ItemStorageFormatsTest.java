@@ -0,0 +1,67 @@
+package seedu.elisa.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.elisa.commons.core.StorageFormat;
+import seedu.elisa.commons.core.item.Task;
+import seedu.elisa.model.ItemStorage;
+import seedu.elisa.model.UserPrefs;
+import seedu.elisa.testutil.TypicalItems;
+
+public class ItemStorageFormatsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_formatSwitchedAndBack_changesConvertedBothWays() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setItemStorageFilePath(testFolder.resolve("data.json"));
+        ItemListStorage jsonStorage = ItemStorageFormats.open(userPrefs);
+        assertTrue(jsonStorage instanceof JournaledItemStorage);
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(TypicalItems.ITEM_WITH_TASK);
+        jsonStorage.saveItemStorage(itemStorage);
+
+        userPrefs.setStorageFormat(StorageFormat.BINARY);
+        ItemListStorage binaryStorage = ItemStorageFormats.open(userPrefs);
+        assertTrue(binaryStorage instanceof BinaryItemStorage);
+        ItemStorage converted = binaryStorage.toModelType();
+        assertEquals(itemStorage, converted);
+        converted.setItem(0, converted.get(0).changeTask(new Task(true)));
+        converted.add(TypicalItems.ITEM_WITH_EVENT);
+        binaryStorage.saveItemStorage(converted);
+
+        // The JSON data file from before the switch is out of date, so it is converted back from the binary file
+        userPrefs.setStorageFormat(StorageFormat.JSON);
+        assertEquals(converted, ItemStorageFormats.open(userPrefs).toModelType());
+        // Opening again in the same format converts nothing
+        assertEquals(converted, ItemStorageFormats.open(userPrefs).toModelType());
+    }
+
+    @Test
+    public void open_segmentedFilesOutOfDate_convertedFromJson() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setItemStorageFilePath(testFolder.resolve("data.json"));
+        userPrefs.setStorageFormat(StorageFormat.SEGMENTED);
+        ItemListStorage segmentedStorage = ItemStorageFormats.open(userPrefs);
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(TypicalItems.ITEM_WITH_TASK);
+        segmentedStorage.saveItemStorage(itemStorage);
+
+        userPrefs.setStorageFormat(StorageFormat.JSON);
+        ItemListStorage jsonStorage = ItemStorageFormats.open(userPrefs);
+        ItemStorage edited = jsonStorage.toModelType();
+        edited.add(TypicalItems.ITEM_WITH_REMINDER);
+        jsonStorage.saveItemStorage(edited);
+
+        userPrefs.setStorageFormat(StorageFormat.SEGMENTED);
+        assertEquals(edited, ItemStorageFormats.open(userPrefs).toModelType());
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.elisa.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.elisa.testutil.TypicalItems.generateTask;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.Task;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.model.ItemStorage;
+
+public class JournaledItemStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveItemStorage_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournaledItemStorage storage = new JournaledItemStorage(testFolder.resolve("data.json"));
+        ItemStorage itemStorage = new ItemStorage();
+        Item first = generateTask("first");
+        itemStorage.add(first);
+        storage.saveItemStorage(itemStorage);
+        String snapshot = FileUtil.readFromFile(storage.getItemListFilePath());
+
+        Item second = generateTask("second");
+        itemStorage.add(0, second);
+        itemStorage.setItem(1, first.changeTask(new Task(true)));
+        itemStorage.remove(second);
+        itemStorage.add(generateTask("third"));
+        storage.saveItemStorage(itemStorage);
+
+        assertEquals(snapshot, FileUtil.readFromFile(storage.getItemListFilePath()));
+        // A header for the snapshot, and a record for each change
+        assertEquals(5, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(itemStorage, new JournaledItemStorage(testFolder.resolve("data.json")).toModelType());
+    }
+
+    @Test
+    public void saveItemStorage_journalPastThreshold_compacted() throws Exception {
+        JournaledItemStorage storage = new JournaledItemStorage(testFolder.resolve("data.json"), 2);
+        ItemStorage itemStorage = new ItemStorage();
+        storage.saveItemStorage(itemStorage);
+        itemStorage.add(generateTask("first"));
+        itemStorage.add(generateTask("second"));
+        storage.saveItemStorage(itemStorage);
+        assertTrue(FileUtil.isFileExists(storage.getJournalFilePath()));
+
+        itemStorage.add(generateTask("third"));
+        storage.saveItemStorage(itemStorage);
+        assertFalse(FileUtil.isFileExists(storage.getJournalFilePath()));
+        assertEquals(itemStorage, new JsonItemStorage(storage.getItemListFilePath()).toModelType());
+    }
+
+    @Test
+    public void toModelType_journalOfOlderSnapshotLeftBehind_journalIgnored() throws Exception {
+        JournaledItemStorage storage = new JournaledItemStorage(testFolder.resolve("data.json"), 2);
+        ItemStorage itemStorage = new ItemStorage();
+        storage.saveItemStorage(itemStorage);
+        Item first = generateTask("first");
+        itemStorage.add(first);
+        itemStorage.setItem(0, first.changeTask(new Task(true)));
+        storage.saveItemStorage(itemStorage);
+        byte[] oldJournal = Files.readAllBytes(storage.getJournalFilePath());
+
+        itemStorage.setItem(0, first.changeTask(new Task(false)));
+        storage.saveItemStorage(itemStorage);
+        assertFalse(FileUtil.isFileExists(storage.getJournalFilePath()));
+
+        // The program stopped after the new snapshot was written, but before the old journal was deleted
+        Files.write(storage.getJournalFilePath(), oldJournal);
+        JournaledItemStorage reloadedStorage = new JournaledItemStorage(testFolder.resolve("data.json"), 2);
+        ItemStorage loaded = reloadedStorage.toModelType();
+        assertEquals(itemStorage, loaded);
+        assertFalse(loaded.get(0).getTask().get().isComplete());
+
+        loaded.add(generateTask("second"));
+        reloadedStorage.saveItemStorage(loaded);
+        assertEquals(loaded, new JournaledItemStorage(testFolder.resolve("data.json")).toModelType());
+    }
+
+    @Test
+    public void saveItemStorage_differentItemStorage_compacted() throws Exception {
+        JournaledItemStorage storage = new JournaledItemStorage(testFolder.resolve("data.json"));
+        ItemStorage itemStorage = new ItemStorage();
+        storage.saveItemStorage(itemStorage);
+        itemStorage.add(generateTask("first"));
+        storage.saveItemStorage(itemStorage);
+
+        ItemStorage clearedStorage = new ItemStorage();
+        storage.saveItemStorage(clearedStorage);
+        assertFalse(FileUtil.isFileExists(storage.getJournalFilePath()));
+        assertEquals(clearedStorage, storage.toModelType());
+    }
+
+    @Test
+    public void toModelType_truncatedJournal_replaysIntactRecords() throws Exception {
+        JournaledItemStorage storage = new JournaledItemStorage(testFolder.resolve("data.json"));
+        ItemStorage itemStorage = new ItemStorage();
+        storage.saveItemStorage(itemStorage);
+        itemStorage.add(generateTask("first"));
+        storage.saveItemStorage(itemStorage);
+        FileUtil.appendToFile(storage.getJournalFilePath(), "{\"op\":\"add\",\"ind");
+
+        ItemStorage loaded = new JournaledItemStorage(testFolder.resolve("data.json")).toModelType();
+        assertEquals(itemStorage, loaded);
+    }
+
+    @Test
+    public void saveItemStorage_dataFileWithoutIds_editKeptAfterReload() throws Exception {
+        Path dataFile = testFolder.resolve("data.json");
+        // Data files of older versions do not save the ids of the items
+        FileUtil.writeToFile(dataFile, "[" + toJsonWithoutId(generateTask("first")) + ","
+                + toJsonWithoutId(generateTask("second")) + "]");
+        JournaledItemStorage storage = new JournaledItemStorage(dataFile);
+        ItemStorage itemStorage = storage.toModelType();
+        itemStorage.setItem(0, itemStorage.get(0).changeTask(new Task(true)));
+        storage.saveItemStorage(itemStorage);
+
+        ItemStorage reloaded = new JournaledItemStorage(dataFile).toModelType();
+        assertEquals(itemStorage, reloaded);
+        assertTrue(reloaded.get(0).getTask().get().isComplete());
+    }
+
+    @Test
+    public void toModelType_recordForMissingItem_compactedOnNextSave() throws Exception {
+        JournaledItemStorage storage = new JournaledItemStorage(testFolder.resolve("data.json"));
+        ItemStorage itemStorage = new ItemStorage();
+        storage.saveItemStorage(itemStorage);
+        Item first = generateTask("first");
+        itemStorage.add(first);
+        storage.saveItemStorage(itemStorage);
+        FileUtil.appendToFile(storage.getJournalFilePath(), "{\"op\":\"remove\",\"id\":" + (first.getId() + 1) + "}"
+                + System.lineSeparator());
+
+        JournaledItemStorage reloadedStorage = new JournaledItemStorage(testFolder.resolve("data.json"));
+        ItemStorage loaded = reloadedStorage.toModelType();
+        assertEquals(itemStorage, loaded);
+        loaded.add(generateTask("second"));
+        reloadedStorage.saveItemStorage(loaded);
+        assertFalse(FileUtil.isFileExists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveItemStorage_otherPath_exportedAsJson() throws Exception {
+        JournaledItemStorage storage = new JournaledItemStorage(testFolder.resolve("data.json"));
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(generateTask("first"));
+        Path exportPath = testFolder.resolve("export.json");
+        storage.saveItemStorage(itemStorage, exportPath);
+        assertEquals(itemStorage, new JsonItemStorage(exportPath).toModelType());
+    }
+
+    private String toJsonWithoutId(Item item) throws Exception {
+        return item.toJson().replaceFirst("\"id\"\\s*:\\s*\\d+,", "");
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.elisa.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.testutil.TypicalItems;
+
+public class JsonItemArchiveTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readArchivedItems_noArchive_empty() throws Exception {
+        assertTrue(new JsonItemArchive(testFolder.resolve("data.json.archive")).readArchivedItems().isEmpty());
+    }
+
+    @Test
+    public void archive_itemsArchivedInTwoBatches_allReadInOrder() throws Exception {
+        JsonItemArchive archive = new JsonItemArchive(testFolder.resolve("data.json.archive"));
+        List<Item> items = TypicalItems.getTypicalItems();
+        archive.archive(items.subList(0, 2));
+        archive.archive(items.subList(2, items.size()));
+        assertEquals(items, archive.readArchivedItems());
+    }
+
+    @Test
+    public void unarchive_archivedItem_removedFromArchive() throws Exception {
+        JsonItemArchive archive = new JsonItemArchive(testFolder.resolve("data.json.archive"));
+        List<Item> items = TypicalItems.getTypicalItems();
+        archive.archive(items);
+
+        assertTrue(archive.unarchive(items.get(0)));
+        assertFalse(archive.unarchive(items.get(0)));
+        assertEquals(items.subList(1, items.size()), archive.readArchivedItems());
+    }
+
+    @Test
+    public void readArchivedItems_mostItemsUnarchived_fileCompacted() throws Exception {
+        Path filePath = testFolder.resolve("data.json.archive");
+        JsonItemArchive archive = new JsonItemArchive(filePath);
+        List<Item> items = TypicalItems.getTypicalItems();
+        archive.archive(items);
+        for (Item item : items.subList(1, items.size())) {
+            archive.unarchive(item);
+        }
+
+        assertEquals(List.of(items.get(0)), archive.readArchivedItems());
+        assertEquals(1, Files.readAllLines(filePath).size());
+    }
+
+    @Test
+    public void readArchivedItems_recordCutOff_recordSkipped() throws Exception {
+        Path filePath = testFolder.resolve("data.json.archive");
+        JsonItemArchive archive = new JsonItemArchive(filePath);
+        archive.archive(List.of(TypicalItems.ITEM_WITH_TASK));
+        FileUtil.appendToFile(filePath, "{\"op\": \"add\", \"item\": {\"itemDesc");
+        assertEquals(List.of(TypicalItems.ITEM_WITH_TASK), archive.readArchivedItems());
+    }
+
+    @Test
+    public void toArchiveFilePath_dataFile_suffixAdded() {
+        assertEquals(Paths.get("data", "itemstorage.json.archive"),
+                JsonItemArchive.toArchiveFilePath(Paths.get("data", "itemstorage.json")));
+    }
+}
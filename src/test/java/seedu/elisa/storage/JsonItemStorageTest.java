@@ -0,0 +1,77 @@
+package seedu.elisa.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.elisa.testutil.TypicalItems.generateTask;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.elisa.commons.core.FsyncPolicy;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.model.ItemStorage;
+
+public class JsonItemStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveItemStorage_savedSeveralTimes_oldestBackupDropped() throws Exception {
+        JsonItemStorage storage = new JsonItemStorage(testFolder.resolve("data.json"), FsyncPolicy.NEVER, 2);
+        ItemStorage itemStorage = new ItemStorage();
+        for (int i = 0; i < 4; i++) {
+            itemStorage.add(generateTask("task " + i));
+            storage.saveItemStorage(itemStorage);
+        }
+
+        assertEquals(4, storage.toModelType().size());
+        assertEquals(3, new JsonItemStorage(storage.getBackupFilePath(1)).toModelType().size());
+        assertEquals(2, new JsonItemStorage(storage.getBackupFilePath(2)).toModelType().size());
+        assertFalse(FileUtil.isFileExists(storage.getBackupFilePath(3)));
+        assertFalse(FileUtil.isFileExists(testFolder.resolve("data.json.tmp")));
+    }
+
+    @Test
+    public void saveItemStorage_forcedSave_dataFileKeptUntilReplaced() throws Exception {
+        JsonItemStorage storage = new JsonItemStorage(testFolder.resolve("data.json"), FsyncPolicy.ALWAYS, 1);
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(generateTask("first"));
+        storage.saveItemStorage(itemStorage);
+        itemStorage.add(generateTask("second"));
+        storage.saveItemStorage(itemStorage);
+
+        // The newest backup is a second name for the replaced data file, which the new data file does not change
+        assertEquals(2, storage.toModelType().size());
+        assertEquals(1, new JsonItemStorage(storage.getBackupFilePath(1)).toModelType().size());
+    }
+
+    @Test
+    public void toModelType_dataFileCorrupted_newestValidBackupUsed() throws Exception {
+        JsonItemStorage storage = new JsonItemStorage(testFolder.resolve("data.json"), FsyncPolicy.ALWAYS, 2);
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(generateTask("first"));
+        storage.saveItemStorage(itemStorage);
+        ItemStorage expectedItemStorage = itemStorage.snapshot();
+        itemStorage.add(generateTask("second"));
+        storage.saveItemStorage(itemStorage);
+        storage.saveItemStorage(itemStorage);
+
+        FileUtil.writeToFile(storage.getItemListFilePath(), "");
+        FileUtil.writeToFile(storage.getBackupFilePath(1), "[{\"id\":");
+
+        assertEquals(expectedItemStorage, storage.toModelType());
+    }
+
+    @Test
+    public void hasSaveFile_onlyBackupExists_returnsTrue() throws Exception {
+        JsonItemStorage storage = new JsonItemStorage(testFolder.resolve("data.json"), FsyncPolicy.BATCHED, 1);
+        assertFalse(storage.hasSaveFile());
+
+        FileUtil.writeToFile(storage.getBackupFilePath(1), "[]");
+        assertTrue(storage.hasSaveFile());
+    }
+}
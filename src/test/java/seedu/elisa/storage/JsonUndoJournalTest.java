@@ -0,0 +1,87 @@
+package seedu.elisa.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.elisa.commons.core.item.ItemDescription;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.model.UndoJournal.Entry;
+import seedu.elisa.model.UndoJournal.Operation;
+import seedu.elisa.model.UndoRecord;
+import seedu.elisa.testutil.TypicalItems;
+
+public class JsonUndoJournalTest {
+
+    private static final UndoRecord ADDED = UndoRecord.added("task", TypicalItems.ITEM_WITH_TASK);
+    private static final UndoRecord DELETED = UndoRecord.deleted("delete", TypicalItems.ITEM_WITH_EVENT);
+    private static final UndoRecord REPLACED = UndoRecord.replaced("edit", TypicalItems.ITEM_WITH_REMINDER,
+            TypicalItems.ITEM_WITH_REMINDER.changeItemDescription(new ItemDescription("Edited")));
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_appendedOperations_sameOperationsRead() throws Exception {
+        JsonUndoJournal journal = new JsonUndoJournal(testFolder.resolve("data.json.undo"));
+        journal.append(Operation.PUSH, ADDED);
+        journal.append(Operation.PUSH, DELETED);
+        journal.append(Operation.UNDO, null);
+        journal.append(Operation.PUSH, REPLACED);
+
+        List<Entry> entries = new JsonUndoJournal(journal.getUndoFilePath()).read(journal.getLength());
+        assertEquals(4, entries.size());
+        assertEquals(ADDED, entries.get(0).getRecord());
+        assertEquals(DELETED, entries.get(1).getRecord());
+        assertEquals(Operation.UNDO, entries.get(2).getOperation());
+        assertNull(entries.get(2).getRecord());
+        assertEquals(REPLACED, entries.get(3).getRecord());
+    }
+
+    @Test
+    public void read_lengthBeforeLaterOperations_laterOperationsLeftOut() throws Exception {
+        JsonUndoJournal journal = new JsonUndoJournal(testFolder.resolve("data.json.undo"));
+        journal.append(Operation.PUSH, ADDED);
+        long length = journal.getLength();
+        journal.append(Operation.PUSH, DELETED);
+
+        assertEquals(1, journal.read(length).size());
+    }
+
+    @Test
+    public void append_lastLineCutOff_cutOffLineSkipped() throws Exception {
+        Path filePath = testFolder.resolve("data.json.undo");
+        new JsonUndoJournal(filePath).append(Operation.PUSH, ADDED);
+        FileUtil.appendToFile(filePath, "{\"op\": \"PUSH\", \"kind\": \"ADD");
+
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.append(Operation.PUSH, DELETED);
+        List<Entry> entries = journal.read(journal.getLength());
+        assertEquals(2, entries.size());
+        assertEquals(DELETED, entries.get(1).getRecord());
+    }
+
+    @Test
+    public void rewrite_undoAndRedoRecords_readBackInStackOrder() throws Exception {
+        JsonUndoJournal journal = new JsonUndoJournal(testFolder.resolve("data.json.undo"));
+        journal.rewrite(List.of(ADDED), List.of(REPLACED, DELETED));
+
+        List<Entry> entries = journal.read(journal.getLength());
+        assertEquals(List.of(Operation.PUSH, Operation.PUSH, Operation.PUSH, Operation.UNDO, Operation.UNDO),
+                entries.stream().map(Entry::getOperation).collect(Collectors.toList()));
+        assertEquals(DELETED, entries.get(2).getRecord());
+    }
+
+    @Test
+    public void toUndoFilePath_dataFile_suffixAdded() {
+        assertEquals(Paths.get("data", "itemstorage.json.undo"),
+                JsonUndoJournal.toUndoFilePath(Paths.get("data", "itemstorage.json")));
+    }
+}
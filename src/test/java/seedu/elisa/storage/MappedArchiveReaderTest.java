@@ -0,0 +1,117 @@
+package seedu.elisa.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.elisa.commons.core.item.Event;
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.ItemDescription;
+import seedu.elisa.commons.core.item.Task;
+import seedu.elisa.testutil.TypicalItems;
+
+public class MappedArchiveReaderTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2019, 11, 2, 9, 30);
+
+    @TempDir
+    public Path testFolder;
+
+    private Item generateCompletedTask(String description) {
+        return TypicalItems.generateTask(description).changeTask(new Task(true));
+    }
+
+    private Item generateEvent(String description) {
+        return new Item.ItemBuilder().setEvent(new Event(START, Duration.ofHours(2)))
+                .setItemDescription(new ItemDescription(description))
+                .build();
+    }
+
+    @Test
+    public void find_keywordsInAnyCase_matchingItemsInArchiveOrder() throws Exception {
+        JsonItemArchive archive = new JsonItemArchive(testFolder.resolve("data.json.archive"));
+        List<Item> items = List.of(generateCompletedTask("Write Report"), generateEvent("CS2103 lecture"),
+                generateCompletedTask("Buy milk"), generateEvent("Report review"), generateCompletedTask("Déjà vu"));
+        archive.archive(items);
+        archive.unarchive(items.get(3));
+
+        String[] searchStrings = {"report", "LECT", "DÉJÀ"};
+        assertEquals(List.of(items.get(0), items.get(1), items.get(4)), archive.findArchivedItems(searchStrings));
+    }
+
+    @Test
+    public void open_archiveChangedAfterIndexBuilt_indexRebuilt() throws Exception {
+        JsonItemArchive archive = new JsonItemArchive(testFolder.resolve("data.json.archive"));
+        archive.archive(List.of(generateCompletedTask("first")));
+        assertEquals(1, archive.findArchivedItems(new String[] {"first"}).size());
+
+        Item second = generateCompletedTask("first again");
+        archive.archive(List.of(second));
+        assertEquals(2, archive.findArchivedItems(new String[] {"first"}).size());
+        assertTrue(archive.findArchivedItems(new String[] {"none"}).isEmpty());
+    }
+
+    @Test
+    public void find_recordsArchivedSinceLastSearch_onlyTheirEntriesAppended() throws Exception {
+        JsonItemArchive archive = new JsonItemArchive(testFolder.resolve("data.json.archive"));
+        Item first = generateCompletedTask("first");
+        archive.archive(List.of(first));
+        archive.findArchivedItems(new String[] {"first"});
+        byte[] indexBefore = Files.readAllBytes(archive.getIndexFilePath());
+
+        Item second = generateCompletedTask("first again");
+        archive.archive(List.of(second));
+        archive.unarchive(first);
+        assertEquals(List.of(second), archive.findArchivedItems(new String[] {"first"}));
+
+        // Everything but the header, which records how much of the archive is indexed, is kept as it was
+        byte[] indexAfter = Files.readAllBytes(archive.getIndexFilePath());
+        assertTrue(indexAfter.length > indexBefore.length);
+        assertTrue(Arrays.equals(indexBefore, 32, indexBefore.length, indexAfter, 32, indexBefore.length));
+    }
+
+    @Test
+    public void find_archiveCompacted_indexRebuilt() throws Exception {
+        JsonItemArchive archive = new JsonItemArchive(testFolder.resolve("data.json.archive"));
+        List<Item> items = List.of(generateCompletedTask("report one"), generateCompletedTask("report two"),
+                generateCompletedTask("report three"));
+        archive.archive(items);
+        assertEquals(items, archive.findArchivedItems(new String[] {"report"}));
+
+        archive.unarchive(items.get(0));
+        archive.unarchive(items.get(1));
+        long lengthBefore = Files.size(archive.getArchiveFilePath());
+        assertEquals(List.of(items.get(2)), archive.readArchivedItems());
+        assertTrue(Files.size(archive.getArchiveFilePath()) < lengthBefore);
+
+        archive.archive(List.of(items.get(0)));
+        assertEquals(List.of(items.get(2), items.get(0)), archive.findArchivedItems(new String[] {"report"}));
+        assertEquals(List.of(items.get(2), items.get(0)), new JsonItemArchive(archive.getArchiveFilePath())
+                .findArchivedItems(new String[] {"report"}));
+    }
+
+    @Test
+    public void open_archivedItems_headersHoldKindAndTimes() throws Exception {
+        JsonItemArchive archive = new JsonItemArchive(testFolder.resolve("data.json.archive"));
+        archive.archive(List.of(generateCompletedTask("task"), generateEvent("event")));
+        MappedArchiveReader reader = MappedArchiveReader.open(archive.getArchiveFilePath(),
+                archive.getIndexFilePath());
+
+        assertEquals(2, reader.getRecordCount());
+        assertEquals(MappedArchiveReader.KIND_TASK | MappedArchiveReader.KIND_COMPLETE, reader.getKind(0));
+        assertEquals(MappedArchiveReader.NO_EPOCH, reader.getStartEpoch(0));
+        assertEquals(MappedArchiveReader.KIND_EVENT, reader.getKind(1));
+        assertEquals(START.toEpochSecond(ZoneOffset.UTC), reader.getStartEpoch(1));
+        assertEquals(START.plusHours(2).toEpochSecond(ZoneOffset.UTC), reader.getEndEpoch(1));
+    }
+}
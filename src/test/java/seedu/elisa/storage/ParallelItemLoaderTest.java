@@ -0,0 +1,56 @@
+package seedu.elisa.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.elisa.testutil.Assert.assertThrows;
+import static seedu.elisa.testutil.TypicalItems.generateTask;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.exceptions.DataConversionException;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.model.ItemStorage;
+
+public class ParallelItemLoaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void load_manyChunks_sameAsSerialLoad() throws Exception {
+        List<String> records = new ArrayList<>();
+        Item duplicate = generateTask("duplicate");
+        records.add(duplicate.toJson());
+        for (int i = 0; i < ParallelItemLoader.RECORDS_PER_CHUNK * 3; i++) {
+            records.add(generateTask("task " + i).toJson());
+        }
+        records.add(ParallelItemLoader.RECORDS_PER_CHUNK, "{\"itemDescription\": {\"description\": \"bad\"},"
+                + " \"priority\": \"URGENT\", \"tags\": [], \"task\": {\"complete\": true}}");
+        records.add(duplicate.toJson());
+        Path filePath = testFolder.resolve("data.json");
+        FileUtil.writeToFile(filePath, "[" + String.join(",\n", records) + "]");
+
+        ItemStorage loaded = new ParallelItemLoader().load(filePath);
+        assertEquals(ItemStorage.fromJson(FileUtil.readFromFile(filePath)), loaded);
+        assertEquals(ParallelItemLoader.RECORDS_PER_CHUNK * 3 + 1, loaded.size());
+    }
+
+    @Test
+    public void load_emptyArray_emptyStorage() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        FileUtil.writeToFile(filePath, "[ ]");
+        assertEquals(0, new ParallelItemLoader().load(filePath).size());
+    }
+
+    @Test
+    public void load_itemMissingField_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        FileUtil.writeToFile(filePath, "[" + generateTask("first").toJson() + ", {\"priority\": \"LOW\"}]");
+        assertThrows(DataConversionException.class, () -> new ParallelItemLoader().load(filePath));
+    }
+}
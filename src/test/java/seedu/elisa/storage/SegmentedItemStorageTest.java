@@ -0,0 +1,146 @@
+package seedu.elisa.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.elisa.commons.core.FsyncPolicy;
+import seedu.elisa.commons.core.item.Event;
+import seedu.elisa.commons.core.item.Item;
+import seedu.elisa.commons.core.item.ItemDescription;
+import seedu.elisa.commons.core.item.Reminder;
+import seedu.elisa.commons.core.item.Task;
+import seedu.elisa.commons.util.FileUtil;
+import seedu.elisa.model.ItemStorage;
+
+public class SegmentedItemStorageTest {
+
+    private static final LocalDateTime NOVEMBER = LocalDateTime.of(2019, 11, 2, 9, 30);
+    private static final LocalDateTime DECEMBER = LocalDateTime.of(2019, 12, 5, 14, 0);
+
+    @TempDir
+    public Path testFolder;
+
+    private Item generateEvent(String description, LocalDateTime startDateTime) {
+        return new Item.ItemBuilder()
+                .setItemDescription(new ItemDescription(description))
+                .setEvent(new Event(startDateTime, Duration.ofHours(1)))
+                .build();
+    }
+
+    private ItemStorage getItemStorage() {
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(generateEvent("November event", NOVEMBER));
+        itemStorage.add(generateEvent("December event", DECEMBER));
+        itemStorage.add(new Item.ItemBuilder()
+                .setItemDescription(new ItemDescription("November reminder"))
+                .setReminder(new Reminder(NOVEMBER))
+                .build());
+        itemStorage.add(new Item.ItemBuilder()
+                .setItemDescription(new ItemDescription("Task"))
+                .setTask(new Task(false))
+                .build());
+        return itemStorage;
+    }
+
+    @Test
+    public void saveItemStorage_itemsOfDifferentKindsAndMonths_sameItemsLoaded() throws Exception {
+        SegmentedItemStorage storage = new SegmentedItemStorage(testFolder.resolve("data"));
+        ItemStorage itemStorage = getItemStorage();
+        storage.saveItemStorage(itemStorage);
+
+        assertEquals(itemStorage, new SegmentedItemStorage(testFolder.resolve("data")).toModelType());
+        List<String> segmentNames = storage.readSegmentNames();
+        assertEquals(4, segmentNames.size());
+        assertTrue(segmentNames.contains("event-2019-11"));
+        assertTrue(segmentNames.contains("event-2019-12"));
+        assertTrue(segmentNames.contains("reminder-2019-11"));
+    }
+
+    @Test
+    public void saveItemStorage_oneItemChanged_onlyItsSegmentRewritten() throws Exception {
+        SegmentedItemStorage storage = new SegmentedItemStorage(testFolder.resolve("data"));
+        ItemStorage itemStorage = getItemStorage();
+        storage.saveItemStorage(itemStorage);
+        Path unchangedSegment = storage.getSegmentFilePath("event-2019-11").get();
+        FileTime stamp = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(unchangedSegment, stamp);
+
+        Item decemberEvent = itemStorage.get(1);
+        itemStorage.setItem(1, decemberEvent.changeItemDescription(new ItemDescription("Renamed")));
+        storage.saveItemStorage(itemStorage.snapshotForSave());
+
+        assertEquals(stamp, Files.getLastModifiedTime(unchangedSegment));
+        assertEquals("Renamed", storage.loadSegment("event-2019-12").get(0).getItemDescription().getDescription());
+        assertEquals(itemStorage, storage.toModelType());
+    }
+
+    @Test
+    public void saveItemStorage_eventMovedToAnotherMonth_emptySegmentDeleted() throws Exception {
+        SegmentedItemStorage storage = new SegmentedItemStorage(testFolder.resolve("data"));
+        ItemStorage itemStorage = getItemStorage();
+        storage.saveItemStorage(itemStorage);
+        Path novemberSegment = storage.getSegmentFilePath("event-2019-11").get();
+
+        Item novemberEvent = itemStorage.get(0);
+        itemStorage.setItem(0, novemberEvent.changeEvent(novemberEvent.getEvent().get().changeStartDateTime(DECEMBER)));
+        storage.saveItemStorage(itemStorage);
+        storage.forceItemStorage();
+
+        assertFalse(Files.exists(novemberSegment));
+        assertTrue(storage.getSegmentFilePath("event-2019-11").isEmpty());
+        assertFalse(storage.readSegmentNames().contains("event-2019-11"));
+        assertEquals(2, storage.loadSegment("event-2019-12").size());
+        assertEquals(itemStorage, new SegmentedItemStorage(testFolder.resolve("data")).toModelType());
+    }
+
+    @Test
+    public void saveItemStorage_itemInsertedBeforeOlderItems_savedOrderLoaded() throws Exception {
+        SegmentedItemStorage storage = new SegmentedItemStorage(testFolder.resolve("data"));
+        ItemStorage itemStorage = getItemStorage();
+        storage.saveItemStorage(itemStorage);
+
+        Item decemberEvent = itemStorage.get(1);
+        itemStorage.remove(decemberEvent);
+        itemStorage.add(0, decemberEvent);
+        itemStorage.add(1, generateEvent("Inserted event", NOVEMBER));
+        storage.saveItemStorage(itemStorage.snapshotForSave());
+
+        assertEquals(itemStorage, new SegmentedItemStorage(testFolder.resolve("data")).toModelType());
+    }
+
+    @Test
+    public void toModelType_saveStoppedBeforeManifest_lastSaveLoaded() throws Exception {
+        SegmentedItemStorage storage = new SegmentedItemStorage(testFolder.resolve("data"), FsyncPolicy.NEVER);
+        ItemStorage itemStorage = getItemStorage();
+        storage.saveItemStorage(itemStorage);
+        ItemStorage savedItemStorage = itemStorage.snapshot();
+        Path manifest = storage.getItemListFilePath();
+        String savedManifest = FileUtil.readFromFile(manifest);
+
+        // The segments of the next save are written, but the manifest is left as it was
+        Item novemberEvent = itemStorage.get(0);
+        itemStorage.setItem(0, novemberEvent.changeEvent(novemberEvent.getEvent().get().changeStartDateTime(DECEMBER)));
+        storage.saveItemStorage(itemStorage);
+        FileUtil.writeToFile(manifest, savedManifest);
+
+        assertEquals(savedItemStorage, new SegmentedItemStorage(testFolder.resolve("data")).toModelType());
+    }
+
+    @Test
+    public void toSegmentDirectory_jsonFile_extensionRemoved() {
+        assertEquals(Paths.get("data", "itemstorage"),
+                SegmentedItemStorage.toSegmentDirectory(Paths.get("data", "itemstorage.json")));
+    }
+}
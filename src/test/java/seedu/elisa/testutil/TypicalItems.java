@@ -85,6 +85,15 @@ public class TypicalItems {
         return itemStorage;
     }
 
+    /**
+     * Returns a new item with a task that is not done, and the given description.
+     */
+    public static Item generateTask(String description) {
+        return new Item.ItemBuilder().setTask(new Task(false))
+                .setItemDescription(new ItemDescription(description))
+                .build();
+    }
+
     public static List<Item> getTypicalItems() {
         return new ArrayList<>(Arrays.asList(HOMEWORK, EXAM));
     }